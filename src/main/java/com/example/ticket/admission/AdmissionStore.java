@@ -0,0 +1,38 @@
+package com.example.ticket.admission;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 이벤트별 대기열 상태 저장소. 순번은 1부터 발급되고, admittedThrough 이하 순번이 입장 상태다.
+ * 기본은 노드 메모리(InMemoryAdmissionStore). 여러 노드가 같은 대기열을 써야 하면 공유 저장소 구현을 빈으로 등록한다.
+ */
+public interface AdmissionStore {
+
+    /**
+     * 이 대기열 상태의 세대 id. 상태가 초기화되면(재시작 등) 바뀌고, 다른 세대에서 발급된 토큰은 거절된다.
+     * 토큰 payload에 들어가므로 '.'을 포함하지 않는다.
+     */
+    String epoch();
+
+    /**
+     * 같은 유저가 다시 들어오면 기존 순번을 돌려준다(새로고침으로 새치기/후퇴 없음). now는 마지막 입장 요청 시각으로 남는다.
+     */
+    long enqueue(long eventId, long userId, Instant now);
+
+    long tail(long eventId);
+
+    long admittedThrough(long eventId);
+
+    /**
+     * 입장 순번을 count만큼 올린다(tail을 넘지 않음). 갱신 후 admittedThrough.
+     */
+    long admit(long eventId, long count);
+
+    /**
+     * 이미 입장했고 seenBefore 이후 다시 들어오지 않은 유저의 순번 기록을 지운다. 대기 중인 유저는 남긴다.
+     */
+    void expire(Instant seenBefore);
+
+    Set<Long> eventIds();
+}
@@ -0,0 +1,10 @@
+package com.example.ticket.admission;
+
+import java.time.Instant;
+
+/**
+ * 대기열 토큰 내용. 서명(AdmissionTokenCodec)으로 위조를 막고, 순번은 서버의 admittedThrough와 비교한다.
+ * epoch는 발급한 대기열 상태의 세대(AdmissionStore.epoch)라 상태가 초기화되면 예전 토큰이 통하지 않는다.
+ */
+public record AdmissionToken(String epoch, long eventId, long userId, long sequence, Instant issuedAt) {
+}
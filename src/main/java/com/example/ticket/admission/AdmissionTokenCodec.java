@@ -0,0 +1,82 @@
+package com.example.ticket.admission;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * "{epoch}.{eventId}.{userId}.{sequence}.{issuedAtEpochSecond}" 를 HMAC-SHA256으로 서명한 토큰.
+ * 형식: base64url(payload) + "." + base64url(signature). 서버 상태 없이 검증된다.
+ */
+public final class AdmissionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    public AdmissionTokenCodec(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("admission secret is required");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String encode(AdmissionToken token) {
+        if (token.epoch().isEmpty() || token.epoch().indexOf('.') >= 0) {
+            throw new IllegalArgumentException("invalid admission epoch: " + token.epoch());
+        }
+        byte[] payload = (token.epoch() + "." + token.eventId() + "." + token.userId() + "." + token.sequence()
+                + "." + token.issuedAt().getEpochSecond()).getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * 형식이 틀리거나 서명이 맞지 않으면 empty.
+     */
+    public Optional<AdmissionToken> decode(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+            String[] parts = new String(payload, StandardCharsets.UTF_8).split("\\.");
+            if (parts.length != 5) {
+                return Optional.empty();
+            }
+            return Optional.of(new AdmissionToken(
+                    parts[0],
+                    Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]),
+                    Long.parseLong(parts[3]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[4]))
+            ));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.ticket.admission;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 노드용 대기열 상태. 재시작하면 대기열이 초기화되고 epoch가 바뀐다(발급된 토큰은 거절되어 다시 줄을 서게 됨).
+ * 유저별 순번 기록은 입장 후 expire 기준 시각까지 다시 들어오지 않으면 지워진다.
+ */
+public class InMemoryAdmissionStore implements AdmissionStore {
+
+    private final String epoch = UUID.randomUUID().toString().replace("-", "");
+    private final ConcurrentHashMap<Long, EventQueue> queues = new ConcurrentHashMap<>();
+
+    @Override
+    public String epoch() {
+        return epoch;
+    }
+
+    @Override
+    public long enqueue(long eventId, long userId, Instant now) {
+        EventQueue queue = queue(eventId);
+        return queue.entries.compute(userId, (u, cur) -> cur == null
+                ? new Entry(queue.tail.incrementAndGet(), now)
+                : new Entry(cur.sequence(), now)).sequence();
+    }
+
+    @Override
+    public long tail(long eventId) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? 0 : queue.tail.get();
+    }
+
+    @Override
+    public long admittedThrough(long eventId) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? 0 : queue.admitted.get();
+    }
+
+    @Override
+    public long admit(long eventId, long count) {
+        EventQueue queue = queue(eventId);
+        return queue.admitted.updateAndGet(cur -> Math.min(queue.tail.get(), cur + count));
+    }
+
+    @Override
+    public void expire(Instant seenBefore) {
+        for (EventQueue queue : queues.values()) {
+            long admitted = queue.admitted.get();
+            // 값 비교 후 삭제라 그 사이 다시 들어온 유저(lastSeen 갱신)는 지워지지 않는다
+            queue.entries.values().removeIf(entry ->
+                    entry.sequence() <= admitted && entry.lastSeen().isBefore(seenBefore));
+        }
+    }
+
+    @Override
+    public Set<Long> eventIds() {
+        return queues.keySet();
+    }
+
+    private EventQueue queue(long eventId) {
+        return queues.computeIfAbsent(eventId, id -> new EventQueue());
+    }
+
+    private record Entry(long sequence, Instant lastSeen) {
+    }
+
+    private static final class EventQueue {
+        private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicLong admitted = new AtomicLong();
+    }
+}
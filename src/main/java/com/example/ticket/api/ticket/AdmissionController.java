@@ -0,0 +1,41 @@
+package com.example.ticket.api.ticket;
+
+import com.example.ticket.api.ticket.dto.AdmissionDto.QueueTicketResponse;
+import com.example.ticket.service.AdmissionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/events/{eventId}")
+@RequiredArgsConstructor
+public class AdmissionController {
+
+    public static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+    private final AdmissionService admissionService;
+
+    /**
+     * 대기열 입장(순번 + 서명 토큰 발급). 같은 유저는 같은 순번
+     * POST /api/events/{eventId}/queue
+     */
+    @PostMapping("/queue")
+    public QueueTicketResponse enterQueue(
+            @PathVariable long eventId,
+            @RequestHeader(HoldController.USER_ID_HEADER) long userId
+    ) {
+        return admissionService.enter(eventId, userId);
+    }
+
+    /**
+     * 대기 순번/예상 대기 시간 조회. admitted=true가 되면 X-Queue-Token으로 HOLD
+     * GET /api/events/{eventId}/queue
+     */
+    @GetMapping("/queue")
+    public QueueTicketResponse getQueueStatus(
+            @PathVariable long eventId,
+            @RequestHeader(HoldController.USER_ID_HEADER) long userId,
+            @RequestHeader(QUEUE_TOKEN_HEADER) String queueToken
+    ) {
+        return admissionService.status(eventId, userId, queueToken);
+    }
+}
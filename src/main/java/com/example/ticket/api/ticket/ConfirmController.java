@@ -2,6 +2,7 @@ package com.example.ticket.api.ticket;
 
 
 import com.example.ticket.api.ticket.dto.ConfirmDto.*;
+import com.example.ticket.service.ConcurrencyLimiter;
 import com.example.ticket.service.ConfirmService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ public class ConfirmController {
     public static final String USER_ID_HEADER = "X-User-Id";
 
     private final ConfirmService confirmService;
+    private final ConcurrencyLimiter concurrencyLimiter;
 
 
     /**
@@ -31,6 +33,7 @@ public class ConfirmController {
             @RequestHeader(USER_ID_HEADER) long userId,
             @Valid @RequestBody ConfirmRequest request
     ) {
-        return confirmService.confirm(userId, eventId, request);
+        return concurrencyLimiter.execute(ConcurrencyLimiter.CONFIRM, eventId,
+                () -> confirmService.confirm(userId, eventId, request));
     }
 }
\ No newline at end of file
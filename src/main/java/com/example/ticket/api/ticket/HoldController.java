@@ -1,7 +1,13 @@
 package com.example.ticket.api.ticket;
 
+import com.example.ticket.api.ticket.dto.HoldDto.BestAvailableHoldRequest;
+import com.example.ticket.api.ticket.dto.HoldDto.BestAvailableHoldResponse;
 import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateRequest;
 import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateResponse;
+import com.example.ticket.service.AdmissionService;
+import com.example.ticket.service.ConcurrencyLimiter;
+import com.example.ticket.service.HoldGroupCommitter;
+import com.example.ticket.service.HoldIdempotencyCache;
 import com.example.ticket.service.HoldService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +22,10 @@ public class HoldController {
     public static final String USER_ID_HEADER = "X-User-Id";
 
     private final HoldService holdService;
+    private final AdmissionService admissionService;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final HoldIdempotencyCache holdIdempotencyCache;
+    private final HoldGroupCommitter holdGroupCommitter;
 
 
     /**
@@ -25,15 +35,45 @@ public class HoldController {
      * Headers:
      * - Idempotency-Key (required)
      * - X-User-Id (temporary, until auth is implemented)
+     * - X-Queue-Token (대기열 사용 시 required, 입장된 토큰만 통과)
      */
     @PostMapping("/holds")
     public HoldCreateResponse createHold(
             @PathVariable long eventId,
             @RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
             @RequestHeader(USER_ID_HEADER) long userId,
+            @RequestHeader(value = AdmissionController.QUEUE_TOKEN_HEADER, required = false) String queueToken,
             @Valid @RequestBody HoldCreateRequest request
     ) {
+        admissionService.requireAdmitted(eventId, userId, queueToken);
+        return holdIdempotencyCache.execute(
+                userId, eventId, idempotencyKey, holdService.requestKeyOf(request), HoldCreateResponse.class,
+                () -> concurrencyLimiter.execute(ConcurrencyLimiter.HOLD, eventId,
+                        () -> holdGroupCommitter.enabled()
+                                ? holdService.holdGrouped(userId, eventId, request, idempotencyKey)
+                                : holdService.hold(userId, eventId, request, idempotencyKey)));
+    }
 
-        return holdService.hold(userId, eventId, request, idempotencyKey);
+    /**
+     * (3-2) 자동 배정 HOLD: zone에서 인접 count석을 서버가 골라 잡는다
+     * POST /api/events/{eventId}/holds/best-available
+     *
+     * Headers: (3-1)과 동일
+     */
+    @PostMapping("/holds/best-available")
+    public BestAvailableHoldResponse createBestAvailableHold(
+            @PathVariable long eventId,
+            @RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @RequestHeader(USER_ID_HEADER) long userId,
+            @RequestHeader(value = AdmissionController.QUEUE_TOKEN_HEADER, required = false) String queueToken,
+            @Valid @RequestBody BestAvailableHoldRequest request
+    ) {
+        admissionService.requireAdmitted(eventId, userId, queueToken);
+        return holdIdempotencyCache.execute(
+                userId, eventId, idempotencyKey, holdService.requestKeyOf(request), BestAvailableHoldResponse.class,
+                () -> concurrencyLimiter.execute(ConcurrencyLimiter.HOLD, eventId,
+                        () -> holdGroupCommitter.enabled()
+                                ? holdService.holdBestAvailableGrouped(userId, eventId, request, idempotencyKey)
+                                : holdService.holdBestAvailable(userId, eventId, request, idempotencyKey)));
     }
 }
@@ -1,27 +1,132 @@
 package com.example.ticket.api.ticket;
 
-import com.example.ticket.api.ticket.dto.SeatQueryDto.SeatListResponse;
+import com.example.ticket.api.ticket.dto.EncodedSeatMap;
+import com.example.ticket.api.ticket.dto.SeatQueryDto.SeatChangesResponse;
+import com.example.ticket.api.ticket.dto.SeatQueryDto.SeatLayoutResponse;
+import com.example.ticket.common.TraceIdFilter;
+import com.example.ticket.inventory.SeatStatusBitmap;
 import com.example.ticket.service.SeatService;
+import com.example.ticket.service.SeatStreamService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/events/{eventId}")
 @RequiredArgsConstructor
 public class SeatController {
 
+    static final String SEAT_MAP_VERSION_HEADER = "X-Seat-Map-Version";
+    static final String SEAT_LAYOUT_ID_HEADER = "X-Seat-Layout-Id";
+    static final String SEAT_COUNT_HEADER = "X-Seat-Count";
+
     private final SeatService seatService;
+    private final SeatStreamService seatStreamService;
 
     /**
-     * 좌석 목록 조회 ( 읽기 전용)
+     * 좌석 목록 조회 ( 읽기 전용, 메모리 스냅샷 AVAILABLE/HELD/SOLD + version)
      * GET /api/events/{eventId}/seats
+     * 미리 인코딩한 바이트를 직접 쓴다(ApiResponse 봉투 포함). If-None-Match가 같은 version이면 304, Accept-Encoding: gzip이면 gzip
      */
     @GetMapping("/seats")
-    public SeatListResponse getSeats(@PathVariable long eventId) {
-        return seatService.getSeats(eventId);
+    public void getSeats(
+            @PathVariable long eventId,
+            ServletWebRequest webRequest,
+            HttpServletResponse response
+    ) throws IOException {
+        EncodedSeatMap seatMap = seatService.getEncodedSeats(eventId);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (webRequest.checkNotModified(seatMap.etag())) {
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            seatMap.writeGzipTo(response.getOutputStream(), traceId(webRequest));
+        } else {
+            seatMap.writeTo(response.getOutputStream(), traceId(webRequest));
+        }
+    }
+
+    /**
+     * 정적 좌석 배치도(index → seatId/zoneCode/seatNo/price). ETag = layoutId, 좌석 구성이 바뀌기 전까지 304
+     * GET /api/events/{eventId}/seats/layout
+     */
+    @GetMapping("/seats/layout")
+    public ResponseEntity<SeatLayoutResponse> getSeatLayout(@PathVariable long eventId) {
+        SeatLayoutResponse layout = seatService.getSeatLayout(eventId);
+        return ResponseEntity.ok()
+                .eTag(layout.layoutId())
+                .cacheControl(CacheControl.noCache())
+                .body(layout);
+    }
+
+    /**
+     * 좌석 상태 비트맵(좌석당 2bit, 0=AVAILABLE 1=HELD 2=SOLD, layout 순서). application/octet-stream
+     * GET /api/events/{eventId}/seats/bitmap
+     */
+    @GetMapping(value = "/seats/bitmap", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getSeatBitmap(@PathVariable long eventId) {
+        SeatStatusBitmap bitmap = seatService.getSeatBitmap(eventId);
+        return ResponseEntity.ok()
+                .eTag(eventId + "-" + bitmap.version())
+                .header(SEAT_MAP_VERSION_HEADER, String.valueOf(bitmap.version()))
+                .header(SEAT_LAYOUT_ID_HEADER, bitmap.layoutId())
+                .header(SEAT_COUNT_HEADER, String.valueOf(bitmap.seatCount()))
+                .body(bitmap.bits());
     }
 
+    /**
+     * 좌석 상태 변경분 조회(폴링용)
+     * GET /api/events/{eventId}/seats/changes?sinceVersion=N
+     */
+    @GetMapping("/seats/changes")
+    public SeatChangesResponse getSeatChanges(@PathVariable long eventId, @RequestParam long sinceVersion) {
+        return seatService.getSeatChanges(eventId, sinceVersion);
+    }
+
+    /**
+     * 좌석 상태 변경 스트림(SSE). event: changes(delta) / reset(/seats 재조회), id = version
+     * GET /api/events/{eventId}/seats/stream
+     */
+    @GetMapping("/seats/stream")
+    public SseEmitter streamSeats(
+            @PathVariable long eventId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return seatStreamService.subscribe(eventId, lastEventId);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String traceId(ServletWebRequest webRequest) {
+        Object v = webRequest.getAttribute(TraceIdFilter.TRACE_ATTR, RequestAttributes.SCOPE_REQUEST);
+        return (v instanceof String s && !s.isBlank()) ? s : "NO_TRACE_ID";
+    }
 }
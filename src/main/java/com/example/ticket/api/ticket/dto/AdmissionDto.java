@@ -0,0 +1,20 @@
+package com.example.ticket.api.ticket.dto;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AdmissionDto {
+
+    /**
+     * position: 내 앞에 남은 인원(0이면 입장), estimatedWaitSeconds: 현재 입장 속도 기준 예상 대기
+     */
+    public record QueueTicketResponse(
+            long eventId,
+            String queueToken,
+            long position,
+            long estimatedWaitSeconds,
+            boolean admitted
+    ) {
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -50,6 +51,18 @@ public final class ConfirmDto {
                     items
             );
         }
+
+        /**
+         * 멱등 행에 저장해 둔 응답 그대로(결제/예매 항목 재조회 없음)
+         */
+        public static ConfirmResponse replay(ConfirmIdempotency confirmIdempotency) {
+            return from(
+                    confirmIdempotency,
+                    confirmIdempotency.getPaymentStatus(),
+                    confirmIdempotency.getTotalAmount(),
+                    BookingItemDto.decodeAll(confirmIdempotency.getItems())
+            );
+        }
     }
 
     public record BookingItemDto(
@@ -62,5 +75,33 @@ public final class ConfirmDto {
                     bookingItem.getPrice()
             );
         }
+
+        /**
+         * 멱등 행 저장용 compact 표현: "seatId:price,seatId:price"
+         */
+        public static String encodeAll(List<BookingItemDto> items) {
+            StringBuilder sb = new StringBuilder(items.size() * 16);
+            for (int i = 0; i < items.size(); i++) {
+                if (i > 0) sb.append(',');
+                sb.append(items.get(i).seatId()).append(':').append(items.get(i).price());
+            }
+            return sb.toString();
+        }
+
+        public static List<BookingItemDto> decodeAll(String encoded) {
+            if (encoded.isEmpty()) {
+                return List.of();
+            }
+            String[] parts = encoded.split(",");
+            List<BookingItemDto> items = new ArrayList<>(parts.length);
+            for (String part : parts) {
+                int colon = part.indexOf(':');
+                items.add(new BookingItemDto(
+                        Long.parseLong(part, 0, colon, 10),
+                        Long.parseLong(part, colon + 1, part.length(), 10)
+                ));
+            }
+            return List.copyOf(items);
+        }
     }
 }
\ No newline at end of file
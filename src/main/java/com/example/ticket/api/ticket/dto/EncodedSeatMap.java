@@ -0,0 +1,91 @@
+package com.example.ticket.api.ticket.dto;
+
+import com.example.ticket.common.SegmentedGzip;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 좌석 배치도 응답(ApiResponse 봉투 포함)을 스냅샷 version 단위로 미리 인코딩해 둔 바이트.
+ * - prefix는 {"data":...,"traceId": 까지. 요청마다 traceId 문자열과 } 만 덧붙인다
+ * - gzip prefix는 처음 gzip 요청 때 한 번만 압축
+ * - version이 바뀔 때만 새로 만든다(SeatService)
+ */
+public final class EncodedSeatMap {
+
+    private static final byte[] DATA_FIELD = "{\"data\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TRACE_ID_FIELD = ",\"traceId\":".getBytes(StandardCharsets.UTF_8);
+
+    private final long eventId;
+    private final long version;
+    private final byte[] prefix;
+    private volatile SegmentedGzip.Prefix gzipPrefix;
+
+    private EncodedSeatMap(long eventId, long version, byte[] prefix) {
+        this.eventId = eventId;
+        this.version = version;
+        this.prefix = prefix;
+    }
+
+    public static EncodedSeatMap encode(SeatQueryDto.SeatListResponse response, byte[] dataJson) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(dataJson.length + DATA_FIELD.length + TRACE_ID_FIELD.length);
+        out.writeBytes(DATA_FIELD);
+        out.writeBytes(dataJson);
+        out.writeBytes(TRACE_ID_FIELD);
+        return new EncodedSeatMap(response.eventId(), response.version(), out.toByteArray());
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * traceId만 요청마다 달라 바이트 단위로는 다르므로 weak ETag
+     */
+    public String etag() {
+        return "W/\"" + eventId + "-" + version + "\"";
+    }
+
+    public void writeTo(OutputStream out, String traceId) throws IOException {
+        out.write(prefix);
+        out.write(suffix(traceId));
+    }
+
+    public void writeGzipTo(OutputStream out, String traceId) throws IOException {
+        SegmentedGzip.write(out, gzipPrefix(), suffix(traceId));
+    }
+
+    private SegmentedGzip.Prefix gzipPrefix() {
+        SegmentedGzip.Prefix p = gzipPrefix;
+        if (p == null) {
+            synchronized (this) {
+                p = gzipPrefix;
+                if (p == null) {
+                    p = SegmentedGzip.compressPrefix(prefix);
+                    gzipPrefix = p;
+                }
+            }
+        }
+        return p;
+    }
+
+    /**
+     * "traceId"} — JSON 문자열 이스케이프(따옴표, 역슬래시, 제어 문자)
+     */
+    private static byte[] suffix(String traceId) {
+        StringBuilder sb = new StringBuilder(traceId.length() + 3).append('"');
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append("\"}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.ticket.api.ticket.dto;
 
+import com.example.ticket.domain.hold.UserEventHoldCounter;
 import com.example.ticket.domain.idempotency.HoldIdempotency;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,27 +18,76 @@ import java.util.UUID;
 public final class HoldDto {
 
 
+    /**
+     * alternatives: seatIds를 못 잡을 때 순서대로 시도할 대체 좌석 묶음(최대 2개, seatIds와 같은 좌석 수)
+     */
     public record HoldCreateRequest(
             @NotEmpty
             @Size(max = 4)
-            List<Long> seatIds
+            List<Long> seatIds,
+            @Size(max = 2)
+            List<@NotEmpty @Size(max = 4) List<Long>> alternatives
     ) {
+        public HoldCreateRequest(List<Long> seatIds) {
+            this(seatIds, List.of());
+        }
+
+        /**
+         * 시도 순서대로: seatIds, alternatives...
+         */
+        public List<List<Long>> candidates() {
+            List<List<Long>> candidates = new ArrayList<>(1 + (alternatives == null ? 0 : alternatives.size()));
+            candidates.add(seatIds);
+            if (alternatives != null) {
+                candidates.addAll(alternatives);
+            }
+            return candidates;
+        }
     }
 
+    /**
+     * seatIds: 실제로 잡은 좌석 묶음(대체 좌석으로 잡았으면 그 묶음)
+     */
     public record HoldCreateResponse(
             long eventId,
             Long holdToken,
-            int seatCount
+            int seatCount,
+            List<Long> seatIds
     ) {
-        public static HoldCreateResponse from(long eventId, Long holdToken, int seatCount) {
-            return new HoldCreateResponse(eventId, holdToken, seatCount);
+        public static HoldCreateResponse from(HoldIdempotency savedHoldIdempotency, List<Long> seatIds) {
+            return  new HoldCreateResponse(
+                    savedHoldIdempotency.getEventId(),
+                    savedHoldIdempotency.getHoldGroupId(),
+                    savedHoldIdempotency.getSeatCount(),
+                    seatIds
+            );
         }
+    }
 
-        public static HoldCreateResponse from(HoldIdempotency savedHoldIdempotency) {
-            return  new HoldCreateResponse(
+    /**
+     * 좌석 지정 없이 zone에서 인접 count석 자동 배정
+     */
+    public record BestAvailableHoldRequest(
+            @NotBlank
+            // 멱등 비교 키 "best:{zoneCode}:{count}"가 seat_ids_key(128)에 들어가야 한다
+            @Size(max = 100)
+            String zoneCode,
+            @Min(1)
+            @Max(UserEventHoldCounter.MAX_HELD_SEATS)
+            int count
+    ) {
+    }
+
+    public record BestAvailableHoldResponse(
+            long eventId,
+            Long holdToken,
+            List<Long> seatIds
+    ) {
+        public static BestAvailableHoldResponse from(HoldIdempotency savedHoldIdempotency, List<Long> seatIds) {
+            return new BestAvailableHoldResponse(
                     savedHoldIdempotency.getEventId(),
                     savedHoldIdempotency.getHoldGroupId(),
-                    savedHoldIdempotency.getSeatCount()
+                    seatIds
             );
         }
     }
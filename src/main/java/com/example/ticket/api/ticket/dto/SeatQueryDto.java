@@ -1,7 +1,10 @@
 package com.example.ticket.api.ticket.dto;
 
 import com.example.ticket.domain.event.SeatStatus;
-import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.inventory.SeatLayoutDocument;
+import com.example.ticket.inventory.SeatMapDelta;
+import com.example.ticket.inventory.SeatMapSnapshot;
+import com.example.ticket.inventory.SeatMapSnapshot.SeatCell;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -12,13 +15,14 @@ public final class SeatQueryDto {
 
     public record SeatListResponse(
             long eventId,
+            long version,
             List<SeatDto> seats
     ) {
-        public static SeatListResponse from(long eventId, List<Seat> seats) {
-            List<SeatDto> seatDto = seats.stream()
+        public static SeatListResponse from(SeatMapSnapshot snapshot) {
+            List<SeatDto> seatDto = snapshot.seats().stream()
                     .map(SeatDto::from)
                     .toList();
-            return new SeatListResponse(eventId, seatDto);
+            return new SeatListResponse(snapshot.eventId(), snapshot.version(), seatDto);
         }
     }
 
@@ -29,14 +33,76 @@ public final class SeatQueryDto {
             long price,
             SeatStatus status
     ) {
-        public static SeatDto from(Seat s) {
+        public static SeatDto from(SeatCell c) {
             return new SeatDto(
-                    s.getId(),
-                    s.getZoneCode(),
-                    s.getSeatNo(),
-                    s.getPrice(),
-                    s.getStatus()
+                    c.seatId(),
+                    c.zoneCode(),
+                    c.seatNo(),
+                    c.price(),
+                    c.status()
             );
         }
     }
+
+    /**
+     * full=false: changes만(좌석당 마지막 상태), full=true: sinceVersion을 이어갈 수 없어 seats 전체
+     */
+    public record SeatChangesResponse(
+            long eventId,
+            long sinceVersion,
+            long version,
+            boolean full,
+            List<SeatStatusDto> changes,
+            List<SeatDto> seats
+    ) {
+        public static SeatChangesResponse delta(SeatMapDelta delta) {
+            List<SeatStatusDto> changes = delta.changes().stream()
+                    .map(c -> new SeatStatusDto(c.seatId(), c.status()))
+                    .toList();
+            return new SeatChangesResponse(delta.eventId(), delta.sinceVersion(), delta.version(), false, changes, List.of());
+        }
+
+        public static SeatChangesResponse full(long sinceVersion, SeatListResponse snapshot) {
+            return new SeatChangesResponse(snapshot.eventId(), sinceVersion, snapshot.version(), true, List.of(), snapshot.seats());
+        }
+    }
+
+    public record SeatStatusDto(
+            long seatId,
+            SeatStatus status
+    ) {
+    }
+
+    /**
+     * SSE reset 이벤트: 이어서 보낼 delta가 없으니 /seats를 다시 받아 version 이후부터 적용
+     */
+    public record SeatStreamResetDto(
+            long eventId,
+            long version
+    ) {
+    }
+
+    /**
+     * 정적 좌석 배치도. seats의 순서(index)가 /seats/bitmap의 좌석 순서
+     */
+    public record SeatLayoutResponse(
+            long eventId,
+            String layoutId,
+            List<SeatLayoutDto> seats
+    ) {
+        public static SeatLayoutResponse from(SeatLayoutDocument layout) {
+            List<SeatLayoutDto> seats = layout.seats().stream()
+                    .map(c -> new SeatLayoutDto(c.seatId(), c.zoneCode(), c.seatNo(), c.price()))
+                    .toList();
+            return new SeatLayoutResponse(layout.eventId(), layout.layoutId(), seats);
+        }
+    }
+
+    public record SeatLayoutDto(
+            long seatId,
+            String zoneCode,
+            String seatNo,
+            long price
+    ) {
+    }
 }
@@ -0,0 +1,114 @@
+package com.example.ticket.common;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 기반 AIMD 동시 실행 한도.
+ * - baseline: 관측된 최소 지연(위로는 아주 천천히 따라감 → 지속적인 변화만 반영)
+ * - 지연이 baseline * tolerance를 넘거나 실패(drop)하면 한도를 backoffRatio 배로 줄임(multiplicative decrease)
+ * - 그 외에 한도의 절반 이상을 쓰고 있었으면 +1(additive increase)
+ * - 초당 처리량(EWMA)으로 거절 시 Retry-After를 계산한다
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    private static final double BASELINE_DRIFT = 0.001;
+    private static final long THROUGHPUT_WINDOW_NANOS = 1_000_000_000L;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // release()의 synchronized 안에서만 갱신
+    private double baselineNanos = Double.NaN;
+    private long windowStartNanos;
+    private int windowCompleted;
+    private volatile double throughputPerSecond;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || tolerance <= 1.0 || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("1 <= minLimit <= maxLimit, tolerance > 1, 0 < backoffRatio < 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.windowStartNanos = System.nanoTime();
+    }
+
+    /**
+     * 한도 안이면 자리를 잡고 true. true를 받은 호출자는 반드시 release 해야 한다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int cur = inFlight.get();
+            if (cur >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(cur, cur + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public synchronized void release(long startNanos, long nowNanos, boolean dropped) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        countCompletion(nowNanos);
+
+        long rtt = Math.max(1, nowNanos - startNanos);
+        if (dropped) {
+            decrease();
+            return;
+        }
+        if (Double.isNaN(baselineNanos) || rtt < baselineNanos) {
+            baselineNanos = rtt;
+        } else {
+            baselineNanos += (rtt - baselineNanos) * BASELINE_DRIFT;
+        }
+
+        if (rtt > baselineNanos * tolerance) {
+            decrease();
+        } else if (inFlightBefore * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public double throughputPerSecond() {
+        return throughputPerSecond;
+    }
+
+    /**
+     * 지금 처리 중인 요청이 현재 처리량으로 빠지는 데 걸리는 시간(최소 1초).
+     */
+    public long retryAfterSeconds() {
+        double throughput = Math.max(1.0, throughputPerSecond);
+        return Math.max(1, (long) Math.ceil(inFlight.get() / throughput));
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    private void countCompletion(long nowNanos) {
+        windowCompleted++;
+        long elapsed = nowNanos - windowStartNanos;
+        if (elapsed >= THROUGHPUT_WINDOW_NANOS) {
+            double rate = windowCompleted * 1e9 / elapsed;
+            throughputPerSecond = throughputPerSecond == 0 ? rate : (throughputPerSecond + rate) / 2;
+            windowCompleted = 0;
+            windowStartNanos = nowNanos;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.ticket.common;
 
+import com.example.ticket.common.exception.ConcurrencyLimitExceededException;
 import com.example.ticket.common.exception.DomainException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -33,6 +35,19 @@ public class ApiExceptionHandler {
                 .body(ApiErrorResponse.of(code, ex.getMessage(), traceId));
     }
 
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleConcurrencyLimit(ConcurrencyLimitExceededException ex) {
+        String traceId = traceId(request);
+        ErrorCode code = ex.getErrorCode();
+
+        log.debug("[traceId={}] concurrency_limited retryAfter={}s", traceId, ex.getRetryAfterSeconds());
+
+        return ResponseEntity
+                .status(code.status())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiErrorResponse.of(code, ex.getMessage(), traceId));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
         String traceId = traceId(request);
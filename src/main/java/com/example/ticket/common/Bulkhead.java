@@ -0,0 +1,65 @@
+package com.example.ticket.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정 크기 격벽 한 칸. maxWait 동안 자리를 기다리고, 못 얻으면 false.
+ * 포화도 메트릭: ticket.bulkhead.max / in_use / waiting 게이지, wait 타이머, rejected 카운터(lane 태그)
+ */
+public final class Bulkhead {
+
+    private final String lane;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public Bulkhead(String lane, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be >= 1: " + lane);
+        }
+        this.lane = lane;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        Gauge.builder("ticket.bulkhead.max", this, b -> b.maxConcurrent).tag("lane", lane).register(meterRegistry);
+        Gauge.builder("ticket.bulkhead.in_use", this, Bulkhead::inUse).tag("lane", lane).register(meterRegistry);
+        Gauge.builder("ticket.bulkhead.waiting", permits, Semaphore::getQueueLength).tag("lane", lane).register(meterRegistry);
+        this.waitTimer = Timer.builder("ticket.bulkhead.wait").tag("lane", lane).register(meterRegistry);
+        this.rejected = Counter.builder("ticket.bulkhead.rejected").tag("lane", lane).register(meterRegistry);
+    }
+
+    /**
+     * true면 호출자가 반드시 release 해야 한다.
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        long start = System.nanoTime();
+        boolean acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejected.increment();
+        }
+        return acquired;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String lane() {
+        return lane;
+    }
+
+    public int inUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
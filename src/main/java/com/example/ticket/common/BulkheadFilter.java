@@ -0,0 +1,122 @@
+package com.example.ticket.common;
+
+import com.example.ticket.config.BulkheadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 요청을 레인(confirm / hold / seat-read / admin)으로 나눠 레인별 격벽 안에서만 처리한다.
+ * - 레인마다 세마포어가 따로라 HOLD 폭주나 admin 일괄 작업이 confirm 자리를 먹지 못한다
+ * - 서블릿 스레드가 DB 커넥션을 잡기 전에 걸러서, 레인 합계 ≤ 커넥션 풀이면 풀도 레인별로 나뉜다
+ * - 그 외 경로(대기열, 예매 조회 등)는 격벽 밖
+ * - 자리를 못 얻으면 503(BULKHEAD_FULL) + Retry-After: 1
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadFilter.class);
+
+    static final String CONFIRM = "confirm";
+    static final String HOLD = "hold";
+    static final String SEAT_READ = "seat-read";
+    static final String ADMIN = "admin";
+
+    private static final Pattern EVENT_API = Pattern.compile("^/api/events/[^/]+/(confirms|holds|seats)(/.*)?$");
+
+    private final boolean enabled;
+    private final Map<String, Bulkhead> bulkheads;
+    private final JsonMapper jsonMapper;
+
+    public BulkheadFilter(BulkheadProperties properties, MeterRegistry meterRegistry, JsonMapper jsonMapper) {
+        this.enabled = properties.enabled();
+        this.jsonMapper = jsonMapper;
+        this.bulkheads = Map.of(
+                CONFIRM, new Bulkhead(CONFIRM, properties.confirmConcurrency(), properties.confirmMaxWait(), meterRegistry),
+                HOLD, new Bulkhead(HOLD, properties.holdConcurrency(), properties.maxWait(), meterRegistry),
+                SEAT_READ, new Bulkhead(SEAT_READ, properties.seatReadConcurrency(), properties.maxWait(), meterRegistry),
+                ADMIN, new Bulkhead(ADMIN, properties.adminConcurrency(), properties.maxWait(), meterRegistry)
+        );
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || laneOf(request.getMethod(), pathOf(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Bulkhead bulkhead = bulkheads.get(laneOf(request.getMethod(), pathOf(request)));
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            reject(request, response, bulkhead);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    static String laneOf(String method, String path) {
+        if (path.startsWith("/admin/")) {
+            return ADMIN;
+        }
+        Matcher m = EVENT_API.matcher(path);
+        if (!m.matches()) {
+            return null;
+        }
+        return switch (m.group(1)) {
+            case "confirms" -> CONFIRM;
+            case "holds" -> HOLD;
+            default -> "GET".equals(method) ? SEAT_READ : null;
+        };
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Bulkhead bulkhead) throws IOException {
+        Object traceId = request.getAttribute(TraceIdFilter.TRACE_ATTR);
+        ErrorCode code = ErrorCode.BULKHEAD_FULL;
+
+        log.debug("[traceId={}] bulkhead_full lane={}", traceId, bulkhead.lane());
+
+        response.setStatus(code.status().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(),
+                ApiErrorResponse.of(code, code.defaultMessage(), traceId == null ? null : traceId.toString()));
+    }
+}
@@ -32,6 +32,12 @@ public enum ErrorCode {
     HOLD_GROUP_SIZE_MISMATCH(HttpStatus.CONFLICT, "holdGroup size and holdDelete size mismatch"),
     INVALID_EVENT_SALES_WINDOW(HttpStatus.BAD_REQUEST, "Invalid sales window"),
 
+    SEAT_STREAM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Too many seat stream subscribers"),
+    QUEUE_TOKEN_INVALID(HttpStatus.FORBIDDEN, "Invalid queue token"),
+    QUEUE_NOT_ADMITTED(HttpStatus.TOO_MANY_REQUESTS, "Not admitted from queue yet"),
+    TOO_MANY_CONCURRENT_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "Too many concurrent requests"),
+    BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy, retry shortly"),
+
     VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "Validation failed"),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal error"),
 
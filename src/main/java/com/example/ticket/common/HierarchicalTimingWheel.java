@@ -0,0 +1,123 @@
+package com.example.ticket.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠(millis 기준). add/advance 모두 O(1) 상각 — 만료 대상 수에만 비례한다.
+ * - level 0: tickMillis 단위 wheelSize 칸, level n: tickMillis * wheelSize^n 단위
+ * - 상위 level 칸의 시작 시각에 도달하면 그 칸의 항목을 하위 level로 내려 보낸다(cascade)
+ * - deadline이 지난 뒤 최대 tickMillis 안에 만료된다
+ * 스레드 안전하지 않다 → 한 스레드에서만 호출할 것.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private final ArrayDeque<T> ready = new ArrayDeque<>();
+    private long currentTime;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis > 0, wheelSize >= 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        this.levels.add(new Level<>(tickMillis, wheelSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(T item, long deadlineMillis) {
+        size++;
+        place(new Entry<>(item, deadlineMillis));
+    }
+
+    /**
+     * nowMillis까지 시계를 진행하며 만료된 항목을 onExpired로 넘긴다.
+     */
+    public void advance(long nowMillis, Consumer<T> onExpired) {
+        drainReady(onExpired);
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            // 방금 지난 칸을 먼저 비운다 → cascade로 내려오는 항목이 같은 칸(index)을 재사용할 수 있음
+            ArrayDeque<Entry<T>> bucket = levels.get(0).bucket(Math.floorDiv(currentTime, tickMillis) - 1);
+            while (!bucket.isEmpty()) {
+                size--;
+                onExpired.accept(bucket.poll().item());
+            }
+            cascade();
+            drainReady(onExpired);
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        if (entry.deadline() < currentTime) {
+            ready.add(entry.item());
+            return;
+        }
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level<T> top = levels.get(i - 1);
+                levels.add(new Level<>(top.tick * wheelSize, wheelSize));
+            }
+            Level<T> level = levels.get(i);
+            long diff = Math.floorDiv(entry.deadline(), level.tick) - Math.floorDiv(currentTime, level.tick);
+            if (i == 0 ? diff < wheelSize : diff <= wheelSize) {
+                level.bucket(Math.floorDiv(entry.deadline(), level.tick)).add(entry);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 상위 level부터 현재 시각에서 시작하는 칸을 비워 하위 level로 재배치한다.
+     */
+    private void cascade() {
+        for (int i = levels.size() - 1; i >= 1; i--) {
+            Level<T> level = levels.get(i);
+            if (Math.floorMod(currentTime, level.tick) != 0) {
+                continue;
+            }
+            ArrayDeque<Entry<T>> bucket = level.bucket(Math.floorDiv(currentTime, level.tick));
+            List<Entry<T>> moving = new ArrayList<>(bucket);
+            bucket.clear();
+            moving.forEach(this::place);
+        }
+    }
+
+    private void drainReady(Consumer<T> onExpired) {
+        while (!ready.isEmpty()) {
+            size--;
+            onExpired.accept(ready.poll());
+        }
+    }
+
+    private record Entry<T>(T item, long deadline) {
+    }
+
+    private static final class Level<T> {
+        private final long tick;
+        private final ArrayDeque<Entry<T>>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tick, int wheelSize) {
+            this.tick = tick;
+            this.buckets = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayDeque<>();
+            }
+        }
+
+        private ArrayDeque<Entry<T>> bucket(long slot) {
+            return buckets[(int) Math.floorMod(slot, (long) buckets.length)];
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.ticket.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 미리 압축해 둔 prefix 뒤에 요청마다 달라지는 작은 suffix를 붙여 하나의 gzip member로 내보낸다.
+ * - prefix는 SYNC_FLUSH로 바이트 경계에서 끝나는 raw deflate 블록 → 뒤에 독립 deflate 스트림을 이어 붙일 수 있음
+ * - CRC32는 prefix 값에 suffix 값을 결합(zlib crc32_combine)해 prefix를 다시 훑지 않는다
+ */
+public final class SegmentedGzip {
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final long CRC32_POLY = 0xedb88320L;
+
+    private SegmentedGzip() {
+    }
+
+    public record Prefix(byte[] deflated, long crc, long length) {
+    }
+
+    public static Prefix compressPrefix(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return new Prefix(deflateSyncFlushed(data), crc.getValue(), data.length);
+    }
+
+    public static void write(OutputStream out, Prefix prefix, byte[] suffix) throws IOException {
+        CRC32 suffixCrc = new CRC32();
+        suffixCrc.update(suffix);
+        long crc = combine(prefix.crc(), suffixCrc.getValue(), suffix.length);
+        long size = prefix.length() + suffix.length;
+
+        out.write(HEADER);
+        out.write(prefix.deflated());
+        out.write(deflateFinished(suffix));
+        writeIntLe(out, crc);
+        writeIntLe(out, size);
+    }
+
+    /**
+     * 마지막이 아닌 블록으로 끝내고 바이트 경계에 맞춘다(빈 stored 블록)
+     */
+    private static byte[] deflateSyncFlushed(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            byte[] buf = new byte[8192];
+            int n;
+            do {
+                n = deflater.deflate(buf, 0, buf.length, Deflater.SYNC_FLUSH);
+                out.write(buf, 0, n);
+            } while (n == buf.length);
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] deflateFinished(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+            byte[] buf = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buf, 0, deflater.deflate(buf));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeIntLe(OutputStream out, long v) throws IOException {
+        out.write((int) (v & 0xff));
+        out.write((int) ((v >>> 8) & 0xff));
+        out.write((int) ((v >>> 16) & 0xff));
+        out.write((int) ((v >>> 24) & 0xff));
+    }
+
+    /**
+     * crc(A||B) = combine(crc(A), crc(B), len(B)). GF(2) 행렬 제곱으로 len(B)만큼 0 바이트를 민 것과 같다.
+     */
+    static long combine(long crc1, long crc2, long len2) {
+        if (len2 <= 0) {
+            return crc1;
+        }
+        long[] even = new long[32];
+        long[] odd = new long[32];
+
+        odd[0] = CRC32_POLY;
+        long row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        square(even, odd);   // 2 zero bits
+        square(odd, even);   // 4 zero bits
+
+        do {
+            square(even, odd);
+            if ((len2 & 1) != 0) {
+                crc1 = times(even, crc1);
+            }
+            len2 >>= 1;
+            if (len2 == 0) {
+                break;
+            }
+            square(odd, even);
+            if ((len2 & 1) != 0) {
+                crc1 = times(odd, crc1);
+            }
+            len2 >>= 1;
+        } while (len2 != 0);
+
+        return crc1 ^ crc2;
+    }
+
+    private static long times(long[] mat, long vec) {
+        long sum = 0;
+        for (int i = 0; vec != 0; i++, vec >>>= 1) {
+            if ((vec & 1) != 0) {
+                sum ^= mat[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void square(long[] square, long[] mat) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = times(mat, mat[n]);
+        }
+    }
+}
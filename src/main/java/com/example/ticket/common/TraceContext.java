@@ -1,30 +1,58 @@
 package com.example.ticket.common;
 
+import org.slf4j.MDC;
+
+/**
+ * 요청 traceId 전달자. ScopedValue라 바인딩한 범위(TraceIdFilter의 filterChain)를 벗어나면 자동으로 사라진다.
+ * - 가상 스레드 수천 개에서도 ThreadLocal처럼 지우는 걸 잊어 남거나 복사 비용이 드는 일이 없음
+ * - 다른 스레드로 넘기는 작업은 wrap으로 감싸 호출 시점의 traceId를 다시 바인딩(TaskDecorator로 등록)
+ */
 public final class TraceContext {
 
-    private static final ThreadLocal<String> TRACE_ID = new ThreadLocal<>();
+    private static final ScopedValue<String> TRACE_ID = ScopedValue.newInstance();
 
     private TraceContext() {}
 
     public static String getOrNull() {
-        return TRACE_ID.get();
+        return TRACE_ID.isBound() ? TRACE_ID.get() : null;
     }
 
     public static String require() {
-        String cur = TRACE_ID.get();
+        String cur = getOrNull();
         if (cur == null || cur.isBlank()) {
             throw new IllegalStateException("TraceId is not set. TraceIdFilter must run first.");
         }
         return cur;
     }
 
-    public static void set(String traceId) {
-        if (traceId == null || traceId.isBlank()) return;
-        TRACE_ID.set(traceId);
+    /**
+     * traceId를 바인딩한 채 op 실행. MDC도 같은 범위에서만 채운다.
+     */
+    public static <R, X extends Throwable> R callWith(String traceId, ScopedValue.CallableOp<? extends R, X> op) throws X {
+        String previousMdc = MDC.get(TraceIdFilter.MDC_KEY);
+        MDC.put(TraceIdFilter.MDC_KEY, traceId);
+        try {
+            return ScopedValue.where(TRACE_ID, traceId).call(op);
+        } finally {
+            if (previousMdc == null) {
+                MDC.remove(TraceIdFilter.MDC_KEY);
+            } else {
+                MDC.put(TraceIdFilter.MDC_KEY, previousMdc);
+            }
+        }
     }
 
-    public static void clear() {
-        TRACE_ID.remove();
+    /**
+     * 지금 바인딩된 traceId를 잡아 두고, 다른 스레드에서 실행될 때 다시 바인딩한다. 바인딩이 없으면 그대로.
+     */
+    public static Runnable wrap(Runnable task) {
+        String traceId = getOrNull();
+        if (traceId == null) {
+            return task;
+        }
+        return () -> callWith(traceId, () -> {
+            task.run();
+            return null;
+        });
     }
 }
-
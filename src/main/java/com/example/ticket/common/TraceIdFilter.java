@@ -4,7 +4,6 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -35,17 +34,17 @@ public class TraceIdFilter extends OncePerRequestFilter {
 
         request.setAttribute(TRACE_ATTR, traceId);
 
-        TraceContext.set(traceId);
-
-        MDC.put(MDC_KEY, traceId);
-
         response.setHeader(TRACE_HEADER, traceId);
 
         try {
-            filterChain.doFilter(request, response);
-        } finally {
-            MDC.remove(MDC_KEY);
-            TraceContext.clear();
+            TraceContext.callWith(traceId, () -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
         }
     }
 }
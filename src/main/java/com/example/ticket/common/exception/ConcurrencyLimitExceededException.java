@@ -0,0 +1,18 @@
+package com.example.ticket.common.exception;
+
+import com.example.ticket.common.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 동시 실행 한도 초과로 즉시 거절. 응답에 Retry-After(초)를 붙인다.
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitExceededException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_CONCURRENT_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.ticket.config;
+
+import com.example.ticket.admission.AdmissionStore;
+import com.example.ticket.admission.InMemoryAdmissionStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AdmissionConfig {
+
+    /**
+     * 공유 저장소 구현을 따로 등록하지 않으면 노드 메모리 대기열
+     */
+    @Bean
+    @ConditionalOnMissingBean(AdmissionStore.class)
+    public AdmissionStore admissionStore() {
+        return new InMemoryAdmissionStore();
+    }
+}
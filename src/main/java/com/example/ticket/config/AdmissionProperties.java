@@ -0,0 +1,34 @@
+package com.example.ticket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * HOLD 앞단 대기열 설정(ticket.admission.*).
+ * - enabled: 켜면 HOLD 요청에 입장된 X-Queue-Token이 필요. 이때 secret이 기본값(change-me)이면 기동 실패
+ * - admitPerSecond: 이벤트별 초당 입장 수(기본), eventRates로 이벤트마다 덮어씀
+ * - tokenTtl: 토큰 유효 시간(발급 시각 기준). 입장 후 이 시간 동안 다시 안 들어온 유저의 순번 기록도 지운다
+ */
+@ConfigurationProperties("ticket.admission")
+public record AdmissionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue(AdmissionProperties.DEFAULT_SECRET) String secret,
+        @DefaultValue("200") int admitPerSecond,
+        Map<Long, Integer> eventRates,
+        @DefaultValue("30m") Duration tokenTtl
+) {
+    public static final String DEFAULT_SECRET = "change-me";
+
+    public AdmissionProperties {
+        if (enabled && DEFAULT_SECRET.equals(secret)) {
+            throw new IllegalStateException("ticket.admission.secret must be set when admission is enabled");
+        }
+    }
+
+    public int rateOf(long eventId) {
+        return eventRates == null ? admitPerSecond : eventRates.getOrDefault(eventId, admitPerSecond);
+    }
+}
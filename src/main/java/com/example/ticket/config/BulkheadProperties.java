@@ -0,0 +1,24 @@
+package com.example.ticket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청 종류별 격벽(bulkhead) 설정(ticket.bulkhead.*).
+ * - *Concurrency: 레인별 동시 처리 상한. 레인끼리 자리를 빌려주지 않으므로 confirm 몫은 항상 비어 있다
+ * - 레인 합계를 DB 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size) 이하로 두면 풀도 레인별로 나눈 것과 같다
+ * - maxWait: 자리가 없을 때 기다리는 시간(confirm은 confirmMaxWait). 넘으면 503
+ */
+@ConfigurationProperties("ticket.bulkhead")
+public record BulkheadProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("16") int confirmConcurrency,
+        @DefaultValue("12") int holdConcurrency,
+        @DefaultValue("8") int seatReadConcurrency,
+        @DefaultValue("2") int adminConcurrency,
+        @DefaultValue("50ms") Duration maxWait,
+        @DefaultValue("500ms") Duration confirmMaxWait
+) {
+}
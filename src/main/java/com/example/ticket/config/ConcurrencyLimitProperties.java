@@ -0,0 +1,24 @@
+package com.example.ticket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * hold/confirm 동시 실행 한도 설정(ticket.concurrency-limit.*). 이벤트 × 작업마다 한도가 따로 움직인다.
+ * - tolerance: 지연이 baseline의 이 배수를 넘으면 한도 감소
+ * - backoffRatio: 감소 시 곱하는 비율
+ * - idleTimeout: 이만큼 쓰이지 않은 이벤트의 한도 상태를 버림(검사 주기도 같은 값)
+ */
+@ConfigurationProperties("ticket.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("2.0") double tolerance,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("10m") Duration idleTimeout
+) {
+}
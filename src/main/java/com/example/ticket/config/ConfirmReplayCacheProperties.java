@@ -0,0 +1,19 @@
+package com.example.ticket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * confirm 재시도 응답 near-cache 설정(ticket.confirm.replay-cache.*).
+ * - maxEntries: 보관 상한(LRU)
+ * - ttl: 보관 시간. 지나면 멱등 행 1건 조회로 다시 채운다
+ */
+@ConfigurationProperties("ticket.confirm.replay-cache")
+public record ConfirmReplayCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("10m") Duration ttl
+) {
+}
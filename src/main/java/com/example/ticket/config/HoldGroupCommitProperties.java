@@ -0,0 +1,21 @@
+package com.example.ticket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HOLD group commit 설정(ticket.hold.group-commit.*).
+ * - maxBatchSize: 한 트랜잭션으로 묶는 최대 HOLD 수
+ * - maxWait: 첫 HOLD가 들어온 뒤 더 모으는 최대 시간(넘으면 모인 만큼만 커밋)
+ * - commitTimeout: 호출자가 배치 커밋을 기다리는 최대 시간(넘으면 IDEMPOTENCY_IN_PROGRESS, 같은 키 재시도가 결과를 받는다)
+ */
+@ConfigurationProperties("ticket.hold.group-commit")
+public record HoldGroupCommitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("256") int maxBatchSize,
+        @DefaultValue("2ms") Duration maxWait,
+        @DefaultValue("5s") Duration commitTimeout
+) {
+}
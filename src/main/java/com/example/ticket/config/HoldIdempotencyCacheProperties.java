@@ -0,0 +1,21 @@
+package com.example.ticket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HOLD 멱등 응답 캐시 설정(ticket.hold.idempotency-cache.*).
+ * - maxEntries: 완료 응답 보관 상한(LRU)
+ * - ttl: 완료 응답 보관 시간
+ * - waitTimeout: 같은 키의 먼저 온 요청 결과를 기다리는 최대 시간(넘으면 IDEMPOTENCY_IN_PROGRESS)
+ */
+@ConfigurationProperties("ticket.hold.idempotency-cache")
+public record HoldIdempotencyCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue("3s") Duration waitTimeout
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.ticket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 만료 hold 스윕 설정(ticket.hold.sweep.*).
+ * - chunkSize: 한 트랜잭션에서 지우는 hold group 수
+ * - maxChunks: 1회 실행에서 처리할 최대 chunk 수(남은 건 다음 주기로)
+ * - fixedDelay: backstop 주기(평소 만료는 HoldExpiryTimer가 처리)
+ */
+@ConfigurationProperties("ticket.hold.sweep")
+public record HoldSweepProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("60s") Duration fixedDelay,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("20") int maxChunks
+) {
+}
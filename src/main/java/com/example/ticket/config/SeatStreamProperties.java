@@ -0,0 +1,22 @@
+package com.example.ticket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 좌석 상태 SSE 설정(ticket.seat-stream.*).
+ * - maxSubscribers: 노드당 동시 구독 상한(초과 시 503)
+ * - queueCapacity: 구독자별 미전송 메시지 상한(넘치면 끊고 Last-Event-ID 재접속으로 따라잡게 함)
+ * - senderThreads: 구독자 큐를 비우는 전송 스레드 수(broadcast 스레드는 소켓 쓰기를 하지 않음)
+ */
+@ConfigurationProperties("ticket.seat-stream")
+public record SeatStreamProperties(
+        @DefaultValue("50000") int maxSubscribers,
+        @DefaultValue("32") int queueCapacity,
+        @DefaultValue("4") int senderThreads,
+        @DefaultValue("30m") Duration connectionTimeout,
+        @DefaultValue("20s") Duration heartbeatInterval
+) {
+}
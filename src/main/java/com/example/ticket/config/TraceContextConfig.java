@@ -0,0 +1,18 @@
+package com.example.ticket.config;
+
+import com.example.ticket.common.TraceContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Spring이 만드는 비동기 실행기(applicationTaskExecutor 등)로 넘어가는 작업에 요청 traceId를 이어 붙인다.
+ */
+@Configuration
+public class TraceContextConfig {
+
+    @Bean
+    public TaskDecorator traceContextTaskDecorator() {
+        return TraceContext::wrap;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.ticket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * "아직 confirm 안 된 hold group" negative cache 설정(ticket.confirm.unconfirmed-cache.*).
+ * - maxEntries: 보관 상한(LRU). 항목은 hold 만료 시각까지만 유효해 ttl은 따로 없다
+ */
+@ConfigurationProperties("ticket.confirm.unconfirmed-cache")
+public record UnconfirmedHoldCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxEntries
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.ticket.domain;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * hot path 엔티티의 ID 발급 설정(@TableGenerator 공용 값).
+ * - IDENTITY는 insert 즉시 실행이라 JDBC batch가 꺼진다 → 테이블 기반 pooled 발급으로 교체
+ * - MySQL에는 시퀀스가 없으므로 H2/MySQL 공통으로 id_blocks 테이블을 쓴다
+ * - 노드마다 ALLOCATION_SIZE 만큼 블록을 메모리에 예약(= hibernate.jdbc.batch_size)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PooledIds {
+
+    public static final String TABLE = "id_blocks";
+    public static final String NAME_COLUMN = "id_name";
+    public static final String VALUE_COLUMN = "next_id";
+    public static final int ALLOCATION_SIZE = 100;
+}
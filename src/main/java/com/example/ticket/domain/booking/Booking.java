@@ -1,6 +1,7 @@
 package com.example.ticket.domain.booking;
 
 import com.example.ticket.domain.BaseTimeEntity;
+import com.example.ticket.domain.PooledIds;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -23,7 +24,15 @@ import java.util.Objects;
 public class Booking extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bookings_id_gen")
+    @TableGenerator(
+            name = "bookings_id_gen",
+            table = PooledIds.TABLE,
+            pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "bookings",
+            allocationSize = PooledIds.ALLOCATION_SIZE
+    )
     @Column(name = "booking_id")
     private Long id;
 
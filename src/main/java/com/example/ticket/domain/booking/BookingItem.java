@@ -1,5 +1,6 @@
 package com.example.ticket.domain.booking;
 
+import com.example.ticket.domain.PooledIds;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -22,7 +23,15 @@ import java.util.Objects;
 public class BookingItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "booking_items_id_gen")
+    @TableGenerator(
+            name = "booking_items_id_gen",
+            table = PooledIds.TABLE,
+            pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "booking_items",
+            allocationSize = PooledIds.ALLOCATION_SIZE
+    )
     @Column(name = "booking_item_id")
     private Long id;
 
@@ -41,6 +41,13 @@ public class Event extends BaseTimeEntity {
     @Column(name = "status", nullable = false, length = 16)
     private EventStatus status;
 
+    /**
+     * open/close, 좌석 구성 변경(bulkReplace) 등 변경마다 증가 → 노드별 이벤트 캐시가 폴링으로 무효화에 사용
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     private Event(String title, Instant salesOpenAt, Instant salesCloseAt, EventStatus status) {
         this.title = Objects.requireNonNull(title);
         this.salesOpenAt = Objects.requireNonNull(salesOpenAt);
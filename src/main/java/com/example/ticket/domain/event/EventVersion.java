@@ -0,0 +1,7 @@
+package com.example.ticket.domain.event;
+
+/**
+ * 캐시 무효화 폴링용 (eventId, version) 조회 결과.
+ */
+public record EventVersion(Long eventId, Long version) {
+}
@@ -2,5 +2,10 @@ package com.example.ticket.domain.event;
 
 public enum SeatStatus {
     AVAILABLE,
+    /**
+     * seats 테이블에는 저장되지 않는다. HOLD는 hold_group_seats로만 표현되고,
+     * 메모리 인벤토리/조회 응답에서만 계산된 상태로 사용한다.
+     */
+    HELD,
     SOLD
 }
@@ -1,6 +1,7 @@
 package com.example.ticket.domain.hold;
 
 import com.example.ticket.domain.BaseTimeEntity;
+import com.example.ticket.domain.PooledIds;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -10,14 +11,26 @@ import java.time.Instant;
 
 @Entity
 @Table(
-        name = "hold_groups"
+        name = "hold_groups",
+        indexes = {
+                @Index(name = "ix_hold_groups_expires_at", columnList = "expires_at"),
+                @Index(name = "ix_hold_groups_user_event", columnList = "user_id, event_id")
+        }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class HoldGroup extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "hold_groups_id_gen")
+    @TableGenerator(
+            name = "hold_groups_id_gen",
+            table = PooledIds.TABLE,
+            pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "hold_groups",
+            allocationSize = PooledIds.ALLOCATION_SIZE
+    )
     @Column(name = "hold_group_id", nullable = false)
     private Long id;
 
@@ -30,14 +43,28 @@ public class HoldGroup extends BaseTimeEntity {
     @Column(name = "event_id", nullable = false)
     private Long eventId;
 
-    private HoldGroup(Long userId, Instant expiresAt, Long eventId) {
+    /**
+     * 만료 시 유저 카운터에 돌려줄 좌석 수(좌석 행을 세지 않아도 되도록 group에 둔다)
+     */
+    @Column(name = "seat_count", nullable = false)
+    private int seatCount;
+
+    /**
+     * HOLD 시점 좌석 가격 합계. confirm 요청 amount와 같아야 한다(서버 산정 금액)
+     */
+    @Column(name = "total_amount", nullable = false)
+    private long totalAmount;
+
+    private HoldGroup(Long userId, Instant expiresAt, Long eventId, int seatCount, long totalAmount) {
         this.userId = userId;
         this.expiresAt = expiresAt;
         this.eventId = eventId;
+        this.seatCount = seatCount;
+        this.totalAmount = totalAmount;
     }
 
-    public static HoldGroup create(Long userId, Instant expiresAt, Long eventId) {
-        return new HoldGroup(userId, expiresAt, eventId);
+    public static HoldGroup create(Long userId, Instant expiresAt, Long eventId, int seatCount, long totalAmount) {
+        return new HoldGroup(userId, expiresAt, eventId, seatCount, totalAmount);
     }
 
 }
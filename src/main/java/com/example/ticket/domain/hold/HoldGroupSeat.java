@@ -15,7 +15,8 @@ import java.time.Instant;
                 @UniqueConstraint(name = "uk_hold_group_seats_seat_id_event_id", columnNames = {"event_id", "seat_id"})
         },
         indexes = {
-                @Index(name = "ix_hold_group_seats_group", columnList = "hold_group_id")
+                @Index(name = "ix_hold_group_seats_group", columnList = "hold_group_id"),
+                @Index(name = "ix_hold_group_seats_expires_at", columnList = "expires_at")
         }
 )
 @Getter
@@ -39,14 +40,21 @@ public class HoldGroupSeat {
     @Column(name = "hold_group_id", nullable = false)
     private Long holdGroupId;
 
-    public HoldGroupSeat(Long seatId, Long eventId, Instant expiresAt, Long holdGroupId) {
+    /**
+     * HOLD 시점 좌석 가격(confirm이 seats를 다시 읽지 않도록)
+     */
+    @Column(name = "price", nullable = false)
+    private long price;
+
+    public HoldGroupSeat(Long seatId, Long eventId, Instant expiresAt, Long holdGroupId, long price) {
         this.eventId = eventId;
         this.seatId = seatId;
         this.expiresAt = expiresAt;
         this.holdGroupId = holdGroupId;
+        this.price = price;
     }
 
-    public static HoldGroupSeat create(Long seatId, Long eventId, Instant expiresAt, Long holdGroupId) {
-        return new HoldGroupSeat(seatId, eventId, expiresAt, holdGroupId);
+    public static HoldGroupSeat create(Long seatId, Long eventId, Instant expiresAt, Long holdGroupId, long price) {
+        return new HoldGroupSeat(seatId, eventId, expiresAt, holdGroupId, price);
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.example.ticket.domain.hold;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * (userId, eventId) 단위 HOLD 좌석 수 카운터.
+ * 조건부 UPDATE 한 번으로 limit 검사 + 슬롯 예약을 같이 한다(조회 후 판단하는 레이스 제거).
+ * 행은 최초 HOLD 시 native insert로 만들어지므로 감사 컬럼(BaseTimeEntity)을 쓰지 않는다.
+ */
+@Entity
+@Table(
+        name = "user_event_hold_counter",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_event_hold_counter_user_event", columnNames = {"user_id", "event_id"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserEventHoldCounter {
+
+    public static final int MAX_HELD_SEATS = 4;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hold_counter_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "held_count", nullable = false)
+    private int heldCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
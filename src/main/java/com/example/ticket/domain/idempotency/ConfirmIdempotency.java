@@ -1,6 +1,8 @@
 package com.example.ticket.domain.idempotency;
 
 import com.example.ticket.domain.BaseTimeEntity;
+import com.example.ticket.domain.PooledIds;
+import com.example.ticket.domain.payment.PaymentStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -24,7 +26,15 @@ import java.util.Objects;
 public class ConfirmIdempotency extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "confirm_idempotencies_id_gen")
+    @TableGenerator(
+            name = "confirm_idempotencies_id_gen",
+            table = PooledIds.TABLE,
+            pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "confirm_idempotencies",
+            allocationSize = PooledIds.ALLOCATION_SIZE
+    )
     @Column(name = "confirm_idempotency_id")
     private Long id;
 
@@ -46,18 +56,40 @@ public class ConfirmIdempotency extends BaseTimeEntity {
     @Column(name = "booking_id", nullable = false)
     private Long bookingId;
 
+    /**
+     * 재시도 응답 재생용(결제/예매 항목을 다시 읽지 않는다)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false, length = 16)
+    private PaymentStatus paymentStatus;
+
+    @Column(name = "total_amount", nullable = false)
+    private long totalAmount;
+
+    /**
+     * 예매 항목 "seatId:price,seatId:price"(BookingItemDto.encodeAll)
+     */
+    @Column(name = "items", nullable = false, length = 512)
+    private String items;
+
     private ConfirmIdempotency(String paymentTxId, Long userId, String confirmKey,
-                               Long eventId, Long holdGroupId, Long bookingId) {
+                               Long eventId, Long holdGroupId, Long bookingId,
+                               PaymentStatus paymentStatus, long totalAmount, String items) {
         this.paymentTxId = Objects.requireNonNull(paymentTxId);
         this.userId = Objects.requireNonNull(userId);
         this.confirmKey = Objects.requireNonNull(confirmKey);
         this.eventId = Objects.requireNonNull(eventId);
         this.holdGroupId = Objects.requireNonNull(holdGroupId);
         this.bookingId = Objects.requireNonNull(bookingId);
+        this.paymentStatus = Objects.requireNonNull(paymentStatus);
+        this.totalAmount = totalAmount;
+        this.items = Objects.requireNonNull(items);
     }
 
     public static ConfirmIdempotency create(String paymentTxId, Long userId, String confirmKey,
-                                        Long eventId, Long holdToken, Long bookingId) {
-        return new ConfirmIdempotency(paymentTxId, userId, confirmKey, eventId, holdToken, bookingId);
+                                        Long eventId, Long holdToken, Long bookingId,
+                                        PaymentStatus paymentStatus, long totalAmount, String items) {
+        return new ConfirmIdempotency(paymentTxId, userId, confirmKey, eventId, holdToken, bookingId,
+                paymentStatus, totalAmount, items);
     }
 }
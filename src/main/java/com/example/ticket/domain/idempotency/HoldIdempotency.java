@@ -2,12 +2,14 @@ package com.example.ticket.domain.idempotency;
 
 
 import com.example.ticket.domain.BaseTimeEntity;
+import com.example.ticket.domain.PooledIds;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 
 @Entity
@@ -25,7 +27,15 @@ import java.util.Objects;
 public class HoldIdempotency extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "hold_idempotencies_id_gen")
+    @TableGenerator(
+            name = "hold_idempotencies_id_gen",
+            table = PooledIds.TABLE,
+            pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "hold_idempotencies",
+            allocationSize = PooledIds.ALLOCATION_SIZE
+    )
     @Column(name = "hold_idempotency_id")
     private Long id;
 
@@ -47,18 +57,23 @@ public class HoldIdempotency extends BaseTimeEntity {
     @Column(name = "hold_group_id", length = 64)
     private Long holdGroupId;
 
+    /**
+     * 실제로 잡은 좌석(canonical string). 대체 묶음/best-available 재응답은 만료·confirm 뒤에도 이 값을 쓴다.
+     */
+    @Column(name = "held_seat_ids", length = 128)
+    private String heldSeatIds;
+
     @Column(name = "expires_at", nullable = false)
     private Instant expiresAt;
 
     private HoldIdempotency(Long userId, String idempotencyKey, Long eventId, String seatIdsKey,
-                            Long holdGroupId, Instant expiresAt, Integer seatCount) {
+                            Long holdGroupId, Instant expiresAt, List<Long> heldSeatIds) {
         this.userId = Objects.requireNonNull(userId);
         this.idempotencyKey = Objects.requireNonNull(idempotencyKey);
         this.eventId = Objects.requireNonNull(eventId);
         this.seatIdsKey = Objects.requireNonNull(seatIdsKey);
-        this.holdGroupId = Objects.requireNonNull(holdGroupId);
         this.expiresAt = Objects.requireNonNull(expiresAt);
-        this.seatCount = Objects.requireNonNull(seatCount);
+        holdComplete(Objects.requireNonNull(holdGroupId), heldSeatIds);
     }
 
     private HoldIdempotency(Long userId, String idempotencyKey, Long eventId, String seatIdsKey, Instant expiresAt) {
@@ -68,17 +83,22 @@ public class HoldIdempotency extends BaseTimeEntity {
         this.seatIdsKey = Objects.requireNonNull(seatIdsKey);
         this.expiresAt = Objects.requireNonNull(expiresAt);
     }
-    public void holdComplete(Long holdGroupId, Integer seatCount) {
+    public void holdComplete(Long holdGroupId, List<Long> heldSeatIds) {
         this.holdGroupId = holdGroupId;
-        this.seatCount = seatCount;
+        this.seatCount = heldSeatIds.size();
+        this.heldSeatIds = SeatIdsCodec.toCanonicalString(heldSeatIds);
     }
     public boolean isCompleted() {
         return holdGroupId != null && seatCount != null;
     }
 
+    public List<Long> decodeHeldSeatIds() {
+        return SeatIdsCodec.fromCanonicalString(heldSeatIds);
+    }
+
     public static HoldIdempotency create(Long userId, String key, Long eventId, String seatIdsHash,
-                                         Long holdToken, Instant expiresAt, Integer seatCount) {
-        return new HoldIdempotency(userId, key, eventId, seatIdsHash, holdToken, expiresAt, seatCount);
+                                         Long holdToken, Instant expiresAt, List<Long> heldSeatIds) {
+        return new HoldIdempotency(userId, key, eventId, seatIdsHash, holdToken, expiresAt, heldSeatIds);
     }
 
     public static HoldIdempotency create(Long userId, String key, Long eventId, String seatIdsHash, Instant expiresAt) {
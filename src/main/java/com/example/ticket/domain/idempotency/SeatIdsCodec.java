@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Objects;
@@ -37,6 +38,42 @@ public final class SeatIdsCodec {
         return sb.toString();
     }
 
+    /**
+     * toCanonicalString의 역변환("" → 빈 목록)
+     */
+    public static List<Long> fromCanonicalString(String canonical) {
+        Objects.requireNonNull(canonical, "canonical");
+        if (canonical.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(canonical.split(",")).map(Long::valueOf).toList();
+    }
+
+    /**
+     * 대체 좌석 묶음을 포함한 요청의 비교 키.
+     * - 묶음이 하나면 toCanonicalString 그대로(기존 키와 호환)
+     * - 여럿이면 순서를 유지한 "1,3|5,6" 의 sha256 → "alt:{hex}" (seat_ids_key 길이 제한 안쪽)
+     */
+    public static String toCandidatesKey(List<List<Long>> candidates) {
+        Objects.requireNonNull(candidates, "candidates");
+        if (candidates.size() == 1) {
+            return toCanonicalString(candidates.get(0));
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i > 0) sb.append('|');
+            sb.append(toCanonicalString(candidates.get(i)));
+        }
+        return "alt:" + sha256Hex(sb.toString());
+    }
+
+    /**
+     * best-available 요청의 idempotency 비교 키: "best:{zoneCode}:{count}" (좌석 지정 요청과 겹치지 않음)
+     */
+    public static String bestAvailableKey(String zoneCode, int count) {
+        return "best:" + Objects.requireNonNull(zoneCode, "zoneCode") + ":" + count;
+    }
+
     /**
      * sha256 hex of canonical string
      */
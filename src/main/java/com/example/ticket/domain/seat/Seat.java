@@ -1,12 +1,14 @@
 package com.example.ticket.domain.seat;
 
 import com.example.ticket.domain.BaseTimeEntity;
+import com.example.ticket.domain.PooledIds;
 import com.example.ticket.domain.event.SeatStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.Objects;
 
 @Entity
@@ -21,6 +23,7 @@ import java.util.Objects;
         indexes = {
                 @Index(name = "ix_seats_event", columnList = "event_id"),
                 @Index(name = "ix_seats_event_status", columnList = "event_id, status"),
+                @Index(name = "ix_seats_held_by_group", columnList = "held_by_group_id"),
         }
 )
 @Getter
@@ -28,7 +31,15 @@ import java.util.Objects;
 public class Seat extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "seats_id_gen")
+    @TableGenerator(
+            name = "seats_id_gen",
+            table = PooledIds.TABLE,
+            pkColumnName = PooledIds.NAME_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "seats",
+            allocationSize = PooledIds.ALLOCATION_SIZE
+    )
     @Column(name = "seat_id")
     private Long id;
 
@@ -48,6 +59,15 @@ public class Seat extends BaseTimeEntity {
     @Column(name = "status", nullable = false, length = 16)
     private SeatStatus status;
 
+    /**
+     * seat-claim 저장 방식(ticket.hold.storage)에서만 쓴다. held_until이 지나면 claim은 없는 것으로 본다.
+     */
+    @Column(name = "held_by_group_id")
+    private Long heldByGroupId;
+
+    @Column(name = "held_until")
+    private Instant heldUntil;
+
     private Seat(Long eventId, String zoneCode, String seatNo, long price) {
         this.eventId = Objects.requireNonNull(eventId);
         this.zoneCode = Objects.requireNonNull(zoneCode);
@@ -0,0 +1,314 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.domain.event.SeatStatus;
+import com.example.ticket.inventory.SeatMapSnapshot.SeatCell;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 1개의 좌석 상태 테이블(seatId -> SeatState).
+ * 락 없이 좌석 단위 CAS로만 상태를 바꾼다.
+ * - tryHold: 정렬된 seatIds를 순서대로 CAS, 하나라도 실패하면 이미 잡은 좌석을 되돌림(All-or-Nothing)
+ * - 상태가 바뀐 좌석은 dirty에 모아 두고, 스냅샷 요청 시 직전 스냅샷에 그 좌석만 덮어쓴다
+ * - 같은 변경을 version과 함께 change ring에도 남겨 delta 조회(sinceVersion)에 쓴다
+ * - 정적 배치도(SeatLayoutDocument)는 적재 시 한 번, 2bit 상태 비트맵은 version마다 한 번 만든다
+ */
+final class EventSeatInventory {
+
+    static final int CHANGE_RING_CAPACITY = 8192;
+
+    private final long eventId;
+    /**
+     * 적재 시점 events.version. 바뀌면 좌석 구성이 바뀌었을 수 있으므로 통째로 다시 적재한다(SeatInventory.reconcile)
+     */
+    private final Long eventVersion;
+    private final List<SeatLayout> layout;
+    private final SeatLayoutDocument layoutDocument;
+    private final SeatAdjacencyIndex adjacency;
+    private final Map<Long, Integer> indexBySeatId;
+    private final ConcurrentHashMap<Long, SeatState> seats;
+
+    private final AtomicLong versionSource;
+    private final AtomicLong version = new AtomicLong();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final SeatChangeRing changes;
+
+    private SeatCell[] cells;
+    private volatile SeatMapSnapshot snapshot;
+    private volatile SeatStatusBitmap bitmap;
+
+    EventSeatInventory(
+            long eventId,
+            Long eventVersion,
+            List<SeatLayout> layout,
+            Map<Long, SeatState> initial,
+            AtomicLong versionSource
+    ) {
+        this.eventId = eventId;
+        this.eventVersion = eventVersion;
+        this.layout = List.copyOf(layout);
+        this.layoutDocument = SeatLayoutDocument.of(eventId, this.layout);
+        this.adjacency = SeatAdjacencyIndex.of(this.layout);
+        this.indexBySeatId = new HashMap<>(layout.size() * 2);
+        for (int i = 0; i < layout.size(); i++) {
+            indexBySeatId.put(layout.get(i).seatId(), i);
+        }
+        this.seats = new ConcurrentHashMap<>(initial);
+        this.versionSource = versionSource;
+        this.version.set(versionSource.incrementAndGet());
+        this.changes = new SeatChangeRing(CHANGE_RING_CAPACITY, version.get());
+    }
+
+    long eventId() {
+        return eventId;
+    }
+
+    Long eventVersion() {
+        return eventVersion;
+    }
+
+    int size() {
+        return seats.size();
+    }
+
+    SeatState get(long seatId) {
+        return seats.get(seatId);
+    }
+
+    long version() {
+        return version.get();
+    }
+
+    long priceOf(long seatId) {
+        Integer index = indexBySeatId.get(seatId);
+        if (index == null) {
+            throw new IllegalStateException("seat not in layout: eventId=" + eventId + ", seatId=" + seatId);
+        }
+        return layout.get(index).price();
+    }
+
+    boolean tryHold(HoldReservation reservation, Instant now) {
+        SeatState held = SeatState.held(reservation);
+        List<Long> acquired = new ArrayList<>(reservation.getSeatIds().size());
+        for (Long seatId : reservation.getSeatIds()) {
+            if (!claim(seatId, held, now)) {
+                for (Long rollback : acquired) {
+                    replace(rollback, held, SeatState.AVAILABLE);
+                }
+                return false;
+            }
+            acquired.add(seatId);
+        }
+        return true;
+    }
+
+    /**
+     * zone 안에서 인접한 count석을 골라 선점한다(앞 열, 열 가운데 우선).
+     * 후보 구간이 모두 선점 가능해 보일 때만 tryHold로 CAS 하고, 그 사이 다른 요청에 지면 다음 후보로 넘어간다.
+     */
+    Optional<HoldReservation> tryHoldBestAvailable(String zoneCode, int count, Instant expiresAt, Instant now) {
+        HoldReservation[] won = new HoldReservation[1];
+        adjacency.forEachWindow(zoneCode, count, window -> {
+            for (Long seatId : window) {
+                SeatState cur = seats.get(seatId);
+                if (cur == null || !cur.isClaimable(now)) {
+                    return false;
+                }
+            }
+            HoldReservation reservation = HoldReservation.pending(eventId, window.stream().sorted().toList(), expiresAt);
+            if (!tryHold(reservation, now)) {
+                return false;
+            }
+            won[0] = reservation;
+            return true;
+        });
+        return Optional.ofNullable(won[0]);
+    }
+
+    /**
+     * 해당 reservation이 잡고 있는 좌석만 AVAILABLE로 되돌린다.
+     */
+    void release(HoldReservation reservation) {
+        SeatState held = SeatState.held(reservation);
+        for (Long seatId : reservation.getSeatIds()) {
+            replace(seatId, held, SeatState.AVAILABLE);
+        }
+    }
+
+    void markSold(List<Long> seatIds) {
+        for (Long seatId : seatIds) {
+            if (seats.replace(seatId, SeatState.SOLD) != null) {
+                changed(seatId);
+            }
+        }
+    }
+
+    int releaseExpired(Instant now) {
+        int released = 0;
+        for (Map.Entry<Long, SeatState> e : seats.entrySet()) {
+            SeatState cur = e.getValue();
+            if (cur.status() == SeatStatus.HELD && cur.reservation().isExpired(now)
+                    && replace(e.getKey(), cur, SeatState.AVAILABLE)) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    /**
+     * DB 상태(다른 노드의 confirm/HOLD 포함)를 반영하고 바뀐 좌석 수를 돌려준다.
+     * - DB에서 SOLD면 SOLD(markSold와 같이 무조건)
+     * - 만료 전 HOLD가 있으면 선점 가능한 좌석(AVAILABLE, 만료된 HELD)만 HELD로. 이 노드의 진행 중 HOLD는 그대로
+     * - 만료된 HELD는 AVAILABLE로
+     */
+    int reconcile(List<Long> soldSeatIds, Map<Long, HoldReservation> heldBySeat, Instant now) {
+        int changed = 0;
+        for (Long seatId : soldSeatIds) {
+            SeatState cur = seats.get(seatId);
+            if (cur != null && cur.status() != SeatStatus.SOLD && replace(seatId, cur, SeatState.SOLD)) {
+                changed++;
+            }
+        }
+        for (Map.Entry<Long, HoldReservation> e : heldBySeat.entrySet()) {
+            SeatState cur = seats.get(e.getKey());
+            if (cur != null && cur.isClaimable(now) && replace(e.getKey(), cur, SeatState.held(e.getValue()))) {
+                changed++;
+            }
+        }
+        return changed + releaseExpired(now);
+    }
+
+    /**
+     * 마지막 스냅샷 이후 바뀐 좌석만 반영한다. 바뀐 게 없으면 같은 인스턴스를 돌려준다.
+     */
+    SeatMapSnapshot snapshot() {
+        SeatMapSnapshot cur = snapshot;
+        if (cur != null && cur.version() == version.get()) {
+            return cur;
+        }
+        synchronized (this) {
+            long v = version.get();
+            if (snapshot != null && snapshot.version() == v) {
+                return snapshot;
+            }
+            SeatCell[] next;
+            if (cells == null) {
+                dirty.clear();
+                next = new SeatCell[layout.size()];
+                for (int i = 0; i < next.length; i++) {
+                    next[i] = cell(layout.get(i));
+                }
+            } else {
+                next = cells.clone();
+                for (Long seatId : drainDirty()) {
+                    Integer idx = indexBySeatId.get(seatId);
+                    if (idx != null) {
+                        next[idx] = cell(layout.get(idx));
+                    }
+                }
+            }
+            cells = next;
+            snapshot = new SeatMapSnapshot(eventId, v, Collections.unmodifiableList(Arrays.asList(next)));
+            return snapshot;
+        }
+    }
+
+    SeatLayoutDocument layoutDocument() {
+        return layoutDocument;
+    }
+
+    /**
+     * 스냅샷과 같은 version의 상태 비트맵. 동시에 만들어져도 결과가 같으므로 마지막 것을 남긴다.
+     */
+    SeatStatusBitmap bitmap() {
+        SeatMapSnapshot snap = snapshot();
+        SeatStatusBitmap cur = bitmap;
+        if (cur != null && cur.version() == snap.version()) {
+            return cur;
+        }
+        SeatStatusBitmap next = SeatStatusBitmap.of(snap, layoutDocument.layoutId());
+        bitmap = next;
+        return next;
+    }
+
+    /**
+     * sinceVersion 이후 바뀐 좌석들. ring 범위를 벗어났거나, 이 인벤토리 적재 이전/현재보다 앞선
+     * (다른 노드가 발급한) version이면 empty.
+     */
+    Optional<SeatMapDelta> changesSince(long sinceVersion) {
+        synchronized (changes) {
+            long current = version.get();
+            if (sinceVersion > current) {
+                return Optional.empty();
+            }
+            if (sinceVersion == current) {
+                return Optional.of(new SeatMapDelta(eventId, sinceVersion, current, List.of()));
+            }
+            return Optional.ofNullable(changes.since(sinceVersion))
+                    .map(list -> new SeatMapDelta(eventId, sinceVersion, current, list));
+        }
+    }
+
+    private List<Long> drainDirty() {
+        List<Long> drained = new ArrayList<>(dirty.size());
+        for (Long seatId : dirty) {
+            if (dirty.remove(seatId)) {
+                drained.add(seatId);
+            }
+        }
+        return drained;
+    }
+
+    private SeatCell cell(SeatLayout seat) {
+        SeatState state = seats.get(seat.seatId());
+        SeatStatus status = state == null ? SeatStatus.AVAILABLE : state.status();
+        return new SeatCell(seat.seatId(), seat.zoneCode(), seat.seatNo(), seat.price(), status);
+    }
+
+    private boolean claim(Long seatId, SeatState next, Instant now) {
+        while (true) {
+            SeatState cur = seats.get(seatId);
+            if (cur == null || !cur.isClaimable(now)) {
+                return false;
+            }
+            if (replace(seatId, cur, next)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean replace(Long seatId, SeatState expected, SeatState next) {
+        if (!seats.replace(seatId, expected, next)) {
+            return false;
+        }
+        changed(seatId);
+        return true;
+    }
+
+    /**
+     * dirty 기록 → (ring 기록 + version 증가) 순서. 스냅샷이 version을 먼저 읽으므로 변경을 놓치지 않는다.
+     * ring에는 기록 시점의 최신 상태를 남긴다 → 같은 좌석의 변경이 뒤섞여도 마지막 기록이 최종 상태.
+     */
+    private void changed(Long seatId) {
+        dirty.add(seatId);
+        synchronized (changes) {
+            long next = versionSource.incrementAndGet();
+            SeatState state = seats.get(seatId);
+            changes.append(next, seatId, state == null ? SeatStatus.AVAILABLE : state.status());
+            version.set(next);
+        }
+    }
+
+    record SeatLayout(long seatId, String zoneCode, String seatNo, long price) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.ticket.inventory;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 메모리 인벤토리에서 한 번의 HOLD가 잡은 좌석 묶음.
+ * - equals/hashCode를 재정의하지 않는다(동일성 비교) → 같은 좌석이라도 다른 HOLD의 상태를 덮어쓰지 않음
+ * - holdGroupId는 DB에 hold_groups가 저장된 뒤 bind 된다
+ */
+@Getter
+public final class HoldReservation {
+
+    private final long eventId;
+    private final List<Long> seatIds;
+    private final Instant expiresAt;
+    private volatile Long holdGroupId;
+
+    private HoldReservation(long eventId, List<Long> seatIds, Instant expiresAt, Long holdGroupId) {
+        this.eventId = eventId;
+        this.seatIds = List.copyOf(seatIds);
+        this.expiresAt = Objects.requireNonNull(expiresAt);
+        this.holdGroupId = holdGroupId;
+    }
+
+    public static HoldReservation pending(long eventId, List<Long> seatIds, Instant expiresAt) {
+        return new HoldReservation(eventId, seatIds, expiresAt, null);
+    }
+
+    public static HoldReservation persisted(long eventId, List<Long> seatIds, Instant expiresAt, long holdGroupId) {
+        return new HoldReservation(eventId, seatIds, expiresAt, holdGroupId);
+    }
+
+    public void bind(Long holdGroupId) {
+        this.holdGroupId = Objects.requireNonNull(holdGroupId);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
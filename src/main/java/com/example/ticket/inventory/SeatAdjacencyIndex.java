@@ -0,0 +1,153 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.inventory.EventSeatInventory.SeatLayout;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 구역(zoneCode)별 열/좌석 번호 인덱스. seatNo를 "열 + 번호"로 해석한다("A-12", "A12", "B 7", "12").
+ * - 같은 열에서 번호가 1씩 이어지는 좌석을 인접으로 본다
+ * - 번호를 해석할 수 없는 좌석은 1석 요청에만 쓰인다
+ * - 좌석 구성은 적재 후 바뀌지 않으므로 불변(상태는 EventSeatInventory가 따로 본다)
+ */
+final class SeatAdjacencyIndex {
+
+    private static final Pattern SEAT_NO = Pattern.compile("^(.*?)[-_ ]?(\\d{1,9})$");
+    private static final Comparator<String> ROW_ORDER = Comparator.comparingInt(String::length)
+            .thenComparing(Comparator.naturalOrder());
+
+    private final Map<String, List<Row>> rowsByZone;
+
+    private SeatAdjacencyIndex(Map<String, List<Row>> rowsByZone) {
+        this.rowsByZone = rowsByZone;
+    }
+
+    static SeatAdjacencyIndex of(List<SeatLayout> layout) {
+        Map<String, Map<String, List<Position>>> grouped = new HashMap<>();
+        for (SeatLayout seat : layout) {
+            if (seat.zoneCode() == null || seat.seatNo() == null) {
+                continue;
+            }
+            Matcher m = SEAT_NO.matcher(seat.seatNo().trim());
+            String row;
+            int number;
+            if (m.matches()) {
+                row = m.group(1);
+                number = Integer.parseInt(m.group(2));
+            } else {
+                row = seat.seatNo();
+                number = Integer.MIN_VALUE;
+            }
+            grouped.computeIfAbsent(seat.zoneCode(), z -> new HashMap<>())
+                    .computeIfAbsent(row, r -> new ArrayList<>())
+                    .add(new Position(seat.seatId(), number));
+        }
+
+        Map<String, List<Row>> rowsByZone = new HashMap<>();
+        grouped.forEach((zone, rows) -> {
+            Map<String, Row> ordered = new LinkedHashMap<>();
+            rows.keySet().stream().sorted(ROW_ORDER).forEach(label -> ordered.put(label, Row.of(rows.get(label))));
+            rowsByZone.put(zone, List.copyOf(ordered.values()));
+        });
+        return new SeatAdjacencyIndex(rowsByZone);
+    }
+
+    /**
+     * 앞 열부터, 열 안에서는 가운데에 가까운 순으로 count석 연속 구간을 넘긴다.
+     * attempt가 true를 돌려주면(선점 성공) 멈추고 true.
+     */
+    boolean forEachWindow(String zoneCode, int count, Predicate<List<Long>> attempt) {
+        if (count <= 0) {
+            return false;
+        }
+        for (Row row : rowsByZone.getOrDefault(zoneCode, List.of())) {
+            if (row.tryWindows(count, attempt)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Position(long seatId, int number) {
+    }
+
+    private static final class Row {
+        private final long[] seatIds;
+        private final int[] numbers;
+
+        private Row(long[] seatIds, int[] numbers) {
+            this.seatIds = seatIds;
+            this.numbers = numbers;
+        }
+
+        private static Row of(List<Position> positions) {
+            List<Position> sorted = positions.stream().sorted(Comparator.comparingInt(Position::number)).toList();
+            long[] seatIds = new long[sorted.size()];
+            int[] numbers = new int[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                seatIds[i] = sorted.get(i).seatId();
+                numbers[i] = sorted.get(i).number();
+            }
+            return new Row(seatIds, numbers);
+        }
+
+        /**
+         * 가운데 시작점에서 좌우로 번갈아 넓혀 가며 시도(정렬 없이 중앙 우선).
+         */
+        private boolean tryWindows(int count, Predicate<List<Long>> attempt) {
+            int lastStart = seatIds.length - count;
+            if (lastStart < 0) {
+                return false;
+            }
+            int center = lastStart / 2;
+            for (int d = 0; d <= Math.max(center, lastStart - center); d++) {
+                if (tryWindow(center - d, count, attempt)) {
+                    return true;
+                }
+                if (d > 0 && tryWindow(center + d, count, attempt)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean tryWindow(int start, int count, Predicate<List<Long>> attempt) {
+            if (start < 0 || start + count > seatIds.length || !contiguous(start, count)) {
+                return false;
+            }
+            List<Long> window = new ArrayList<>(count);
+            for (int i = start; i < start + count; i++) {
+                window.add(seatIds[i]);
+            }
+            return attempt.test(window);
+        }
+
+        private boolean contiguous(int start, int count) {
+            if (count == 1) {
+                return true;
+            }
+            if (numbers[start] == Integer.MIN_VALUE) {
+                return false;
+            }
+            return (long) numbers[start + count - 1] - numbers[start] == count - 1
+                    && allDistinct(start, count);
+        }
+
+        private boolean allDistinct(int start, int count) {
+            for (int i = start + 1; i < start + count; i++) {
+                if (numbers[i] == numbers[i - 1]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.domain.event.SeatStatus;
+import com.example.ticket.inventory.SeatMapDelta.SeatChange;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트별 좌석 상태 변경 기록(append-only 고정 크기 ring).
+ * - 가득 차면 가장 오래된 기록을 덮어쓰고, 덮어쓴 version을 floor로 올린다
+ * - floor 이하 version부터의 변경은 더 이상 보장하지 못함 → 호출자는 전체 스냅샷으로 대체
+ * 스레드 안전하지 않다 → 소유자(EventSeatInventory)가 락을 잡고 호출한다.
+ */
+final class SeatChangeRing {
+
+    private final long[] versions;
+    private final long[] seatIds;
+    private final SeatStatus[] statuses;
+    private long appended;
+    private long floor;
+
+    SeatChangeRing(int capacity, long floor) {
+        this.versions = new long[capacity];
+        this.seatIds = new long[capacity];
+        this.statuses = new SeatStatus[capacity];
+        this.floor = floor;
+    }
+
+    void append(long version, long seatId, SeatStatus status) {
+        int idx = (int) (appended % versions.length);
+        if (appended >= versions.length) {
+            floor = versions[idx];
+        }
+        versions[idx] = version;
+        seatIds[idx] = seatId;
+        statuses[idx] = status;
+        appended++;
+    }
+
+    /**
+     * sinceVersion 이후 바뀐 좌석의 마지막 상태(좌석당 1건, 변경 순).
+     * ring이 이미 그 구간을 덮어썼으면 null.
+     */
+    List<SeatChange> since(long sinceVersion) {
+        if (sinceVersion < floor) {
+            return null;
+        }
+        long from = Math.max(0, appended - versions.length);
+        Map<Long, SeatStatus> latest = new LinkedHashMap<>();
+        for (long i = from; i < appended; i++) {
+            int idx = (int) (i % versions.length);
+            if (versions[idx] > sinceVersion) {
+                latest.remove(seatIds[idx]);
+                latest.put(seatIds[idx], statuses[idx]);
+            }
+        }
+        List<SeatChange> changes = new ArrayList<>(latest.size());
+        latest.forEach((seatId, status) -> changes.add(new SeatChange(seatId, status)));
+        return changes;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.common.AfterTransaction;
+import com.example.ticket.domain.event.EventVersion;
+import com.example.ticket.domain.event.SeatStatus;
+import com.example.ticket.domain.hold.HoldTimes;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.inventory.EventSeatInventory.SeatLayout;
+import com.example.ticket.repository.EventRepository;
+import com.example.ticket.repository.HoldSeatStore;
+import com.example.ticket.repository.HoldSeatStore.HeldSeat;
+import com.example.ticket.repository.SeatRepository;
+import com.example.ticket.repository.dto.HeldSeatPrice;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트별 좌석 상태(AVAILABLE / HELD / SOLD)를 메모리에 들고 HOLD 경합을 먼저 판정한다.
+ * - 메모리에서 진 요청은 DB에 가지 않고 SEAT_NOT_AVAILABLE
+ * - 이긴 요청만 DB에 HOLD를 쓴다(다른 노드의 HOLD는 모르므로 DB 조건부 쓰기가 최종 판정, HoldSeatStore)
+ * - 이벤트 최초 접근 시 seats + 만료 전 HOLD로 재구성
+ * - 다른 노드의 HOLD/confirm은 주기적으로 DB와 맞춰 반영(reconcile), 좌석 구성 변경은 events.version으로 감지해 다시 적재
+ * - DB 트랜잭션 결과에 맞춰 commit/rollback 이후에만 상태를 확정/되돌림
+ * - 같은 상태로 좌석 배치도 스냅샷(AVAILABLE/HELD/SOLD + version)을 만든다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatInventory {
+
+    private final SeatRepository seatRepository;
+    private final EventRepository eventRepository;
+    private final HoldSeatStore holdSeatStore;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<Long, EventSeatInventory> events = new ConcurrentHashMap<>();
+    /**
+     * 모든 이벤트가 공유하는 스냅샷 version 발급기. 재시작 후에도 줄어들지 않도록 기동 시각(µs 단위)에서 시작.
+     */
+    private final AtomicLong versions = new AtomicLong(Instant.now().toEpochMilli() * 1_000);
+
+    /**
+     * seatIds는 정렬/중복 제거된 상태여야 한다(SeatIdsCodec.normalize).
+     */
+    public Optional<HoldReservation> tryHold(long eventId, List<Long> seatIds, Instant expiresAt, Instant now) {
+        HoldReservation reservation = HoldReservation.pending(eventId, seatIds, expiresAt);
+        if (!inventory(eventId).tryHold(reservation, now)) {
+            return Optional.empty();
+        }
+        return Optional.of(reservation);
+    }
+
+    /**
+     * 좌석 지정 없이 zone에서 인접 count석을 메모리에서 골라 선점한다(All-or-Nothing).
+     */
+    public Optional<HoldReservation> tryHoldBestAvailable(
+            long eventId,
+            String zoneCode,
+            int count,
+            Instant expiresAt,
+            Instant now
+    ) {
+        return inventory(eventId).tryHoldBestAvailable(zoneCode, count, expiresAt, now);
+    }
+
+    /**
+     * 선점한 좌석의 배치도 가격. group commit 배치는 seats를 다시 읽지 않고 이 값으로 hold_group_seats를 쓴다.
+     */
+    public List<HeldSeatPrice> pricesOf(HoldReservation reservation) {
+        EventSeatInventory inventory = inventory(reservation.getEventId());
+        return reservation.getSeatIds().stream()
+                .map(seatId -> new HeldSeatPrice(seatId, inventory.priceOf(seatId)))
+                .toList();
+    }
+
+    /**
+     * HOLD 트랜잭션이 rollback 되면 메모리 선점도 되돌린다.
+     */
+    public void releaseOnRollback(HoldReservation reservation) {
+        AfterTransaction.onRollback(() -> release(reservation));
+    }
+
+    public void release(HoldReservation reservation) {
+        EventSeatInventory inventory = events.get(reservation.getEventId());
+        if (inventory != null) {
+            inventory.release(reservation);
+        }
+    }
+
+    public void markSoldOnCommit(long eventId, List<Long> seatIds) {
+        List<Long> sold = List.copyOf(seatIds);
+        AfterTransaction.onCommit(() -> {
+            EventSeatInventory inventory = events.get(eventId);
+            if (inventory != null) {
+                inventory.markSold(sold);
+            }
+        });
+    }
+
+    public void releaseExpiredOnCommit(Instant now) {
+        AfterTransaction.onCommit(() -> events.values().forEach(inventory -> inventory.releaseExpired(now)));
+    }
+
+    /**
+     * 좌석 구성이 바뀌면(bulkReplace) 다음 접근 시 DB에서 다시 적재한다.
+     */
+    public void evictOnCommit(long eventId) {
+        AfterTransaction.onCommit(() -> events.remove(eventId));
+    }
+
+    public void load(long eventId) {
+        events.put(eventId, build(eventId));
+    }
+
+    /**
+     * evictOnCommit은 이 노드에만 적용되므로, 적재된 이벤트를 DB(SOLD 좌석 + 만료 전 HOLD)와 주기적으로 맞춘다.
+     * 선점 가능한 상태만 덮어써 이 노드에서 진행 중인 HOLD는 건드리지 않는다. 바뀐 좌석은 version/change ring에
+     * 남으므로 스냅샷, 비트맵, delta, SSE에 그대로 반영된다.
+     * events.version이 적재 시점과 다르면(다른 노드의 bulkReplace 등) 맞추지 않고 버려 다음 접근 시 다시 적재한다.
+     */
+    @Scheduled(fixedDelayString = "${ticket.inventory.reconcile-interval:5s}")
+    public void reconcile() {
+        if (events.isEmpty()) {
+            return;
+        }
+        Instant now = HoldTimes.now(clock);
+        Map<Long, Long> eventVersions = new HashMap<>();
+        for (EventVersion v : eventRepository.findVersionsByIdIn(List.copyOf(events.keySet()))) {
+            eventVersions.put(v.eventId(), v.version());
+        }
+        events.forEach((eventId, inventory) -> {
+            if (!Objects.equals(inventory.eventVersion(), eventVersions.get(eventId))) {
+                events.remove(eventId, inventory);
+                log.info("seat inventory evicted eventId={} version {} -> {}",
+                        eventId, inventory.eventVersion(), eventVersions.get(eventId));
+                return;
+            }
+            List<Long> sold = seatRepository.findIdsByEventIdAndStatus(eventId, SeatStatus.SOLD);
+            int changed = inventory.reconcile(sold, activeHoldsBySeat(eventId, now), now);
+            if (changed > 0) {
+                log.debug("seat inventory reconciled eventId={} changed={}", eventId, changed);
+            }
+        });
+    }
+
+    /**
+     * 좌석 배치도 + 현재 상태. 바뀐 좌석만 직전 스냅샷에 덮어쓰므로 폴링은 DB를 타지 않는다.
+     */
+    public SeatMapSnapshot snapshot(long eventId) {
+        return inventory(eventId).snapshot();
+    }
+
+    /**
+     * 정적 배치도(좌석 index → seatId/zoneCode/seatNo/price). 좌석 구성이 바뀌지 않는 한 layoutId가 같다.
+     */
+    public SeatLayoutDocument layout(long eventId) {
+        return inventory(eventId).layoutDocument();
+    }
+
+    /**
+     * 현재 version의 2bit 상태 비트맵(좌석 순서는 layout과 동일).
+     */
+    public SeatStatusBitmap bitmap(long eventId) {
+        return inventory(eventId).bitmap();
+    }
+
+    /**
+     * sinceVersion 이후 바뀐 좌석만. change ring 범위를 벗어나면 empty → 호출자가 전체 스냅샷으로 대체.
+     */
+    public Optional<SeatMapDelta> changesSince(long eventId, long sinceVersion) {
+        return inventory(eventId).changesSince(sinceVersion);
+    }
+
+    public Optional<SeatState> stateOf(long eventId, long seatId) {
+        return Optional.ofNullable(events.get(eventId)).map(inventory -> inventory.get(seatId));
+    }
+
+    EventSeatInventory inventory(long eventId) {
+        return events.computeIfAbsent(eventId, this::build);
+    }
+
+    private EventSeatInventory build(long eventId) {
+        Instant now = HoldTimes.now(clock);
+        // 좌석보다 먼저 읽는다: 그 사이 좌석 구성이 바뀌면 다음 reconcile에서 version이 달라 다시 적재된다
+        Long eventVersion = eventRepository.findVersionsByIdIn(List.of(eventId)).stream()
+                .findFirst()
+                .map(EventVersion::version)
+                .orElse(null);
+
+        List<SeatLayout> layout = new ArrayList<>();
+        Map<Long, SeatState> states = new HashMap<>();
+        for (Seat seat : seatRepository.findAllByEventIdOrderByZoneCodeAscSeatNoAsc(eventId)) {
+            layout.add(new SeatLayout(seat.getId(), seat.getZoneCode(), seat.getSeatNo(), seat.getPrice()));
+            states.put(seat.getId(), seat.getStatus() == SeatStatus.SOLD ? SeatState.SOLD : SeatState.AVAILABLE);
+        }
+
+        Map<Long, HoldReservation> holds = activeHoldsBySeat(eventId, now);
+        holds.forEach((seatId, reservation) -> states.computeIfPresent(
+                seatId, (id, cur) -> cur.status() == SeatStatus.SOLD ? cur : SeatState.held(reservation)));
+
+        log.info("seat inventory loaded eventId={} seats={} heldSeats={}", eventId, states.size(), holds.size());
+        return new EventSeatInventory(eventId, eventVersion, layout, states, versions);
+    }
+
+    /**
+     * 만료 전 HOLD를 group 단위 reservation으로 묶어 좌석별로 돌려준다.
+     */
+    private Map<Long, HoldReservation> activeHoldsBySeat(long eventId, Instant now) {
+        Map<Long, HoldReservation> bySeat = new HashMap<>();
+        holdSeatStore.findActiveHolds(eventId, now)
+                .stream()
+                .collect(Collectors.groupingBy(HeldSeat::holdGroupId))
+                .forEach((holdGroupId, rows) -> {
+                    HoldReservation reservation = HoldReservation.persisted(
+                            eventId,
+                            rows.stream().map(HeldSeat::seatId).sorted().toList(),
+                            rows.get(0).expiresAt(),
+                            holdGroupId
+                    );
+                    for (HeldSeat row : rows) {
+                        bySeat.put(row.seatId(), reservation);
+                    }
+                });
+        return bySeat;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.domain.event.Event;
+import com.example.ticket.domain.event.EventStatus;
+import com.example.ticket.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 OPEN 이벤트의 좌석 인벤토리를 미리 적재한다(첫 HOLD 요청이 적재 비용을 내지 않도록).
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatInventoryWarmup implements ApplicationRunner {
+
+    private final EventRepository eventRepository;
+    private final SeatInventory seatInventory;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (Event event : eventRepository.findAllByStatus(EventStatus.OPEN)) {
+            seatInventory.load(event.getId());
+        }
+    }
+}
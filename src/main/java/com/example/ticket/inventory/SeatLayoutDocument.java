@@ -0,0 +1,50 @@
+package com.example.ticket.inventory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 좌석 배치도의 정적 부분(좌석 index → seatId/zoneCode/seatNo/price). 상태는 담지 않는다.
+ * index는 SeatStatusBitmap의 좌석 순서와 같다(zoneCode, seatNo 정렬).
+ * layoutId는 내용 해시라 좌석 구성이 바뀌지 않는 한 재적재/재시작을 거쳐도 같다.
+ */
+public record SeatLayoutDocument(long eventId, String layoutId, List<SeatLayoutCell> seats) {
+
+    public record SeatLayoutCell(long seatId, String zoneCode, String seatNo, long price) {
+    }
+
+    static SeatLayoutDocument of(long eventId, List<EventSeatInventory.SeatLayout> layout) {
+        MessageDigest digest = sha256();
+        ByteBuffer buf = ByteBuffer.allocate(2 * Long.BYTES);
+        List<SeatLayoutCell> cells = layout.stream()
+                .map(s -> new SeatLayoutCell(s.seatId(), s.zoneCode(), s.seatNo(), s.price()))
+                .toList();
+        for (SeatLayoutCell cell : cells) {
+            buf.clear();
+            digest.update(buf.putLong(cell.seatId()).putLong(cell.price()).array());
+            update(digest, cell.zoneCode());
+            update(digest, cell.seatNo());
+        }
+        String layoutId = HexFormat.of().formatHex(digest.digest(), 0, 12);
+        return new SeatLayoutDocument(eventId, layoutId, cells);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
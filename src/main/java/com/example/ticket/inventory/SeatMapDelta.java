@@ -0,0 +1,14 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.domain.event.SeatStatus;
+
+import java.util.List;
+
+/**
+ * sinceVersion 이후 상태가 바뀐 좌석 목록. version은 이 delta를 적용한 뒤의 스냅샷 version.
+ */
+public record SeatMapDelta(long eventId, long sinceVersion, long version, List<SeatChange> changes) {
+
+    public record SeatChange(long seatId, SeatStatus status) {
+    }
+}
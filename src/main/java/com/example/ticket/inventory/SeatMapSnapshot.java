@@ -0,0 +1,15 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.domain.event.SeatStatus;
+
+import java.util.List;
+
+/**
+ * 이벤트 좌석 배치도의 불변 스냅샷(좌석 정렬: zoneCode, seatNo).
+ * version은 좌석 상태가 바뀔 때마다 증가하고, 재적재(evict 후 load)를 거쳐도 줄어들지 않는다.
+ */
+public record SeatMapSnapshot(long eventId, long version, List<SeatCell> seats) {
+
+    public record SeatCell(long seatId, String zoneCode, String seatNo, long price, SeatStatus status) {
+    }
+}
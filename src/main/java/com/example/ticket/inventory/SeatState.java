@@ -0,0 +1,31 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.domain.event.SeatStatus;
+
+import java.time.Instant;
+
+/**
+ * 좌석 1개의 메모리 상태(불변). 교체는 항상 ConcurrentHashMap.replace(key, old, new)로만 한다.
+ * HELD는 reservation을 동일성으로 비교하므로 다른 HOLD가 잡은 상태와 구분된다.
+ */
+public record SeatState(SeatStatus status, HoldReservation reservation) {
+
+    public static final SeatState AVAILABLE = new SeatState(SeatStatus.AVAILABLE, null);
+    public static final SeatState SOLD = new SeatState(SeatStatus.SOLD, null);
+
+    public static SeatState held(HoldReservation reservation) {
+        return new SeatState(SeatStatus.HELD, reservation);
+    }
+
+    /**
+     * 새 HOLD가 가져갈 수 있는 상태인지: AVAILABLE 이거나, 만료된 HELD
+     */
+    public boolean isClaimable(Instant now) {
+        return status == SeatStatus.AVAILABLE
+                || (status == SeatStatus.HELD && reservation.isExpired(now));
+    }
+
+    public boolean isHeldBy(HoldReservation other) {
+        return status == SeatStatus.HELD && reservation == other;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.domain.event.SeatStatus;
+
+import java.util.List;
+
+/**
+ * 좌석당 2bit 상태 비트맵(version 단위). 좌석 i는 bits[i / 4]의 (i % 4) * 2 번째 비트부터 2bit.
+ * 값: 0 = AVAILABLE, 1 = HELD, 2 = SOLD. 좌석 순서/정적 정보는 layoutId의 SeatLayoutDocument를 따른다.
+ * bits는 공유되는 배열이므로 수정하지 말 것.
+ */
+public record SeatStatusBitmap(long eventId, long version, String layoutId, int seatCount, byte[] bits) {
+
+    static SeatStatusBitmap of(SeatMapSnapshot snapshot, String layoutId) {
+        List<SeatMapSnapshot.SeatCell> seats = snapshot.seats();
+        byte[] bits = new byte[(seats.size() + 3) / 4];
+        for (int i = 0; i < seats.size(); i++) {
+            bits[i >> 2] |= (byte) (code(seats.get(i).status()) << ((i & 3) * 2));
+        }
+        return new SeatStatusBitmap(snapshot.eventId(), snapshot.version(), layoutId, seats.size(), bits);
+    }
+
+    public SeatStatus statusAt(int index) {
+        return switch ((bits[index >> 2] >> ((index & 3) * 2)) & 0b11) {
+            case 0 -> SeatStatus.AVAILABLE;
+            case 1 -> SeatStatus.HELD;
+            default -> SeatStatus.SOLD;
+        };
+    }
+
+    private static int code(SeatStatus status) {
+        return switch (status) {
+            case AVAILABLE -> 0;
+            case HELD -> 1;
+            case SOLD -> 2;
+        };
+    }
+}
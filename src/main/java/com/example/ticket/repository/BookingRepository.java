@@ -3,9 +3,11 @@ package com.example.ticket.repository;
 import com.example.ticket.domain.booking.Booking;
 import com.example.ticket.repository.dto.BookingItemAgg;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +17,21 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByUserId(long userId);
 
     Optional<Booking> findByIdAndUserId(long bookingId, long userId);
+
+    /**
+     * 같은 payment_tx_id 예매가 없을 때만 넣는다. 1이면 삽입, 0이면 이미 있음(uk_bookings_payment_tx, 예외 없음).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert ignore into bookings (booking_id, event_id, user_id, status, payment_tx_id, created_at, updated_at)
+            values (:id, :eventId, :userId, :status, :paymentTxId, :now, :now)
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("id") long id,
+            @Param("eventId") long eventId,
+            @Param("userId") long userId,
+            @Param("status") String status,
+            @Param("paymentTxId") String paymentTxId,
+            @Param("now") Instant now
+    );
 }
@@ -1,13 +1,51 @@
 package com.example.ticket.repository;
 
 import com.example.ticket.domain.idempotency.ConfirmIdempotency;
-import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.List;
 
 public interface ConfirmIdempotencyRepository extends JpaRepository<ConfirmIdempotency, Long> {
-    Optional<ConfirmIdempotency> findByPaymentTxId(@NotBlank String s);
+    /**
+     * paymentTxId, (userId, confirmKey) 두 유니크 키를 한 번에 조회(OR → 인덱스 union). 서로 다른 행이면 최대 2건.
+     */
+    @Query("""
+            select ci from ConfirmIdempotency ci
+             where ci.paymentTxId = :paymentTxId
+                or (ci.userId = :userId and ci.confirmKey = :confirmKey)
+            """)
+    List<ConfirmIdempotency> findByPaymentTxIdOrUserKey(
+            @Param("paymentTxId") String paymentTxId,
+            @Param("userId") long userId,
+            @Param("confirmKey") String confirmKey
+    );
 
-    Optional<ConfirmIdempotency> findByUserIdAndConfirmKey(long userId, String confirmIdempotencyKey);
+    /**
+     * payment_tx_id, (user_id, confirm_key) 둘 다 없을 때만 넣는다. 1이면 삽입, 0이면 이미 있음(예외 없음).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert ignore into confirm_idempotencies
+                   (confirm_idempotency_id, payment_tx_id, user_id, confirm_key, event_id, hold_group_id, booking_id,
+                    payment_status, total_amount, items, created_at, updated_at)
+            values (:id, :paymentTxId, :userId, :confirmKey, :eventId, :holdGroupId, :bookingId,
+                    :paymentStatus, :totalAmount, :items, :now, :now)
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("id") long id,
+            @Param("paymentTxId") String paymentTxId,
+            @Param("userId") long userId,
+            @Param("confirmKey") String confirmKey,
+            @Param("eventId") long eventId,
+            @Param("holdGroupId") long holdGroupId,
+            @Param("bookingId") long bookingId,
+            @Param("paymentStatus") String paymentStatus,
+            @Param("totalAmount") long totalAmount,
+            @Param("items") String items,
+            @Param("now") Instant now
+    );
 }
@@ -1,7 +1,30 @@
 package com.example.ticket.repository;
 
 import com.example.ticket.domain.event.Event;
+import com.example.ticket.domain.event.EventStatus;
+import com.example.ticket.domain.event.EventVersion;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
+    List<Event> findAllByStatus(EventStatus status);
+
+    @Query("""
+            select new com.example.ticket.domain.event.EventVersion(e.id, e.version)
+            from Event e
+            where e.id in :eventIds
+            """)
+    List<EventVersion> findVersionsByIdIn(List<Long> eventIds);
+
+    /**
+     * 좌석 구성 변경용: 커밋 시 version을 올려 다른 노드의 이벤트 캐시/좌석 인벤토리가 폴링으로 버리게 한다
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select e from Event e where e.id = :eventId")
+    Optional<Event> findByIdForVersionBump(long eventId);
 }
@@ -0,0 +1,102 @@
+package com.example.ticket.repository;
+
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.repository.dto.HeldSeatPrice;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좌석마다 hold_group_seats 행을 두는 기본 방식. 유니크 키(event_id, seat_id)가 노드 간 최종 판정.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ticket.hold", name = "storage", havingValue = "group-seats", matchIfMissing = true)
+@RequiredArgsConstructor
+public class GroupSeatHoldStore implements HoldSeatStore {
+
+    private final HoldGroupSeatRepository holdGroupSeatRepository;
+    private final SeatRepository seatRepository;
+    private final HoldGroupWriter holdGroupWriter;
+
+    @Override
+    public int hold(long eventId, List<Long> seatIds, long holdGroupId, Instant expiresAt, Instant now) {
+        return holdGroupSeatRepository.insertAvailableSeats(eventId, seatIds, expiresAt, holdGroupId);
+    }
+
+    /**
+     * INSERT IGNORE 한 문장으로 넣고, group별로 AVAILABLE 좌석에 들어간 행 수를 한 번 더 센다(문장 2개).
+     * 다른 노드가 HOLD 중인 좌석은 건너뛰어지고 SOLD 좌석 행은 집계에서 빠지므로, 진 group은 행 수가 좌석 수보다 적다.
+     */
+    @Override
+    public Set<Long> holdAll(List<SeatHold> holds, Instant now) {
+        if (holds.isEmpty()) {
+            return Set.of();
+        }
+        holdGroupWriter.insertSeatsIgnoringConflicts(holds);
+        Map<Long, Integer> held = new HashMap<>();
+        for (Long holdGroupId : holdGroupSeatRepository.findAvailableHeldSeatGroupIds(
+                holds.stream().map(SeatHold::holdGroupId).toList())) {
+            held.merge(holdGroupId, 1, Integer::sum);
+        }
+        Set<Long> lost = new HashSet<>();
+        for (SeatHold hold : holds) {
+            if (held.getOrDefault(hold.holdGroupId(), 0) != hold.seats().size()) {
+                lost.add(hold.holdGroupId());
+            }
+        }
+        return lost;
+    }
+
+    @Override
+    public void discard(List<Long> holdGroupIds) {
+        holdGroupSeatRepository.deleteAllByHoldGroupIds(holdGroupIds);
+    }
+
+    @Override
+    public List<HeldSeatPrice> findValidSeatPrices(long holdGroupId, long eventId, Instant now) {
+        return holdGroupSeatRepository.findValidSeatPrices(holdGroupId, eventId, now);
+    }
+
+    @Override
+    public long sumValidPrices(long holdGroupId, long eventId, Instant now) {
+        return holdGroupSeatRepository.sumValidPrices(holdGroupId, eventId, now);
+    }
+
+    @Override
+    public int markSold(long eventId, long holdGroupId, long userId, Instant now, List<Long> seatIds) {
+        return seatRepository.changeSeatsSoldByHold(eventId, holdGroupId, userId, now, seatIds);
+    }
+
+    @Override
+    public void deleteSold(long holdGroupId, long eventId, int seatCount) {
+        int deleted = holdGroupSeatRepository.deleteHoldGroupSeats(holdGroupId, eventId);
+        if (deleted != seatCount) {
+            log.debug("holdGroupSeatSize: {}", seatCount);
+            log.debug("holdGroupSeatsDeleteCount: {}", deleted);
+            throw new BusinessRuleViolationException(ErrorCode.HOLD_GROUP_SIZE_MISMATCH);
+        }
+    }
+
+    @Override
+    public int releaseExpired(List<Long> holdGroupIds) {
+        return holdGroupSeatRepository.deleteAllByHoldGroupIds(holdGroupIds);
+    }
+
+    @Override
+    public List<HeldSeat> findActiveHolds(long eventId, Instant now) {
+        return holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(eventId, now)
+                .stream()
+                .map(row -> new HeldSeat(row.getSeatId(), row.getHoldGroupId(), row.getExpiresAt()))
+                .toList();
+    }
+}
@@ -2,8 +2,8 @@ package com.example.ticket.repository;
 
 import com.example.ticket.domain.hold.HoldGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
@@ -11,7 +11,46 @@ import java.util.Optional;
 
 
 public interface HoldGroupRepository extends JpaRepository<HoldGroup, Long> {
-    void deleteAllByExpiresAtLessThanEqual(Instant now);
+
+    /**
+     * 만료된 hold group id를 expires_at 순으로 limit 개 잠근다(ix_hold_groups_expires_at).
+     * 동시에 도는 스윕은 같은 행에서 대기 후 빈 결과를 받으므로 카운터를 이중 차감하지 않는다.
+     */
+    @Query(value = """
+            select hold_group_id
+              from hold_groups
+             where expires_at <= :now
+             order by expires_at
+             limit :limit
+               for update
+            """, nativeQuery = true)
+    List<Long> lockExpiredIds(Instant now, int limit);
+
+    @Query(value = """
+            select hold_group_id
+              from hold_groups
+             where hold_group_id in (:holdGroupIds)
+               and expires_at <= :now
+               for update
+            """, nativeQuery = true)
+    List<Long> lockExpiredIdsIn(List<Long> holdGroupIds, Instant now);
+
+    /**
+     * 한 유저의 만료됐지만 아직 정리 안 된 group(ix_hold_groups_user_event). HOLD limit에 걸렸을 때만 쓴다.
+     */
+    @Query(value = """
+            select hold_group_id
+              from hold_groups
+             where user_id = :userId
+               and event_id = :eventId
+               and expires_at <= :now
+               for update
+            """, nativeQuery = true)
+    List<Long> lockExpiredIdsOfUser(long userId, long eventId, Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from HoldGroup hg where hg.id in :holdGroupIds")
+    int deleteAllByIds(List<Long> holdGroupIds);
 
     @Query("""
                 select hg
@@ -23,14 +62,4 @@ public interface HoldGroupRepository extends JpaRepository<HoldGroup, Long> {
             """)
     Optional<HoldGroup> findValidHoldGroup(long holdGroupId, long userId, long eventId, Instant now);
 
-    @Query("""
-            select hg.id
-            from HoldGroup hg
-            where hg.userId = :userId
-              and hg.eventId = :eventId
-              and hg.expiresAt > :now
-            """)
-    List<Long> findActiveIds(@Param("userId") long userId,
-                             @Param("eventId") long eventId,
-                             @Param("now") Instant now);
 }
@@ -1,16 +1,32 @@
 package com.example.ticket.repository;
 
 import com.example.ticket.domain.hold.HoldGroupSeat;
+import com.example.ticket.repository.dto.HeldSeatPrice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
 
 public interface HoldGroupSeatRepository extends JpaRepository<HoldGroupSeat, Long> {
-    int deleteAllByExpiresAtLessThanEqual(Instant now);
+    List<HoldGroupSeat> findAllByEventIdAndExpiresAtAfter(long eventId, Instant now);
+
+    /**
+     * AVAILABLE 좌석만 골라 hold 행을 한 번에 넣는다(INSERT ... SELECT 1 round trip). 좌석 가격도 함께 복사한다.
+     * 이미 HOLD 중인 좌석(uk_hold_group_seats_seat_id_event_id)은 예외 대신 건너뛴다(INSERT IGNORE).
+     * 반환값이 요청 좌석 수보다 작으면 일부 좌석이 SOLD/HELD/없는 좌석 → 호출자가 rollback.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert ignore into hold_group_seats (event_id, seat_id, expires_at, hold_group_id, price)
+            select s.event_id, s.seat_id, :expiresAt, :holdGroupId, s.price
+              from seats s
+             where s.event_id = :eventId
+               and s.seat_id in (:seatIds)
+               and s.status = 'AVAILABLE'
+            """, nativeQuery = true)
+    int insertAvailableSeats(long eventId, List<Long> seatIds, Instant expiresAt, long holdGroupId);
 
     @Query("""
             select hgs.seatId
@@ -22,6 +38,43 @@ public interface HoldGroupSeatRepository extends JpaRepository<HoldGroupSeat, Lo
             """)
     List<Long> findValidSeatIds(long holdGroupId, long eventId, Instant now);
 
+    @Query("""
+            select new com.example.ticket.repository.dto.HeldSeatPrice(hgs.seatId, hgs.price)
+            from HoldGroupSeat hgs
+            where hgs.holdGroupId = :holdGroupId
+              and hgs.eventId = :eventId
+              and hgs.expiresAt > :now
+            order by hgs.seatId asc
+            """)
+    List<HeldSeatPrice> findValidSeatPrices(long holdGroupId, long eventId, Instant now);
+
+    @Query("""
+            select coalesce(sum(hgs.price), 0)
+            from HoldGroupSeat hgs
+            where hgs.holdGroupId = :holdGroupId
+              and hgs.eventId = :eventId
+              and hgs.expiresAt > :now
+            """)
+    long sumValidPrices(long holdGroupId, long eventId, Instant now);
+
+    /**
+     * group commit 판정용: 주어진 group들이 AVAILABLE 좌석에 넣은 행마다 group id 하나
+     */
+    @Query(value = """
+            select hgs.hold_group_id
+              from hold_group_seats hgs
+              join seats s
+                on s.seat_id = hgs.seat_id
+               and s.event_id = hgs.event_id
+             where hgs.hold_group_id in (:holdGroupIds)
+               and s.status = 'AVAILABLE'
+            """, nativeQuery = true)
+    List<Long> findAvailableHeldSeatGroupIds(List<Long> holdGroupIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from HoldGroupSeat hgs where hgs.holdGroupId in :holdGroupIds")
+    int deleteAllByHoldGroupIds(List<Long> holdGroupIds);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
             delete from HoldGroupSeat hgs
@@ -30,8 +83,4 @@ public interface HoldGroupSeatRepository extends JpaRepository<HoldGroupSeat, Lo
             and hgs.eventId = :eventId
             """)
     int deleteHoldGroupSeats(long holdGroupId, long eventId);
-
-    long countByEventIdAndHoldGroupIdInAndExpiresAtAfter(long eventId,
-                                                         List<Long> holdGroupIds,
-                                                         Instant now);
 }
@@ -0,0 +1,83 @@
+package com.example.ticket.repository;
+
+import com.example.ticket.repository.HoldSeatStore.SeatHold;
+import com.example.ticket.repository.dto.HeldSeatPrice;
+import com.example.ticket.repository.dto.HoldGroupRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * HOLD 행을 native multi-row INSERT로 넣는다(ID는 미리 발급, persist/flush 없음).
+ * - 평소 HOLD는 hold_groups 1행 INSERT
+ * - group commit 배치는 hold_groups, hold_group_seats를 각각 문장 하나로
+ * hold_group_seats/seats claim과 FK가 없으므로 group 행이 나중에 들어가도 된다(같은 트랜잭션).
+ */
+@Component
+@RequiredArgsConstructor
+public class HoldGroupWriter {
+
+    private final EntityManager entityManager;
+
+    public void insert(HoldGroupRow row) {
+        insertAll(List.of(row));
+    }
+
+    public int insertAll(List<HoldGroupRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(96 + rows.size() * 20).append("""
+                insert into hold_groups
+                       (hold_group_id, user_id, event_id, expires_at, seat_count, total_amount, created_at, updated_at)
+                values\s""");
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int p = 1;
+        for (HoldGroupRow row : rows) {
+            query.setParameter(p++, row.holdGroupId());
+            query.setParameter(p++, row.userId());
+            query.setParameter(p++, row.eventId());
+            query.setParameter(p++, row.expiresAt());
+            query.setParameter(p++, row.seatCount());
+            query.setParameter(p++, row.totalAmount());
+            query.setParameter(p++, row.createdAt());
+            query.setParameter(p++, row.createdAt());
+        }
+        return query.executeUpdate();
+    }
+
+    /**
+     * 여러 HOLD의 좌석 행을 INSERT IGNORE 한 문장으로 넣는다. 이미 HOLD 중인 좌석(uk_hold_group_seats_seat_id_event_id)은
+     * 건너뛰므로 어느 group이 다 못 잡았는지는 호출자가 다시 센다(HoldGroupSeatRepository.findAvailableHeldSeatGroupIds).
+     */
+    public int insertSeatsIgnoringConflicts(List<SeatHold> holds) {
+        int rowCount = holds.stream().mapToInt(hold -> hold.seats().size()).sum();
+        if (rowCount == 0) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(96 + rowCount * 18).append("""
+                insert ignore into hold_group_seats (event_id, seat_id, expires_at, hold_group_id, price)
+                values\s""");
+        for (int i = 0; i < rowCount; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?)");
+        }
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int p = 1;
+        for (SeatHold hold : holds) {
+            for (HeldSeatPrice seat : hold.seats()) {
+                query.setParameter(p++, hold.eventId());
+                query.setParameter(p++, seat.seatId());
+                query.setParameter(p++, hold.expiresAt());
+                query.setParameter(p++, hold.holdGroupId());
+                query.setParameter(p++, seat.price());
+            }
+        }
+        return query.executeUpdate();
+    }
+}
@@ -14,6 +14,26 @@ public interface HoldIdempotencyRepository extends JpaRepository<HoldIdempotency
 
     Optional<HoldIdempotency> findByUserIdAndEventIdAndIdempotencyKey(long userId, long eventId, String idempotencyKey);
 
+    /**
+     * (userId, eventId, idempotencyKey)가 없을 때만 진행 중 행을 넣는다. 1이면 삽입, 0이면 이미 있음(예외 없음).
+     * H2는 MODE=MySQL로 같은 문법을 받는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert ignore into hold_idempotencies
+                   (hold_idempotency_id, user_id, idempotency_key, event_id, seat_ids_key, expires_at, created_at, updated_at)
+            values (:id, :userId, :idempotencyKey, :eventId, :seatIdsKey, :expiresAt, :now, :now)
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("id") long id,
+            @Param("userId") long userId,
+            @Param("eventId") long eventId,
+            @Param("idempotencyKey") String idempotencyKey,
+            @Param("seatIdsKey") String seatIdsKey,
+            @Param("expiresAt") Instant expiresAt,
+            @Param("now") Instant now
+    );
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
                 delete from HoldIdempotency h
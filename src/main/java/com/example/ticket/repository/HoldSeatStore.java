@@ -0,0 +1,71 @@
+package com.example.ticket.repository;
+
+import com.example.ticket.repository.dto.HeldSeatPrice;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * HOLD 좌석을 어디에 기록할지(ticket.hold.storage).
+ * - group-seats(기본): 좌석마다 hold_group_seats 행을 넣고 confirm/만료 때 지운다
+ * - seat-claim: seats.held_by_group_id/held_until을 조건부 UPDATE 한 번으로 기록. 만료된 claim은 다음 HOLD가 덮어쓰므로 지우지 않는다
+ * 어느 쪽이든 hold_groups(소유 유저, 만료 시각, 좌석 수)와 유저 카운터는 그대로 쓴다.
+ */
+public interface HoldSeatStore {
+
+    /**
+     * AVAILABLE이고 유효한 HOLD가 없는 좌석만 기록하고 건수를 돌려준다. 요청 수와 다르면 호출자가 rollback.
+     */
+    int hold(long eventId, List<Long> seatIds, long holdGroupId, Instant expiresAt, Instant now);
+
+    /**
+     * group commit 배치: 메모리에서 이미 판정한 여러 HOLD의 좌석을 한꺼번에 기록하고, 좌석을 다 못 잡은 group id를 돌려준다.
+     * 진 group이 남긴 기록은 호출자가 discard로 지운다.
+     */
+    Set<Long> holdAll(List<SeatHold> holds, Instant now);
+
+    /**
+     * 배치에서 진 group의 좌석 기록을 지운다(유효 기간과 무관하게).
+     */
+    void discard(List<Long> holdGroupIds);
+
+    /**
+     * confirm용: 만료 전 좌석과 HOLD 시점 가격(seatId 순)
+     */
+    List<HeldSeatPrice> findValidSeatPrices(long holdGroupId, long eventId, Instant now);
+
+    /**
+     * HOLD 시점 금액 캡처용: 방금 기록한 좌석들의 가격 합계(confirm이 읽을 가격과 같은 행)
+     */
+    long sumValidPrices(long holdGroupId, long eventId, Instant now);
+
+    /**
+     * 이 group이 아직 잡고 있는 좌석만 SOLD로 바꾸고 건수를 돌려준다.
+     */
+    int markSold(long eventId, long holdGroupId, long userId, Instant now, List<Long> seatIds);
+
+    /**
+     * confirm 후 HOLD 기록 정리. 남은 기록 수가 seatCount와 다르면 HOLD_GROUP_SIZE_MISMATCH.
+     */
+    void deleteSold(long holdGroupId, long eventId, int seatCount);
+
+    /**
+     * 만료 group 정리(group 행 삭제 전에 호출). 해제된 좌석 수를 돌려준다.
+     */
+    int releaseExpired(List<Long> holdGroupIds);
+
+    /**
+     * 인벤토리 재구성용: 만료 전 HOLD 좌석
+     */
+    List<HeldSeat> findActiveHolds(long eventId, Instant now);
+
+    record HeldSeat(long seatId, long holdGroupId, Instant expiresAt) {
+    }
+
+    /**
+     * 배치로 쓸 HOLD 한 건. seats는 seatId 순, 가격은 메모리 배치도 값(hold_groups.total_amount도 같은 값의 합)
+     */
+    record SeatHold(long holdGroupId, long eventId, Instant expiresAt, List<HeldSeatPrice> seats) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.ticket.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티에 매핑된 pooled ID 발급기(@TableGenerator, PooledIds)에서 ID만 꺼낸다.
+ * native insert-if-absent(INSERT IGNORE)는 Hibernate persist를 거치지 않으므로 ID를 직접 채워야 한다.
+ * 같은 발급기를 쓰므로 persist로 넣은 행과 ID가 겹치지 않는다(충돌로 버려진 ID는 그냥 건너뜀).
+ */
+@Component
+@RequiredArgsConstructor
+public class PooledIdAllocator {
+
+    private final EntityManager entityManager;
+
+    public long next(Class<?> entityType) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityType)
+                .getGenerator();
+        return ((Number) generator.generate(session, null)).longValue();
+    }
+}
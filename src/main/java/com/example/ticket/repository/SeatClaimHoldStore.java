@@ -0,0 +1,95 @@
+package com.example.ticket.repository;
+
+import com.example.ticket.repository.dto.HeldSeatPrice;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * seats 행에 claim(held_by_group_id, held_until)을 직접 기록하는 방식.
+ * - HOLD: 조건부 UPDATE 1회(좌석 행 insert/delete 없음 → 가장 뜨거운 테이블의 인덱스 churn 감소)
+ * - 만료: held_until이 지나면 다음 HOLD가 덮어쓰므로 좌석 쪽은 지우지 않는다(스윕은 group 행과 카운터만)
+ * - confirm: SOLD로 바꾸면서 claim도 함께 비운다
+ */
+@Component
+@ConditionalOnProperty(prefix = "ticket.hold", name = "storage", havingValue = "seat-claim")
+@RequiredArgsConstructor
+public class SeatClaimHoldStore implements HoldSeatStore {
+
+    private final SeatRepository seatRepository;
+
+    @Override
+    public int hold(long eventId, List<Long> seatIds, long holdGroupId, Instant expiresAt, Instant now) {
+        return seatRepository.claimAvailableSeats(eventId, seatIds, holdGroupId, expiresAt, now);
+    }
+
+    /**
+     * claim은 seats 행 UPDATE라 넣을 행이 없다. HOLD마다 조건부 UPDATE 한 번(배치 트랜잭션 안에서).
+     */
+    @Override
+    public Set<Long> holdAll(List<SeatHold> holds, Instant now) {
+        Set<Long> lost = new HashSet<>();
+        for (SeatHold hold : holds) {
+            List<Long> seatIds = hold.seats().stream().map(HeldSeatPrice::seatId).toList();
+            if (seatRepository.claimAvailableSeats(hold.eventId(), seatIds, hold.holdGroupId(), hold.expiresAt(), now)
+                    != seatIds.size()) {
+                lost.add(hold.holdGroupId());
+            }
+        }
+        return lost;
+    }
+
+    /**
+     * 일부만 claim한 group이 좌석을 만료 시각까지 막지 않도록 claim을 비운다
+     */
+    @Override
+    public void discard(List<Long> holdGroupIds) {
+        seatRepository.clearClaims(holdGroupIds);
+    }
+
+    /**
+     * claim은 seats 행 자체라 가격도 같은 행에서 읽는다
+     */
+    @Override
+    public List<HeldSeatPrice> findValidSeatPrices(long holdGroupId, long eventId, Instant now) {
+        return seatRepository.findClaimedSeatPrices(holdGroupId, eventId, now);
+    }
+
+    @Override
+    public long sumValidPrices(long holdGroupId, long eventId, Instant now) {
+        return seatRepository.sumClaimedSeatPrices(holdGroupId, eventId, now);
+    }
+
+    @Override
+    public int markSold(long eventId, long holdGroupId, long userId, Instant now, List<Long> seatIds) {
+        return seatRepository.changeClaimedSeatsSold(eventId, holdGroupId, now, seatIds);
+    }
+
+    /**
+     * markSold에서 claim을 이미 비웠다
+     */
+    @Override
+    public void deleteSold(long holdGroupId, long eventId, int seatCount) {
+    }
+
+    /**
+     * 좌석은 건드리지 않고 아직 남아 있는 claim 수만 센다(다른 group이 덮어쓴 좌석은 빠짐)
+     */
+    @Override
+    public int releaseExpired(List<Long> holdGroupIds) {
+        return Math.toIntExact(seatRepository.countClaimedBy(holdGroupIds));
+    }
+
+    @Override
+    public List<HeldSeat> findActiveHolds(long eventId, Instant now) {
+        return seatRepository.findAllByEventIdAndHeldUntilAfter(eventId, now)
+                .stream()
+                .map(seat -> new HeldSeat(seat.getId(), seat.getHeldByGroupId(), seat.getHeldUntil()))
+                .toList();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.ticket.repository;
 
 import com.example.ticket.domain.event.SeatStatus;
 import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.repository.dto.HeldSeatPrice;
 import com.example.ticket.repository.dto.SeatStatusCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -27,6 +28,9 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 
     List<Seat> findAllByEventIdOrderByZoneCodeAscSeatNoAsc(Long eventId);
 
+    @Query("select s.id from Seat s where s.eventId = :eventId and s.status = :status")
+    List<Long> findIdsByEventIdAndStatus(long eventId, SeatStatus status);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(value = """
             update seats s
@@ -56,7 +60,71 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
                               Instant now,
                               List<Long> seatIds);
 
-    long countByEventIdAndIdInAndStatus(long eventId, List<Long> seatIds, SeatStatus status);
-}
+    /**
+     * seat-claim: AVAILABLE이고 유효한 claim이 없는 좌석에만 hold group을 기록한다(UPDATE 1회).
+     * 만료된 claim(held_until <= now)은 지우지 않고 그대로 덮어쓴다.
+     * 반환값이 요청 좌석 수보다 작으면 일부 좌석이 SOLD/HELD/없는 좌석 → 호출자가 rollback.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update seats s
+               set held_by_group_id = :holdGroupId,
+                   held_until = :expiresAt
+             where s.event_id = :eventId
+               and s.seat_id in (:seatIds)
+               and s.status = 'AVAILABLE'
+               and (s.held_until is null or s.held_until <= :now)
+            """, nativeQuery = true)
+    int claimAvailableSeats(long eventId, List<Long> seatIds, long holdGroupId, Instant expiresAt, Instant now);
+
+    /**
+     * seat-claim: 아직 이 group이 잡고 있는 좌석만 SOLD로 바꾸고 claim을 비운다.
+     * 소유 유저 검사는 호출자가 같은 트랜잭션에서 hold group으로 끝냈으므로 EXISTS 서브쿼리가 없다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+            update seats s
+               set status = 'SOLD',
+                   held_by_group_id = null,
+                   held_until = null
+             where s.event_id = :eventId
+               and s.seat_id in (:seatIds)
+               and s.status = 'AVAILABLE'
+               and s.held_by_group_id = :holdGroupId
+               and s.held_until > :now
+            """, nativeQuery = true)
+    int changeClaimedSeatsSold(long eventId, long holdGroupId, Instant now, List<Long> seatIds);
 
+    @Query("""
+            select new com.example.ticket.repository.dto.HeldSeatPrice(s.id, s.price)
+            from Seat s
+            where s.heldByGroupId = :holdGroupId
+              and s.eventId = :eventId
+              and s.heldUntil > :now
+            order by s.id asc
+            """)
+    List<HeldSeatPrice> findClaimedSeatPrices(long holdGroupId, long eventId, Instant now);
 
+    @Query("""
+            select coalesce(sum(s.price), 0)
+            from Seat s
+            where s.heldByGroupId = :holdGroupId
+              and s.eventId = :eventId
+              and s.heldUntil > :now
+            """)
+    long sumClaimedSeatPrices(long holdGroupId, long eventId, Instant now);
+
+    List<Seat> findAllByEventIdAndHeldUntilAfter(long eventId, Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update seats
+               set held_by_group_id = null,
+                   held_until = null
+             where held_by_group_id in (:holdGroupIds)
+            """, nativeQuery = true)
+    int clearClaims(List<Long> holdGroupIds);
+
+    @Query("select count(s) from Seat s where s.heldByGroupId in :holdGroupIds")
+    long countClaimedBy(List<Long> holdGroupIds);
+}
@@ -0,0 +1,67 @@
+package com.example.ticket.repository;
+
+import com.example.ticket.domain.hold.UserEventHoldCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface UserEventHoldCounterRepository extends JpaRepository<UserEventHoldCounter, Long> {
+
+    /**
+     * limit 이내일 때만 슬롯을 예약한다. 1이면 성공, 0이면 행이 없거나 limit 초과.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update user_event_hold_counter
+               set held_count = held_count + :seatCount,
+                   updated_at = :now
+             where user_id = :userId
+               and event_id = :eventId
+               and held_count + :seatCount <= :limit
+            """, nativeQuery = true)
+    int tryReserve(long userId, long eventId, int seatCount, int limit, Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert ignore into user_event_hold_counter (user_id, event_id, held_count, updated_at)
+            values (:userId, :eventId, 0, :now)
+            """, nativeQuery = true)
+    int insertIfAbsent(long userId, long eventId, Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update user_event_hold_counter
+               set held_count = greatest(held_count - :seatCount, 0),
+                   updated_at = :now
+             where user_id = :userId
+               and event_id = :eventId
+            """, nativeQuery = true)
+    int release(long userId, long eventId, int seatCount, Instant now);
+
+    /**
+     * 지울 hold group들의 좌석 수(hold_groups.seat_count)만큼 유저별 카운터를 돌려준다. group 행을 지우기 전에 호출해야 한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update user_event_hold_counter c
+               set held_count = greatest(c.held_count - (
+                       select coalesce(sum(hg.seat_count), 0)
+                         from hold_groups hg
+                        where hg.hold_group_id in (:holdGroupIds)
+                          and hg.user_id = c.user_id
+                          and hg.event_id = c.event_id
+                   ), 0),
+                   updated_at = :now
+             where exists (
+                   select 1
+                     from hold_groups hg
+                    where hg.hold_group_id in (:holdGroupIds)
+                      and hg.user_id = c.user_id
+                      and hg.event_id = c.event_id
+             )
+            """, nativeQuery = true)
+    int releaseHoldGroups(List<Long> holdGroupIds, Instant now);
+}
@@ -0,0 +1,6 @@
+package com.example.ticket.repository.dto;
+
+/**
+ * HOLD 시점에 잡아 둔 좌석 가격. confirm은 seats를 다시 읽지 않고 이 값으로 예매 항목을 만든다.
+ */
+public record HeldSeatPrice(long seatId, long price) {}
@@ -0,0 +1,16 @@
+package com.example.ticket.repository.dto;
+
+import java.time.Instant;
+
+/**
+ * hold_groups 한 행. ID는 PooledIdAllocator로 미리 받아 둔 값(HoldGroupWriter가 native INSERT로 넣는다).
+ */
+public record HoldGroupRow(
+        long holdGroupId,
+        long userId,
+        long eventId,
+        Instant expiresAt,
+        int seatCount,
+        long totalAmount,
+        Instant createdAt
+) {}
@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminEventService {
 
     private final EventRepository eventRepository;
+    private final EventService eventService;
 
     @Transactional
     public AdminEventResponse createDraft(AdminEventCreateRequest request) {
@@ -30,6 +31,7 @@ public class AdminEventService {
         Event event =  eventRepository.findById(eventId)
                 .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.EVENT_NOT_FOUND));
         event.open();
+        eventService.evictOnCommit(eventId);
         return AdminEventResponse.from(event);
     }
 
@@ -38,6 +40,7 @@ public class AdminEventService {
         Event event =  eventRepository.findById(eventId)
                 .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.EVENT_NOT_FOUND));
         event.close();
+        eventService.evictOnCommit(eventId);
         return AdminEventResponse.from(event);
     }
 }
@@ -10,6 +10,7 @@ import com.example.ticket.domain.event.Event;
 import com.example.ticket.domain.event.EventStatus;
 import com.example.ticket.domain.event.SeatStatus;
 import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.inventory.SeatInventory;
 import com.example.ticket.repository.EventRepository;
 import com.example.ticket.repository.SeatRepository;
 import com.example.ticket.repository.dto.SeatStatusCount;
@@ -26,10 +27,14 @@ public class AdminSeatService {
 
     private final EventRepository eventRepository;
     private final SeatRepository seatRepository;
+    private final SeatInventory seatInventory;
 
+    /**
+     * 이 노드의 인벤토리는 커밋 후 바로 버리고, 다른 노드는 올라간 events.version을 보고 버린다(SeatInventory.reconcile).
+     */
     @Transactional
     public AdminSeatBulkUpsertResponse bulkReplace(long eventId, AdminSeatBulkUpsertRequest request) {
-        Event event = eventRepository.findById(eventId)
+        Event event = eventRepository.findByIdForVersionBump(eventId)
                 .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.EVENT_NOT_FOUND));
 
         if (event.getStatus() != EventStatus.DRAFT) {
@@ -43,6 +48,7 @@ public class AdminSeatService {
                 .map(it -> Seat.create(eventId, it.zoneCode(), it.seatNo(), it.price()))
                 .toList();
         seatRepository.saveAll(seats);
+        seatInventory.evictOnCommit(eventId);
         return AdminSeatBulkUpsertResponse.of(eventId, seats.size());
     }
 
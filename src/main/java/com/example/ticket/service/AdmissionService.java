@@ -0,0 +1,131 @@
+package com.example.ticket.service;
+
+import com.example.ticket.admission.AdmissionStore;
+import com.example.ticket.admission.AdmissionToken;
+import com.example.ticket.admission.AdmissionTokenCodec;
+import com.example.ticket.api.ticket.dto.AdmissionDto.QueueTicketResponse;
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.AdmissionProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HOLD 앞단 대기열(virtual waiting room).
+ * - 입장 요청 시 이벤트별 순번을 발급하고 서명 토큰(AdmissionTokenCodec)으로 돌려준다
+ * - 스케줄러가 이벤트별 초당 admitPerSecond 만큼 admittedThrough를 올린다(소수점 이월)
+ * - HOLD는 토큰 서명/epoch/유저/이벤트/만료를 확인하고 순번이 admittedThrough 이하일 때만 통과
+ * 대기열 상태는 AdmissionStore(기본 메모리)에 두고, 토큰 검증 자체는 상태 없이 끝난다.
+ */
+@Service
+public class AdmissionService {
+
+    private static final long ADMIT_INTERVAL_MILLIS = 100;
+    private static final long EXPIRE_INTERVAL_MILLIS = 60_000;
+
+    private final AdmissionStore admissionStore;
+    private final EventService eventService;
+    private final AdmissionProperties properties;
+    private final Clock clock;
+    private final AdmissionTokenCodec tokenCodec;
+
+    /**
+     * 이벤트별 아직 입장시키지 못한 소수 인원(rate * 경과시간의 나머지)
+     */
+    private final ConcurrentHashMap<Long, Double> carry = new ConcurrentHashMap<>();
+    private volatile long lastAdmitMillis;
+
+    public AdmissionService(
+            AdmissionStore admissionStore,
+            EventService eventService,
+            AdmissionProperties properties,
+            Clock clock
+    ) {
+        this.admissionStore = admissionStore;
+        this.eventService = eventService;
+        this.properties = properties;
+        this.clock = clock;
+        this.tokenCodec = new AdmissionTokenCodec(properties.secret());
+        this.lastAdmitMillis = clock.millis();
+    }
+
+    public QueueTicketResponse enter(long eventId, long userId) {
+        eventService.validateExists(eventId);
+        Instant now = clock.instant();
+        long sequence = admissionStore.enqueue(eventId, userId, now);
+        String token = tokenCodec.encode(new AdmissionToken(admissionStore.epoch(), eventId, userId, sequence, now));
+        return ticket(eventId, token, sequence);
+    }
+
+    public QueueTicketResponse status(long eventId, long userId, String queueToken) {
+        AdmissionToken token = verify(eventId, userId, queueToken);
+        return ticket(eventId, queueToken, token.sequence());
+    }
+
+    /**
+     * 대기열이 꺼져 있으면 통과. 켜져 있으면 유효한 토큰 + 입장 순번이어야 한다.
+     */
+    public void requireAdmitted(long eventId, long userId, String queueToken) {
+        if (!properties.enabled()) {
+            return;
+        }
+        AdmissionToken token = verify(eventId, userId, queueToken);
+        if (token.sequence() > admissionStore.admittedThrough(eventId)) {
+            throw new BusinessRuleViolationException(ErrorCode.QUEUE_NOT_ADMITTED);
+        }
+    }
+
+    @Scheduled(fixedDelay = ADMIT_INTERVAL_MILLIS)
+    public void admit() {
+        long now = clock.millis();
+        long elapsed = now - lastAdmitMillis;
+        lastAdmitMillis = now;
+        if (elapsed <= 0) {
+            return;
+        }
+        for (Long eventId : admissionStore.eventIds()) {
+            if (admissionStore.admittedThrough(eventId) >= admissionStore.tail(eventId)) {
+                carry.remove(eventId);
+                continue;
+            }
+            double due = carry.getOrDefault(eventId, 0.0) + properties.rateOf(eventId) * elapsed / 1000.0;
+            long whole = (long) due;
+            carry.put(eventId, due - whole);
+            if (whole > 0) {
+                admissionStore.admit(eventId, whole);
+            }
+        }
+    }
+
+    /**
+     * 입장 후 tokenTtl 동안 다시 안 들어온 유저의 순번 기록을 지운다. 그 유저의 토큰은 이미 만료라 잃는 것이 없다.
+     */
+    @Scheduled(fixedDelay = EXPIRE_INTERVAL_MILLIS)
+    public void expireEntries() {
+        admissionStore.expire(clock.instant().minus(properties.tokenTtl()));
+    }
+
+    private AdmissionToken verify(long eventId, long userId, String queueToken) {
+        AdmissionToken token = tokenCodec.decode(queueToken)
+                .filter(t -> t.epoch().equals(admissionStore.epoch()))
+                .filter(t -> t.eventId() == eventId && t.userId() == userId)
+                .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.QUEUE_TOKEN_INVALID));
+        Instant expiresAt = token.issuedAt().plus(properties.tokenTtl());
+        if (!expiresAt.isAfter(clock.instant()) || token.sequence() > admissionStore.tail(eventId)) {
+            // 만료 또는 이 대기열이 발급하지 않은 순번 → 다시 줄 서기
+            throw new BusinessRuleViolationException(ErrorCode.QUEUE_TOKEN_INVALID);
+        }
+        return token;
+    }
+
+    private QueueTicketResponse ticket(long eventId, String token, long sequence) {
+        long position = Math.max(0, sequence - admissionStore.admittedThrough(eventId));
+        int rate = Math.max(1, properties.rateOf(eventId));
+        long waitSeconds = (position + rate - 1) / rate;
+        return new QueueTicketResponse(eventId, token, position, waitSeconds, position == 0);
+    }
+}
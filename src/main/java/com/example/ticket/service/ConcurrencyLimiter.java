@@ -0,0 +1,124 @@
+package com.example.ticket.service;
+
+import com.example.ticket.common.AdaptiveConcurrencyLimit;
+import com.example.ticket.common.exception.ConcurrencyLimitExceededException;
+import com.example.ticket.common.exception.DomainException;
+import com.example.ticket.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 이벤트 × 작업(hold/confirm)별 적응형 동시 실행 한도.
+ * - 한도를 넘는 요청은 스레드/커넥션을 잡기 전에 429 + Retry-After로 즉시 거절
+ * - 호출 지연(트랜잭션 커밋 포함)을 표본으로 한도를 조정. 비즈니스 거절(DomainException)은 정상 표본, 그 외 예외는 drop
+ * - 처리 중인 요청이 없고 idle-timeout 동안 안 쓰인 이벤트의 한도는 주기적으로 버린다(다음 요청에서 initial-limit로 다시 시작)
+ * - ticket.concurrency.limit / in_flight / throughput 게이지(이벤트 합계), ticket.concurrency.rejected 카운터.
+ *   태그는 operation만(이벤트 수만큼 시계열이 늘지 않게)
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimiter {
+
+    public static final String HOLD = "hold";
+    public static final String CONFIRM = "confirm";
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<LimitKey, LimitState> limits = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> rejectedByOperation = new ConcurrentHashMap<>();
+
+    public <T> T execute(String operation, long eventId, Supplier<T> call) {
+        if (!properties.enabled()) {
+            return call.get();
+        }
+        Counter rejected = rejectedByOperation.computeIfAbsent(operation, this::registerMeters);
+        LimitState state = limits.computeIfAbsent(new LimitKey(operation, eventId), key -> create());
+        AdaptiveConcurrencyLimit limit = state.limit();
+        state.lastUsedNanos().set(System.nanoTime());
+        if (!limit.tryAcquire()) {
+            rejected.increment();
+            throw new ConcurrencyLimitExceededException(limit.retryAfterSeconds());
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            T result = call.get();
+            dropped = false;
+            return result;
+        } catch (DomainException e) {
+            dropped = false;
+            throw e;
+        } finally {
+            limit.release(start, System.nanoTime(), dropped);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.concurrency-limit.idle-timeout:10m}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = properties.idleTimeout().toNanos();
+        limits.forEach((key, state) -> {
+            if (state.limit().inFlight() == 0 && now - state.lastUsedNanos().get() >= idleNanos) {
+                limits.remove(key, state);
+            }
+        });
+    }
+
+    int size() {
+        return limits.size();
+    }
+
+    private LimitState create() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                properties.initialLimit(),
+                properties.minLimit(),
+                properties.maxLimit(),
+                properties.tolerance(),
+                properties.backoffRatio()
+        );
+        return new LimitState(limit, new AtomicLong(System.nanoTime()));
+    }
+
+    private Counter registerMeters(String operation) {
+        Tags tags = Tags.of("operation", operation);
+        Gauge.builder("ticket.concurrency.limit", () -> sum(operation, AdaptiveConcurrencyLimit::limit))
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("ticket.concurrency.in_flight", () -> sum(operation, AdaptiveConcurrencyLimit::inFlight))
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("ticket.concurrency.throughput", () -> sum(operation, AdaptiveConcurrencyLimit::throughputPerSecond))
+                .tags(tags)
+                .register(meterRegistry);
+        return Counter.builder("ticket.concurrency.rejected").tags(tags).register(meterRegistry);
+    }
+
+    private double sum(String operation, ToDoubleFunction<AdaptiveConcurrencyLimit> value) {
+        double total = 0;
+        for (Map.Entry<LimitKey, LimitState> e : limits.entrySet()) {
+            if (e.getKey().operation().equals(operation)) {
+                total += value.applyAsDouble(e.getValue().limit());
+            }
+        }
+        return total;
+    }
+
+    private record LimitKey(String operation, long eventId) {
+    }
+
+    private record LimitState(AdaptiveConcurrencyLimit limit, AtomicLong lastUsedNanos) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.ticket.service;
+
+import com.example.ticket.api.ticket.dto.ConfirmDto.ConfirmRequest;
+import com.example.ticket.api.ticket.dto.ConfirmDto.ConfirmResponse;
+import com.example.ticket.common.AfterTransaction;
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.ConfirmReplayCacheProperties;
+import com.example.ticket.domain.idempotency.ConfirmIdempotency;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * paymentTxId 단위 confirm 응답 near-cache. 모바일 재시도가 DB를 타지 않고 끝난다.
+ * - 새 confirm은 커밋 후에만, DB 멱등 행으로 재생한 응답은 바로 넣는다(이미 커밋된 결정)
+ * - 같은 paymentTxId인데 결정(유저/이벤트/hold group/confirm key)이 다르면 DB와 같은 CONFIRM_IDEMPOTENCY_CONFLICT
+ * - 노드 로컬이라 캐시에 없으면 멱등 행(저장된 응답)이 기준
+ */
+@Component
+@RequiredArgsConstructor
+public class ConfirmReplayCache {
+
+    private final ConfirmReplayCacheProperties properties;
+    private final Clock clock;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > properties.maxEntries();
+        }
+    };
+
+    public Optional<ConfirmResponse> find(long userId, long eventId, ConfirmRequest request) {
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+        Instant now = clock.instant();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(request.paymentTxId());
+            if (entry != null && !entry.expiresAt().isAfter(now)) {
+                entries.remove(request.paymentTxId());
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.sameDecision(userId, eventId, request)) {
+            throw new BusinessRuleViolationException(ErrorCode.CONFIRM_IDEMPOTENCY_CONFLICT);
+        }
+        return Optional.of(entry.response());
+    }
+
+    public void put(ConfirmIdempotency idem, ConfirmResponse response) {
+        if (!properties.enabled()) {
+            return;
+        }
+        Entry entry = new Entry(idem.getHoldGroupId(), idem.getConfirmKey(), response,
+                clock.instant().plus(properties.ttl()));
+        synchronized (entries) {
+            entries.put(idem.getPaymentTxId(), entry);
+        }
+    }
+
+    public void putOnCommit(ConfirmIdempotency idem, ConfirmResponse response) {
+        AfterTransaction.onCommit(() -> put(idem, response));
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(long holdGroupId, String confirmKey, ConfirmResponse response, Instant expiresAt) {
+        boolean sameDecision(long userId, long eventId, ConfirmRequest request) {
+            return response.userId() == userId
+                    && response.eventId() == eventId
+                    && holdGroupId == request.holdGroupId()
+                    && confirmKey.equals(request.confirmIdempotencyKey());
+        }
+    }
+}
@@ -7,17 +7,15 @@ import com.example.ticket.common.ErrorCode;
 import com.example.ticket.common.exception.BusinessRuleViolationException;
 import com.example.ticket.domain.booking.Booking;
 import com.example.ticket.domain.booking.BookingItem;
-import com.example.ticket.domain.event.Event;
-import com.example.ticket.domain.event.EventStatus;
 import com.example.ticket.domain.hold.HoldGroup;
 import com.example.ticket.domain.hold.HoldTimes;
 import com.example.ticket.domain.idempotency.ConfirmIdempotency;
 import com.example.ticket.domain.payment.PaymentStatus;
 import com.example.ticket.domain.payment.PaymentTx;
-import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.inventory.SeatInventory;
 import com.example.ticket.repository.*;
+import com.example.ticket.repository.dto.HeldSeatPrice;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,7 +27,6 @@ import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class ConfirmService {
 
     private final ConfirmIdempotencyRepository confirmIdempotencyRepository;
@@ -37,112 +34,195 @@ public class ConfirmService {
     private final BookingItemRepository bookingItemRepository;
     private final BookingRepository bookingRepository;
     private final HoldGroupRepository holdGroupRepository;
-    private final HoldGroupSeatRepository holdGroupSeatRepository;
-    private final SeatRepository seatRepository;
+    private final HoldSeatStore holdSeatStore;
     private final Clock clock;
-    private final EventRepository eventRepository;
+    private final EventService eventService;
+    private final SeatInventory seatInventory;
+    private final UserEventHoldCounterRepository holdCounterRepository;
+    private final PooledIdAllocator pooledIdAllocator;
+    private final ConfirmReplayCache confirmReplayCache;
+    private final UnconfirmedHoldCache unconfirmedHoldCache;
 
+    /**
+     * 재시도는 near-cache → 멱등 행 1건 조회 순으로 저장된 응답을 그대로 돌려준다(결제/예매 항목 재조회 없음).
+     * 이 노드에서 HOLD 한 뒤 아직 confirm 안 된 hold group(UnconfirmedHoldCache)이면 멱등 조회 없이 바로 쓰기로 간다.
+     */
     @Transactional
     public ConfirmResponse confirm(long userId, long eventId, ConfirmRequest request) {
         Instant now = HoldTimes.now(clock);
         validEvent(eventId, now);
 
-        Optional<ConfirmIdempotency> confirmIdempotency =
-                confirmIdempotencyRepository.findByPaymentTxId(request.paymentTxId())
-                        .or(() -> confirmIdempotencyRepository.findByUserIdAndConfirmKey(userId, request.confirmIdempotencyKey()));
-
-        if (confirmIdempotency.isPresent()) {
-            if (sameDecision(userId, eventId, request, confirmIdempotency.get())) {
-                PaymentTx payment = getPayment(request.paymentTxId(), request.amount());
-                List<BookingItemDto> bookingItemsDto = bookingItemRepository.findAllByBookingId(confirmIdempotency.get().getBookingId())
-                        .stream()
-                        .map(BookingItemDto::from)
-                        .toList();
-                return ConfirmResponse.from(confirmIdempotency.get(), payment.getStatus(), payment.getAmount(), bookingItemsDto);
+        Optional<ConfirmResponse> cached = confirmReplayCache.find(userId, eventId, request);
+        if (cached.isPresent()) {
+            return replayed(cached.get(), request);
+        }
+
+        boolean probed = !unconfirmedHoldCache.contains(request.holdGroupId(), now);
+        if (probed) {
+            Optional<ConfirmResponse> replay = replayConfirmed(userId, eventId, request);
+            if (replay.isPresent()) {
+                return replayed(replay.get(), request);
             }
-            throw new BusinessRuleViolationException(ErrorCode.CONFIRM_IDEMPOTENCY_CONFLICT);
         }
         PaymentTx payment = getPayment(request.paymentTxId(), request.amount());
 
-        HoldGroup holdGroup = holdGroupRepository.findValidHoldGroup(request.holdGroupId(), userId, eventId, now)
+        Optional<HoldGroup> validHoldGroup =
+                holdGroupRepository.findValidHoldGroup(request.holdGroupId(), userId, eventId, now);
+        if (validHoldGroup.isEmpty() && !probed) {
+            // 다른 노드에서 이미 confirm 되어 hold group이 지워졌을 수 있다
+            Optional<ConfirmResponse> replay = replayConfirmed(userId, eventId, request);
+            if (replay.isPresent()) {
+                return replayed(replay.get(), request);
+            }
+        }
+        HoldGroup holdGroup = validHoldGroup
                 .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.HOLD_TOKEN_NOT_FOUND));
-        List<Long> holdGroupSeatIds = getHoldSeatIds(eventId, request, now);
+        validAmount(holdGroup, request.amount());
+        List<HeldSeatPrice> heldSeats = getHoldSeats(eventId, request, now);
+        List<Long> holdGroupSeatIds = heldSeats.stream().map(HeldSeatPrice::seatId).toList();
 
-        List<Seat> changedSeats = changeSeatsSold(eventId, holdGroup.getId(), userId, now, holdGroupSeatIds);
+        changeSeatsSold(eventId, holdGroup.getId(), userId, now, holdGroupSeatIds);
 
-        Booking savedBook = confirmBooking(userId, eventId, request);
-        List<BookingItem> savedBookingItems = confirmBookingItems(changedSeats, savedBook.getId());
+        Booking savedBook;
+        try {
+            savedBook = confirmBooking(userId, eventId, request);
+        } catch (BusinessRuleViolationException e) {
+            // 조회를 건너뛰었는데 이미 다른 hold로 확정된 결제/키면 조회했을 때와 같은 충돌로 응답(rollback)
+            if (!probed && findConfirmIdempotency(userId, request).isPresent()) {
+                throw new BusinessRuleViolationException(ErrorCode.CONFIRM_IDEMPOTENCY_CONFLICT);
+            }
+            throw e;
+        }
+        List<BookingItem> savedBookingItems = confirmBookingItems(heldSeats, savedBook.getId());
         deleteSoldHolds(eventId, holdGroup, holdGroupSeatIds.size());
+        holdCounterRepository.release(userId, eventId, holdGroupSeatIds.size(), now);
 
-        return ConfirmResponse.from(
-                saveConfirmIdempotency(userId, eventId, request, savedBook),
-                payment.getStatus(),
-                payment.getAmount(),
-                savedBookingItems
-                        .stream()
-                        .map(BookingItemDto::from)
-                        .toList());
+        List<BookingItemDto> items = savedBookingItems.stream()
+                .map(BookingItemDto::from)
+                .toList();
+        ConfirmIdempotency saved = saveConfirmIdempotency(userId, eventId, request, savedBook, payment, items);
+        ConfirmResponse response = ConfirmResponse.from(saved, payment.getStatus(), payment.getAmount(), items);
+        confirmReplayCache.putOnCommit(saved, response);
+        unconfirmedHoldCache.invalidateOnCommit(holdGroup.getId());
+        return response;
+    }
+
+    /**
+     * 멱등 행이 있으면 같은 결정일 때 저장된 응답, 다르면 CONFIRM_IDEMPOTENCY_CONFLICT
+     */
+    private Optional<ConfirmResponse> replayConfirmed(long userId, long eventId, ConfirmRequest request) {
+        Optional<ConfirmIdempotency> confirmIdempotency = findConfirmIdempotency(userId, request);
+        if (confirmIdempotency.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!sameDecision(userId, eventId, request, confirmIdempotency.get())) {
+            throw new BusinessRuleViolationException(ErrorCode.CONFIRM_IDEMPOTENCY_CONFLICT);
+        }
+        ConfirmResponse replay = ConfirmResponse.replay(confirmIdempotency.get());
+        confirmReplayCache.put(confirmIdempotency.get(), replay);
+        return Optional.of(replay);
+    }
+
+    /**
+     * paymentTxId/확정 키를 한 번에 조회. 서로 다른 두 행이 걸리면 기존 순서대로 paymentTxId 쪽을 기준으로 본다.
+     */
+    private Optional<ConfirmIdempotency> findConfirmIdempotency(long userId, ConfirmRequest request) {
+        List<ConfirmIdempotency> found = confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(
+                request.paymentTxId(), userId, request.confirmIdempotencyKey());
+        return found.stream()
+                .filter(ci -> ci.getPaymentTxId().equals(request.paymentTxId()))
+                .findFirst()
+                .or(() -> found.stream().findFirst());
+    }
+
+    /**
+     * 저장된 금액과 다른 amount로 재시도하면 처음 confirm과 같은 AMOUNT_MISMATCH
+     */
+    private ConfirmResponse replayed(ConfirmResponse response, ConfirmRequest request) {
+        if (response.totalAmount() != request.amount()) {
+            throw new BusinessRuleViolationException(ErrorCode.AMOUNT_MISMATCH);
+        }
+        return response;
     }
 
-    @Transactional(readOnly = true)
     public void validEvent(long eventId, Instant now) {
-        Event event = eventRepository.findById(eventId).orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.EVENT_NOT_FOUND));
-        if (!event.getStatus().equals(EventStatus.OPEN) || event.getSalesOpenAt().isAfter(now) || !now.isBefore(event.getSalesCloseAt())) {
-            throw new BusinessRuleViolationException(ErrorCode.EVENT_NOT_ON_SALE);
+        eventService.validateOnSale(eventId, now);
+    }
+
+    /**
+     * 금액은 HOLD 시점에 서버가 잡아 둔 합계(hold_groups.total_amount)와 같아야 한다
+     */
+    public void validAmount(HoldGroup holdGroup, long requestAmount) {
+        if (holdGroup.getTotalAmount() != requestAmount) {
+            throw new BusinessRuleViolationException(ErrorCode.AMOUNT_MISMATCH);
         }
     }
 
     @Transactional
     public void deleteSoldHolds(long eventId, HoldGroup holdGroup, int holdGroupSeatSize) {
-        int holdGroupSeatsDeleteCount = holdGroupSeatRepository.deleteHoldGroupSeats(holdGroup.getId(), eventId);
-        if (holdGroupSeatSize != holdGroupSeatsDeleteCount) {
-            log.debug("holdGroupSeatSize: {}", holdGroupSeatSize);
-            log.debug("holdGroupSeatsDeleteCount: {}", holdGroupSeatsDeleteCount);
-            throw new BusinessRuleViolationException(ErrorCode.HOLD_GROUP_SIZE_MISMATCH);
-        }
+        holdSeatStore.deleteSold(holdGroup.getId(), eventId, holdGroupSeatSize);
         holdGroupRepository.delete(holdGroup);
     }
 
+    /**
+     * INSERT IGNORE로 넣어 본다. 0건이면 같은 결제/확정 키가 이미 있음 → 같은 결정이면 그 행, 아니면 충돌.
+     * 이긴 쪽은 넣은 값 그대로 응답에 쓰므로 재조회가 없다.
+     * 재시도 응답용으로 결제 상태/금액/예매 항목(compact 문자열)을 함께 저장한다.
+     */
     @Transactional
-    public ConfirmIdempotency saveConfirmIdempotency(long userId, long eventId, ConfirmRequest request, Booking savedBook) {
-        try {
-            return confirmIdempotencyRepository.save(
-                    ConfirmIdempotency.create(
-                            request.paymentTxId(),
-                            userId,
-                            request.confirmIdempotencyKey(),
-                            eventId,
-                            request.holdGroupId(),
-                            savedBook.getId()
-                    )
-            );
-        } catch (DataIntegrityViolationException e) {
-            if (isConstraint(e, "uk_confirm_idempotencies_payment_tx")
-                    || isConstraint(e, "uk_confirm_idempotencies_user_key")) {
-                Optional<ConfirmIdempotency> confirmIdempotency =
-                        confirmIdempotencyRepository.findByPaymentTxId(request.paymentTxId())
-                                .or(() -> confirmIdempotencyRepository.findByUserIdAndConfirmKey(userId, request.confirmIdempotencyKey()));
-                if (confirmIdempotency.isPresent()) {
-                    if (sameDecision(userId, eventId, request, confirmIdempotency.get())) {
-                        return confirmIdempotency.get();
-                    }
-                    throw new BusinessRuleViolationException(ErrorCode.CONFIRM_IDEMPOTENCY_CONFLICT);
-                }
-                throw new BusinessRuleViolationException(ErrorCode.CONFIRM_IDEMPOTENCY_CONFLICT);
-            }
-            throw e;
+    public ConfirmIdempotency saveConfirmIdempotency(
+            long userId,
+            long eventId,
+            ConfirmRequest request,
+            Booking savedBook,
+            PaymentTx payment,
+            List<BookingItemDto> items
+    ) {
+        ConfirmIdempotency created = ConfirmIdempotency.create(
+                request.paymentTxId(),
+                userId,
+                request.confirmIdempotencyKey(),
+                eventId,
+                request.holdGroupId(),
+                savedBook.getId(),
+                payment.getStatus(),
+                payment.getAmount(),
+                BookingItemDto.encodeAll(items)
+        );
+        int inserted = confirmIdempotencyRepository.insertIfAbsent(
+                pooledIdAllocator.next(ConfirmIdempotency.class),
+                created.getPaymentTxId(),
+                created.getUserId(),
+                created.getConfirmKey(),
+                created.getEventId(),
+                created.getHoldGroupId(),
+                created.getBookingId(),
+                created.getPaymentStatus().name(),
+                created.getTotalAmount(),
+                created.getItems(),
+                HoldTimes.now(clock)
+        );
+        if (inserted == 1) {
+            return created;
+        }
+
+        ConfirmIdempotency existing = findConfirmIdempotency(userId, request)
+                .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.CONFIRM_IDEMPOTENCY_CONFLICT));
+        if (sameDecision(userId, eventId, request, existing)) {
+            return existing;
         }
+        throw new BusinessRuleViolationException(ErrorCode.CONFIRM_IDEMPOTENCY_CONFLICT);
     }
 
     @Transactional
-    public List<BookingItem> confirmBookingItems(List<Seat> changedSeats, Long bookingId) {
+    public List<BookingItem> confirmBookingItems(List<HeldSeatPrice> heldSeats, Long bookingId) {
         try {
-            return bookingItemRepository.saveAll(
-                    changedSeats.stream()
+            return bookingItemRepository.saveAllAndFlush(
+                    heldSeats.stream()
                             .map(seat -> BookingItem.create(
                                     bookingId,
-                                    seat.getId(),
-                                    seat.getPrice()
+                                    seat.seatId(),
+                                    seat.price()
                             ))
                             .toList()
             );
@@ -154,34 +234,43 @@ public class ConfirmService {
         }
     }
 
+    /**
+     * 같은 결제로 만든 예매가 있으면 0건 → BOOKING_ALREADY_SAVED(예외 기반 유니크 키 판정 없음).
+     * 호출자는 ID만 쓰므로 참조만 돌려준다(추가 조회 없음).
+     */
     @Transactional
     public Booking confirmBooking(long userId, long eventId, ConfirmRequest request) {
-        try {
-            return bookingRepository.save(Booking.create(
-                    eventId,
-                    userId,
-                    request.paymentTxId()
-            ));
-        } catch (DataIntegrityViolationException e) {
-            if (isConstraint(e, "uk_bookings_payment_tx")) {
-                throw new BusinessRuleViolationException(ErrorCode.BOOKING_ALREADY_SAVED);
-            }
-            throw e;
+        Booking booking = Booking.create(eventId, userId, request.paymentTxId());
+        long bookingId = pooledIdAllocator.next(Booking.class);
+        int inserted = bookingRepository.insertIfAbsent(
+                bookingId,
+                booking.getEventId(),
+                booking.getUserId(),
+                booking.getStatus().name(),
+                booking.getPaymentTxId(),
+                HoldTimes.now(clock)
+        );
+        if (inserted != 1) {
+            throw new BusinessRuleViolationException(ErrorCode.BOOKING_ALREADY_SAVED);
         }
+        return bookingRepository.getReferenceById(bookingId);
     }
 
+    /**
+     * 가격은 HOLD 때 잡아 둔 값을 쓰므로 SOLD 갱신 후 seats를 다시 읽지 않는다
+     */
     @Transactional
-    public List<Seat> changeSeatsSold(long eventId, Long holdGroupId, long userId, Instant now, List<Long> holdSeatIds) {
-        int count = seatRepository.changeSeatsSoldByHold(eventId, holdGroupId, userId, now, holdSeatIds);
+    public void changeSeatsSold(long eventId, Long holdGroupId, long userId, Instant now, List<Long> holdSeatIds) {
+        int count = holdSeatStore.markSold(eventId, holdGroupId, userId, now, holdSeatIds);
         if (count != holdSeatIds.size()) {
             throw new BusinessRuleViolationException(ErrorCode.HOLD_EXPIRED);
         }
-        return seatRepository.findAllById(holdSeatIds);
+        seatInventory.markSoldOnCommit(eventId, holdSeatIds);
     }
 
     @Transactional
-    public List<Long> getHoldSeatIds(long eventId, ConfirmRequest request, Instant now) {
-        List<Long> seats = holdGroupSeatRepository.findValidSeatIds(request.holdGroupId(), eventId, now);
+    public List<HeldSeatPrice> getHoldSeats(long eventId, ConfirmRequest request, Instant now) {
+        List<HeldSeatPrice> seats = holdSeatStore.findValidSeatPrices(request.holdGroupId(), eventId, now);
         if (seats.isEmpty()) {
             throw new BusinessRuleViolationException(ErrorCode.HOLD_EXPIRED);
         }
@@ -1,7 +1,85 @@
 package com.example.ticket.service;
 
+import com.example.ticket.common.AfterTransaction;
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.domain.event.Event;
+import com.example.ticket.domain.event.EventStatus;
+import com.example.ticket.domain.event.EventVersion;
+import com.example.ticket.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 판매 가능 여부 캐시(hold/confirm 경로의 validEvent).
+ * - status + 판매 구간을 들고 있어 salesOpenAt/salesCloseAt 경계는 DB 없이 시각 비교로 넘어간다
+ * - 같은 노드의 open/close는 커밋 후 즉시 evict
+ * - 다른 노드의 변경은 events.version 폴링으로 감지해 evict(외부 브로커 불필요)
+ */
 @Service
+@RequiredArgsConstructor
 public class EventService {
+
+    private final EventRepository eventRepository;
+
+    private final ConcurrentHashMap<Long, EventSaleState> cache = new ConcurrentHashMap<>();
+
+    public void validateOnSale(long eventId, Instant now) {
+        EventSaleState state = cache.computeIfAbsent(eventId, this::load);
+        if (!state.isOnSale(now)) {
+            throw new BusinessRuleViolationException(ErrorCode.EVENT_NOT_ON_SALE);
+        }
+    }
+
+    public void validateExists(long eventId) {
+        cache.computeIfAbsent(eventId, this::load);
+    }
+
+    public void evictOnCommit(long eventId) {
+        AfterTransaction.onCommit(() -> cache.remove(eventId));
+    }
+
+    /**
+     * 캐시된 이벤트의 version이 바뀌었거나 삭제됐으면 버린다. 다음 요청에서 다시 적재.
+     */
+    @Scheduled(fixedDelayString = "${ticket.event.cache.poll-interval:1s}")
+    public void pollVersions() {
+        if (cache.isEmpty()) {
+            return;
+        }
+        Set<Long> stale = new HashSet<>(cache.keySet());
+        List<EventVersion> versions = eventRepository.findVersionsByIdIn(List.copyOf(stale));
+        for (EventVersion v : versions) {
+            EventSaleState cached = cache.get(v.eventId());
+            if (cached != null && Objects.equals(cached.version(), v.version())) {
+                stale.remove(v.eventId());
+            }
+        }
+        stale.forEach(cache::remove);
+    }
+
+    private EventSaleState load(long eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.EVENT_NOT_FOUND));
+        return EventSaleState.from(event);
+    }
+
+    private record EventSaleState(EventStatus status, Instant salesOpenAt, Instant salesCloseAt, Long version) {
+
+        static EventSaleState from(Event event) {
+            return new EventSaleState(event.getStatus(), event.getSalesOpenAt(), event.getSalesCloseAt(), event.getVersion());
+        }
+
+        boolean isOnSale(Instant now) {
+            return status == EventStatus.OPEN && !salesOpenAt.isAfter(now) && now.isBefore(salesCloseAt);
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.ticket.service;
+
+import com.example.ticket.api.ticket.dto.AdminExpireSweepDto.AdminExpireSweepResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 hold 백그라운드 스윕. 수동 트리거(POST /admin/holds/sweep-expired)와 같은 경로를 탄다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ticket.hold.sweep", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ExpireSweepScheduler {
+
+    private final ExpireSweepService expireSweepService;
+
+    @Scheduled(
+            initialDelayString = "${ticket.hold.sweep.fixed-delay:60s}",
+            fixedDelayString = "${ticket.hold.sweep.fixed-delay:60s}"
+    )
+    public void sweep() {
+        AdminExpireSweepResponse res = expireSweepService.sweepExpired();
+        if (res.expiredReleasedCount() > 0) {
+            log.debug("expired hold seats swept: {}", res.expiredReleasedCount());
+        }
+    }
+}
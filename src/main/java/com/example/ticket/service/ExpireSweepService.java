@@ -1,30 +1,84 @@
 package com.example.ticket.service;
 
 import com.example.ticket.api.ticket.dto.AdminExpireSweepDto.AdminExpireSweepResponse;
+import com.example.ticket.config.HoldSweepProperties;
 import com.example.ticket.domain.hold.HoldTimes;
+import com.example.ticket.inventory.SeatInventory;
 import com.example.ticket.repository.HoldGroupRepository;
-import com.example.ticket.repository.HoldGroupSeatRepository;
+import com.example.ticket.repository.HoldSeatStore;
+import com.example.ticket.repository.UserEventHoldCounterRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.List;
 
+/**
+ * 만료 hold 스윕.
+ * - expires_at 인덱스로 만료 group을 chunkSize 만큼 잠그고, 카운터 반환 → 좌석 → group 순으로 bulk delete
+ * - seat-claim 저장 방식이면 좌석 쪽은 지우지 않는다(만료된 claim은 다음 HOLD가 덮어씀)
+ * - chunk 단위로 커밋해 락 보유 시간과 undo 크기를 제한한다
+ * - 평소에는 HoldExpiryTimer가 만료 시각에 정리하고, 주기 스윕은 놓친 group을 회수하는 backstop
+ */
 @Service
 @RequiredArgsConstructor
 public class ExpireSweepService {
 
     private final Clock clock;
-    private final HoldGroupSeatRepository holdGroupSeatRepository;
+    private final HoldSeatStore holdSeatStore;
     private final HoldGroupRepository holdGroupRepository;
+    private final SeatInventory seatInventory;
+    private final UserEventHoldCounterRepository holdCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final HoldSweepProperties sweepProperties;
 
-    @Transactional
     public AdminExpireSweepResponse sweepExpired() {
         Instant now = HoldTimes.now(clock);
-        int sweepCount = holdGroupSeatRepository.deleteAllByExpiresAtLessThanEqual(now);
-        holdGroupRepository.deleteAllByExpiresAtLessThanEqual(now);
+        int sweepCount = 0;
+
+        for (int chunk = 0; chunk < sweepProperties.maxChunks(); chunk++) {
+            SweptChunk swept = transactionTemplate.execute(status ->
+                    releaseHoldGroups(holdGroupRepository.lockExpiredIds(now, sweepProperties.chunkSize()), now));
+            sweepCount += swept.seatCount();
+            if (swept.groupCount() < sweepProperties.chunkSize()) {
+                break;
+            }
+        }
+        seatInventory.releaseExpiredOnCommit(now);
 
         return AdminExpireSweepResponse.from(sweepCount, now);
     }
+
+    /**
+     * 타이머가 만료 시각에 넘겨준 group만 정리한다. 이미 confirm/스윕된 group은 잠금 결과에서 빠진다.
+     */
+    public int expireHoldGroups(List<Long> holdGroupIds) {
+        Instant now = HoldTimes.now(clock);
+        SweptChunk swept = transactionTemplate.execute(status ->
+                releaseHoldGroups(holdGroupRepository.lockExpiredIdsIn(holdGroupIds, now), now));
+        return swept.seatCount();
+    }
+
+    /**
+     * 유저 한 명의 만료된 group을 호출자 트랜잭션 안에서 바로 정리한다(카운터 반환 포함). 정리한 group 수.
+     * 타이머/스윕이 아직 못 돈 만료 HOLD(노드 재시작 등)가 HOLD limit 슬롯을 잡고 있을 때 HoldService가 부른다.
+     */
+    public int expireUserHoldGroups(long userId, long eventId, Instant now) {
+        return releaseHoldGroups(holdGroupRepository.lockExpiredIdsOfUser(userId, eventId, now), now).groupCount();
+    }
+
+    private SweptChunk releaseHoldGroups(List<Long> holdGroupIds, Instant now) {
+        if (holdGroupIds.isEmpty()) {
+            return new SweptChunk(0, 0);
+        }
+        holdCounterRepository.releaseHoldGroups(holdGroupIds, now);
+        int seatCount = holdSeatStore.releaseExpired(holdGroupIds);
+        holdGroupRepository.deleteAllByIds(holdGroupIds);
+        return new SweptChunk(holdGroupIds.size(), seatCount);
+    }
+
+    private record SweptChunk(int groupCount, int seatCount) {
+    }
 }
@@ -0,0 +1,106 @@
+package com.example.ticket.service;
+
+import com.example.ticket.common.AfterTransaction;
+import com.example.ticket.common.HierarchicalTimingWheel;
+import com.example.ticket.config.HoldSweepProperties;
+import com.example.ticket.inventory.HoldReservation;
+import com.example.ticket.inventory.SeatInventory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hold group을 expiresAt 직후에 정리하는 인프로세스 타이머.
+ * - HOLD 커밋 후 등록(요청 스레드는 큐에 넣기만 하고, 휠은 tick 스레드만 만진다)
+ * - 만료된 group은 ExpireSweepService.expireHoldGroups로 정리 → 좌석 재사용이 스윕 주기와 무관해짐
+ * - DB 정리 후 메모리 인벤토리에서도 해제 → 좌석 배치도 스냅샷에 바로 AVAILABLE로 반영
+ * - 재시작/정리 실패로 놓친 group은 주기 스윕(ExpireSweepScheduler)이 회수한다
+ * - tick은 전용 스레드(hold-expiry-timer)에서 돈다 → 공유 스케줄러 풀의 다른 작업이 길어져도 만료가 밀리지 않음
+ */
+@Slf4j
+@Component
+public class HoldExpiryTimer implements InitializingBean, DisposableBean {
+
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 64;
+
+    private final Clock clock;
+    private final ExpireSweepService expireSweepService;
+    private final HoldSweepProperties sweepProperties;
+    private final SeatInventory seatInventory;
+
+    private final ConcurrentLinkedQueue<HoldReservation> registrations = new ConcurrentLinkedQueue<>();
+    private final HierarchicalTimingWheel<HoldReservation> wheel;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hold-expiry-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HoldExpiryTimer(
+            Clock clock,
+            ExpireSweepService expireSweepService,
+            HoldSweepProperties sweepProperties,
+            SeatInventory seatInventory
+    ) {
+        this.clock = clock;
+        this.expireSweepService = expireSweepService;
+        this.sweepProperties = sweepProperties;
+        this.seatInventory = seatInventory;
+        this.wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, clock.millis());
+    }
+
+    /**
+     * holdGroupId가 bind 된 reservation만 등록한다.
+     */
+    public void scheduleOnCommit(HoldReservation reservation) {
+        AfterTransaction.onCommit(() -> registrations.add(reservation));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        ticker.scheduleWithFixedDelay(() -> {
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                // 예외가 빠져나가면 이후 실행이 멈춘다
+                log.warn("hold expiry tick failed", e);
+            }
+        }, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        ticker.shutdownNow();
+    }
+
+    public void tick() {
+        HoldReservation registered;
+        while ((registered = registrations.poll()) != null) {
+            wheel.add(registered, registered.getExpiresAt().toEpochMilli());
+        }
+
+        List<HoldReservation> expired = new ArrayList<>();
+        wheel.advance(clock.millis(), expired::add);
+
+        int chunkSize = sweepProperties.chunkSize();
+        for (int from = 0; from < expired.size(); from += chunkSize) {
+            List<HoldReservation> chunk = expired.subList(from, Math.min(from + chunkSize, expired.size()));
+            try {
+                expireSweepService.expireHoldGroups(chunk.stream().map(HoldReservation::getHoldGroupId).toList());
+                chunk.forEach(seatInventory::release);
+            } catch (RuntimeException e) {
+                log.warn("hold expiry failed, left to sweep. holdGroups={}", chunk.size(), e);
+            }
+        }
+    }
+}
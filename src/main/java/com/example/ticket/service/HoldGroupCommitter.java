@@ -0,0 +1,240 @@
+package com.example.ticket.service;
+
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.HoldGroupCommitProperties;
+import com.example.ticket.domain.idempotency.HoldIdempotency;
+import com.example.ticket.repository.HoldGroupWriter;
+import com.example.ticket.repository.HoldIdempotencyRepository;
+import com.example.ticket.repository.HoldSeatStore;
+import com.example.ticket.repository.HoldSeatStore.SeatHold;
+import com.example.ticket.repository.UserEventHoldCounterRepository;
+import com.example.ticket.repository.dto.HeldSeatPrice;
+import com.example.ticket.repository.dto.HoldGroupRow;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * HOLD write-behind group commit. 켜면 짧은 창(maxWait 또는 maxBatchSize) 안에 들어온 HOLD의 행을 한 트랜잭션에 모아 쓴다.
+ * - 판정(멱등 행, 슬롯 예약, 메모리 좌석 선점)은 호출자 스레드에서 끝난다(HoldService.holdGrouped). 여기에는 이긴 HOLD의 행만 온다
+ * - 배치: hold_group_seats(HoldSeatStore.holdAll) → 진 group 정리 → hold_groups multi-row INSERT → 멱등 행 완료, 한 번 커밋
+ * - 다른 노드가 먼저 잡은 좌석에 진 HOLD만 SEAT_NOT_AVAILABLE(슬롯 반환, 멱등 행 삭제), 나머지는 같이 커밋
+ * - 배치 트랜잭션이 실패하면 별도 트랜잭션에서 슬롯/멱등 행을 되돌리고 모두 실패 처리
+ * - 호출자는 commitTimeout까지만 기다린다(넘으면 IDEMPOTENCY_IN_PROGRESS, 결과는 같은 키 재시도가 받는다)
+ * - 배치 크기 분포 ticket.hold.group_commit.batch_size, 커밋 시간 ticket.hold.group_commit.commit
+ */
+@Slf4j
+@Component
+public class HoldGroupCommitter implements DisposableBean {
+
+    private final HoldGroupCommitProperties properties;
+    private final HoldSeatStore holdSeatStore;
+    private final HoldGroupWriter holdGroupWriter;
+    private final HoldIdempotencyRepository holdIdempotencyRepository;
+    private final UserEventHoldCounterRepository holdCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary batchSize;
+    private final Timer commitTimer;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+
+    public HoldGroupCommitter(
+            HoldGroupCommitProperties properties,
+            HoldSeatStore holdSeatStore,
+            HoldGroupWriter holdGroupWriter,
+            HoldIdempotencyRepository holdIdempotencyRepository,
+            UserEventHoldCounterRepository holdCounterRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.holdSeatStore = holdSeatStore;
+        this.holdGroupWriter = holdGroupWriter;
+        this.holdIdempotencyRepository = holdIdempotencyRepository;
+        this.holdCounterRepository = holdCounterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = DistributionSummary.builder("ticket.hold.group_commit.batch_size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("ticket.hold.group_commit.commit").register(meterRegistry);
+
+        this.flusher = new Thread(this::run, "hold-group-commit");
+        this.flusher.setDaemon(true);
+        if (properties.enabled()) {
+            this.flusher.start();
+        }
+    }
+
+    public boolean enabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 다음 배치에 넣는다. 공유 커밋 후 완료되고, 진 HOLD/배치 실패는 예외로 완료된다.
+     */
+    public CompletableFuture<Void> submit(HoldWrite write) {
+        Pending pending = new Pending(write, new CompletableFuture<>());
+        queue.add(pending);
+        return pending.result();
+    }
+
+    /**
+     * commitTimeout까지만 기다린다. 넘기면 배치는 계속 진행되고 호출자에게는 IDEMPOTENCY_IN_PROGRESS.
+     */
+    public void await(CompletableFuture<Void> result) {
+        try {
+            result.get(properties.commitTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("hold group commit failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flusher.interrupt();
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(properties.maxBatchSize());
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            flush(batch);
+            batch.clear();
+        }
+        List<Pending> left = new ArrayList<>(batch);
+        queue.drainTo(left);
+        if (!left.isEmpty()) {
+            fail(left, new IllegalStateException("hold group commit stopped"));
+        }
+    }
+
+    private void collect(List<Pending> batch) throws InterruptedException {
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + properties.maxWait().toNanos();
+        while (batch.size() < properties.maxBatchSize()) {
+            if (queue.drainTo(batch, properties.maxBatchSize() - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        batchSize.record(batch.size());
+        Set<Long> lost;
+        try {
+            lost = commitTimer.record(() -> transactionTemplate.execute(status -> write(batch)));
+        } catch (RuntimeException e) {
+            log.warn("hold group commit failed. batch={}", batch.size(), e);
+            fail(batch, e);
+            return;
+        }
+        for (Pending pending : batch) {
+            if (lost.contains(pending.write().group().holdGroupId())) {
+                pending.result().completeExceptionally(new BusinessRuleViolationException(ErrorCode.SEAT_NOT_AVAILABLE));
+            } else {
+                pending.result().complete(null);
+            }
+        }
+    }
+
+    private Set<Long> write(List<Pending> batch) {
+        Instant now = batch.get(0).write().group().createdAt();
+        Set<Long> lost = holdSeatStore.holdAll(batch.stream().map(pending -> pending.write().seats()).toList(), now);
+
+        List<HoldWrite> won = new ArrayList<>(batch.size());
+        List<HoldWrite> rejected = new ArrayList<>(lost.size());
+        for (Pending pending : batch) {
+            (lost.contains(pending.write().group().holdGroupId()) ? rejected : won).add(pending.write());
+        }
+        if (!rejected.isEmpty()) {
+            holdSeatStore.discard(rejected.stream().map(write -> write.group().holdGroupId()).toList());
+            undo(rejected, now);
+        }
+
+        holdGroupWriter.insertAll(won.stream().map(HoldWrite::group).toList());
+        Map<Long, HoldWrite> byIdempotencyId = won.stream()
+                .collect(Collectors.toMap(HoldWrite::idempotencyId, Function.identity()));
+        // 영속 상태로 바꾼 뒤 커밋 시 JDBC batch UPDATE(hibernate.jdbc.batch_size)
+        for (HoldIdempotency idem : holdIdempotencyRepository.findAllById(byIdempotencyId.keySet())) {
+            HoldWrite write = byIdempotencyId.get(idem.getId());
+            idem.holdComplete(write.group().holdGroupId(), write.seatIds());
+        }
+        return lost;
+    }
+
+    /**
+     * 호출자 스레드가 미리 예약한 슬롯을 돌려주고 진행 중 멱등 행을 지운다(같은 키 재시도가 새로 시도할 수 있게).
+     */
+    private void undo(List<HoldWrite> writes, Instant now) {
+        for (HoldWrite write : writes) {
+            HoldGroupRow group = write.group();
+            holdCounterRepository.release(group.userId(), group.eventId(), group.seatCount(), now);
+        }
+        holdIdempotencyRepository.deleteAllByIdInBatch(writes.stream().map(HoldWrite::idempotencyId).toList());
+    }
+
+    private void fail(List<Pending> batch, RuntimeException cause) {
+        List<HoldWrite> writes = batch.stream().map(Pending::write).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> undo(writes, writes.get(0).group().createdAt()));
+        } catch (RuntimeException e) {
+            // 멱등 행은 expires_at이 지나면 재시도가 지우고 다시 넣는다
+            log.warn("hold group commit undo failed. batch={}", batch.size(), e);
+        }
+        batch.forEach(pending -> pending.result().completeExceptionally(cause));
+    }
+
+    /**
+     * 호출자 스레드에서 판정이 끝난 HOLD 한 건의 행(hold_groups 1행 + 좌석 행)
+     */
+    public record HoldWrite(long idempotencyId, HoldGroupRow group, SeatHold seats) {
+
+        List<Long> seatIds() {
+            return seats.seats().stream().map(HeldSeatPrice::seatId).toList();
+        }
+    }
+
+    private record Pending(HoldWrite write, CompletableFuture<Void> result) {
+    }
+}
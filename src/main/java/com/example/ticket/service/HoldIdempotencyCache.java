@@ -0,0 +1,153 @@
+package com.example.ticket.service;
+
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.HoldIdempotencyCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * (userId, eventId, Idempotency-Key) 단위 HOLD 응답 캐시. 트랜잭션 밖(컨트롤러)에서 감싼다.
+ * - 완료된 응답은 TTL 동안 DB 조회 없이 그대로 돌려줌(크기 상한 LRU). 단 판매 상태는 매번 확인(EventService 캐시)
+ * - 같은 키가 동시에 들어오면 먼저 온 요청 하나만 실행하고 나머지는 그 결과를 기다림(single-flight)
+ *   → 유니크 키 충돌 예외 분기(createHoldIdempotency)로 가지 않는다
+ * - requestKey(좌석 묶음 키)가 다르면 DB와 같은 IDEMPOTENCY_CONFLICT
+ * - 실패는 캐시하지 않음. 노드 로컬이라 캐시에 없으면 DB 행(hold_idempotency)이 기준
+ */
+@Component
+@RequiredArgsConstructor
+public class HoldIdempotencyCache {
+
+    private final HoldIdempotencyCacheProperties properties;
+    private final EventService eventService;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<Key, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Map<Key, Completed> completed = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Completed> eldest) {
+            return size() > properties.maxEntries();
+        }
+    };
+
+    public <T> T execute(
+            long userId,
+            long eventId,
+            String idempotencyKey,
+            String requestKey,
+            Class<T> type,
+            Supplier<T> call
+    ) {
+        if (!properties.enabled()) {
+            return call.get();
+        }
+        Key key = new Key(userId, eventId, idempotencyKey);
+
+        Completed hit = completedOrNull(key);
+        if (hit != null) {
+            return type.cast(replay(hit, eventId, requestKey));
+        }
+
+        InFlight mine = new InFlight(requestKey, new CompletableFuture<>());
+        InFlight leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            return type.cast(await(leader, requestKey));
+        }
+
+        try {
+            // 앞 요청이 막 끝나 inFlight에서 빠진 사이에 들어온 경우
+            hit = completedOrNull(key);
+            T result = hit != null ? type.cast(replay(hit, eventId, requestKey)) : call.get();
+            if (hit == null) {
+                store(key, new Completed(requestKey, result, clock.instant().plus(properties.ttl())));
+            }
+            mine.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * DB 경로(HoldService)와 같은 순서: 이벤트가 마감/종료됐으면 저장된 응답 대신 EVENT_NOT_ON_SALE
+     */
+    private Object replay(Completed hit, long eventId, String requestKey) {
+        eventService.validateOnSale(eventId, clock.instant());
+        return hit.verified(requestKey);
+    }
+
+    private Object await(InFlight leader, String requestKey) {
+        if (!leader.requestKey().equals(requestKey)) {
+            throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT);
+        }
+        try {
+            return leader.result().get(properties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Completed completedOrNull(Key key) {
+        Instant now = clock.instant();
+        synchronized (completed) {
+            Completed c = completed.get(key);
+            if (c == null) {
+                return null;
+            }
+            if (!c.expiresAt().isAfter(now)) {
+                completed.remove(key);
+                return null;
+            }
+            return c;
+        }
+    }
+
+    private void store(Key key, Completed value) {
+        synchronized (completed) {
+            completed.put(key, value);
+        }
+    }
+
+    int size() {
+        synchronized (completed) {
+            return completed.size();
+        }
+    }
+
+    private record Key(long userId, long eventId, String idempotencyKey) {
+    }
+
+    private record InFlight(String requestKey, CompletableFuture<Object> result) {
+    }
+
+    private record Completed(String requestKey, Object response, Instant expiresAt) {
+        Object verified(String requestKey) {
+            if (!this.requestKey.equals(requestKey)) {
+                throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT);
+            }
+            return response;
+        }
+    }
+}
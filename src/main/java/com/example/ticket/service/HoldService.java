@@ -1,27 +1,32 @@
 package com.example.ticket.service;
 
+import com.example.ticket.api.ticket.dto.HoldDto.BestAvailableHoldRequest;
+import com.example.ticket.api.ticket.dto.HoldDto.BestAvailableHoldResponse;
 import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateRequest;
 import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateResponse;
 import com.example.ticket.common.ErrorCode;
 import com.example.ticket.common.exception.BusinessRuleViolationException;
-import com.example.ticket.domain.event.Event;
-import com.example.ticket.domain.event.EventStatus;
-import com.example.ticket.domain.event.SeatStatus;
 import com.example.ticket.domain.hold.HoldGroup;
-import com.example.ticket.domain.hold.HoldGroupSeat;
 import com.example.ticket.domain.hold.HoldTimes;
 import com.example.ticket.domain.idempotency.HoldIdempotency;
 import com.example.ticket.domain.idempotency.SeatIdsCodec;
+import com.example.ticket.inventory.HoldReservation;
+import com.example.ticket.inventory.SeatInventory;
 import com.example.ticket.repository.*;
+import com.example.ticket.repository.HoldSeatStore.SeatHold;
+import com.example.ticket.repository.dto.HeldSeatPrice;
+import com.example.ticket.repository.dto.HoldGroupRow;
+import com.example.ticket.service.HoldGroupCommitter.HoldWrite;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -29,10 +34,17 @@ public class HoldService {
 
     private final Clock clock;
     private final HoldIdempotencyRepository holdIdempotencyRepository;
-    private final HoldGroupRepository holdGroupRepository;
-    private final HoldGroupSeatRepository holdGroupSeatRepository;
-    private final SeatRepository seatRepository;
-    private final EventRepository eventRepository;
+    private final HoldGroupWriter holdGroupWriter;
+    private final HoldSeatStore holdSeatStore;
+    private final EventService eventService;
+    private final SeatInventory seatInventory;
+    private final UserEventHoldCounterRepository holdCounterRepository;
+    private final HoldExpiryTimer holdExpiryTimer;
+    private final PooledIdAllocator pooledIdAllocator;
+    private final UnconfirmedHoldCache unconfirmedHoldCache;
+    private final HoldSlotReserver holdSlotReserver;
+    private final HoldGroupCommitter holdGroupCommitter;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public HoldCreateResponse hold(long userId, long eventId, HoldCreateRequest request, String idempotencyKey) {
@@ -41,146 +53,279 @@ public class HoldService {
 
         validEvent(eventId, now);
 
-        List<Long> seatIds = getNormalizedSeatIds(request.seatIds());
-        checkHoldSeatsCount(userId, eventId, now, seatIds.size());
-
-        String seatIdsKey = SeatIdsCodec.toCanonicalString(seatIds);
+        List<List<Long>> candidates = getNormalizedCandidates(request.candidates());
+        String seatIdsKey = SeatIdsCodec.toCandidatesKey(candidates);
 
         HoldIdempotency idem = resolveOrCreateIdempotency(userId, eventId, idempotencyKey, seatIdsKey, now, expiresAt);
 
         if (idem.isCompleted()) {
-            return HoldCreateResponse.from(idem);
+            return HoldCreateResponse.from(idem, idem.decodeHeldSeatIds());
         }
 
-        HoldGroup holdGroup = holdGroupRepository.save(HoldGroup.create(userId, expiresAt, eventId));
-        int saved = createHoldSeats(eventId, seatIds, expiresAt, holdGroup);
+        reserveHoldSlots(userId, eventId, now, candidates.get(0).size());
+        HoldReservation reservation = reserveFirstAvailableSeats(eventId, candidates, expiresAt, now);
+        persistHold(userId, eventId, idem, reservation, expiresAt, now);
 
-        idem.holdComplete(holdGroup.getId(), saved);
-        holdIdempotencyRepository.save(idem);
+        return HoldCreateResponse.from(idem, reservation.getSeatIds());
+    }
+
+    /**
+     * zone에서 인접 count석을 서버가 골라 HOLD. 좌석 선택은 메모리 인벤토리에서 CAS로 끝나므로
+     * 같은 "좋은 좌석"에 몰려 DB 유니크 키에서 지고 재시도하는 일이 없다. 이후 흐름은 hold와 같다.
+     */
+    @Transactional
+    public BestAvailableHoldResponse holdBestAvailable(
+            long userId,
+            long eventId,
+            BestAvailableHoldRequest request,
+            String idempotencyKey
+    ) {
+        Instant now = HoldTimes.now(clock);
+        Instant expiresAt = HoldTimes.holdUntil(clock);
+
+        validEvent(eventId, now);
+
+        String requestKey = SeatIdsCodec.bestAvailableKey(request.zoneCode(), request.count());
+        HoldIdempotency idem = resolveOrCreateIdempotency(userId, eventId, idempotencyKey, requestKey, now, expiresAt);
+
+        if (idem.isCompleted()) {
+            return BestAvailableHoldResponse.from(idem, idem.decodeHeldSeatIds());
+        }
 
-        return HoldCreateResponse.from(idem);
+        reserveHoldSlots(userId, eventId, now, request.count());
+        HoldReservation reservation = seatInventory
+                .tryHoldBestAvailable(eventId, request.zoneCode(), request.count(), expiresAt, now)
+                .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.SEAT_NOT_AVAILABLE));
+        seatInventory.releaseOnRollback(reservation);
+        persistHold(userId, eventId, idem, reservation, expiresAt, now);
+
+        return BestAvailableHoldResponse.from(idem, reservation.getSeatIds());
     }
 
+    /**
+     * group commit이 켜졌을 때의 hold(트랜잭션 밖에서 호출).
+     * 멱등 행 + 슬롯 예약을 짧은 트랜잭션으로 먼저 커밋하고 좌석은 메모리 인벤토리에서 판정한다.
+     * 이긴 HOLD의 행만 HoldGroupCommitter 배치로 넘기고 그 커밋까지 기다린다.
+     */
+    public HoldCreateResponse holdGrouped(long userId, long eventId, HoldCreateRequest request, String idempotencyKey) {
+        Instant now = HoldTimes.now(clock);
+        Instant expiresAt = HoldTimes.holdUntil(clock);
 
-    @Transactional(readOnly = true)
-    public void validEvent(long eventId, Instant now) {
-        Event event = eventRepository.findById(eventId).orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.EVENT_NOT_FOUND));
-        if (!event.getStatus().equals(EventStatus.OPEN) || event.getSalesOpenAt().isAfter(now) || !now.isBefore(event.getSalesCloseAt())) {
-            throw new BusinessRuleViolationException(ErrorCode.EVENT_NOT_ON_SALE);
+        validEvent(eventId, now);
+
+        List<List<Long>> candidates = getNormalizedCandidates(request.candidates());
+        String seatIdsKey = SeatIdsCodec.toCandidatesKey(candidates);
+        int seatCount = candidates.get(0).size();
+
+        HoldIdempotency idem = reserveForGroupCommit(userId, eventId, idempotencyKey, seatIdsKey, seatCount, now, expiresAt);
+        if (idem.isCompleted()) {
+            return HoldCreateResponse.from(idem, idem.decodeHeldSeatIds());
         }
+
+        HoldReservation reservation;
+        try {
+            reservation = reserveFirstAvailableSeats(eventId, candidates, expiresAt, now);
+        } catch (RuntimeException e) {
+            undoGroupCommitReservation(userId, eventId, idem, seatCount, now);
+            throw e;
+        }
+        commitGrouped(userId, eventId, idem, reservation, expiresAt, now);
+
+        return HoldCreateResponse.from(idem, reservation.getSeatIds());
     }
 
-    //todo HOLD 2번시 경합 해결
-    @Transactional(readOnly = true)
-    public void checkHoldSeatsCount(long userId, long eventId, Instant now, long requestSeatIdsCount) {
-        List<Long> holdGroupIds = holdGroupRepository.findActiveIds(userId, eventId, now);
-        if (!holdGroupIds.isEmpty()) {
-            long holdSeatsCount = holdGroupSeatRepository.countByEventIdAndHoldGroupIdInAndExpiresAtAfter(eventId, holdGroupIds, now);
-            if (holdSeatsCount + requestSeatIdsCount > 4) {
-                throw new BusinessRuleViolationException(ErrorCode.HOLD_LIMIT_EXCEEDED);
-            }
-        } else {
-            if (requestSeatIdsCount > 4) {
-                throw new BusinessRuleViolationException(ErrorCode.HOLD_LIMIT_EXCEEDED);
-            }
+    /**
+     * holdBestAvailable의 group commit 버전(holdGrouped 참고)
+     */
+    public BestAvailableHoldResponse holdBestAvailableGrouped(
+            long userId,
+            long eventId,
+            BestAvailableHoldRequest request,
+            String idempotencyKey
+    ) {
+        Instant now = HoldTimes.now(clock);
+        Instant expiresAt = HoldTimes.holdUntil(clock);
+
+        validEvent(eventId, now);
+
+        String requestKey = SeatIdsCodec.bestAvailableKey(request.zoneCode(), request.count());
+        HoldIdempotency idem = reserveForGroupCommit(userId, eventId, idempotencyKey, requestKey, request.count(), now, expiresAt);
+        if (idem.isCompleted()) {
+            return BestAvailableHoldResponse.from(idem, idem.decodeHeldSeatIds());
         }
+
+        Optional<HoldReservation> reserved = seatInventory
+                .tryHoldBestAvailable(eventId, request.zoneCode(), request.count(), expiresAt, now);
+        if (reserved.isEmpty()) {
+            undoGroupCommitReservation(userId, eventId, idem, request.count(), now);
+            throw new BusinessRuleViolationException(ErrorCode.SEAT_NOT_AVAILABLE);
+        }
+        commitGrouped(userId, eventId, idem, reserved.get(), expiresAt, now);
+
+        return BestAvailableHoldResponse.from(idem, reserved.get().getSeatIds());
+    }
+
+
+    /**
+     * 멱등 비교 키(정규화된 좌석 묶음). 트랜잭션 밖 멱등 캐시(HoldIdempotencyCache)가 같은 키를 쓴다.
+     */
+    public String requestKeyOf(HoldCreateRequest request) {
+        return SeatIdsCodec.toCandidatesKey(getNormalizedCandidates(request.candidates()));
+    }
+
+    public String requestKeyOf(BestAvailableHoldRequest request) {
+        return SeatIdsCodec.bestAvailableKey(request.zoneCode(), request.count());
     }
 
+    public void validEvent(long eventId, Instant now) {
+        eventService.validateOnSale(eventId, now);
+    }
+
+    /**
+     * 유저 HOLD limit 검사 + 슬롯 예약(HoldSlotReserver).
+     * HOLD가 이후에 실패하면 같은 트랜잭션이라 예약도 함께 rollback 된다.
+     */
     @Transactional
-    protected HoldIdempotency createHoldIdempotency(
-            long userId,
+    public void reserveHoldSlots(long userId, long eventId, Instant now, int requestSeatCount) {
+        holdSlotReserver.reserve(userId, eventId, now, requestSeatCount);
+    }
+
+    /**
+     * 메모리 인벤토리에서 먼저 좌석을 선점한다. 여기서 지면 DB write 없이 바로 거절.
+     * 후보 묶음(seatIds, alternatives...)을 순서대로 시도해 처음 잡힌 묶음으로 진행한다(재조회/재요청 왕복 절약).
+     * 대체는 메모리 경합에만 적용: DB 삽입이 실패하면 지금처럼 요청 전체가 SEAT_NOT_AVAILABLE.
+     * 이후 트랜잭션이 rollback 되면 선점도 함께 해제된다.
+     */
+    public HoldReservation reserveFirstAvailableSeats(
             long eventId,
-            String idempotencyKey,
-            String seatIdsKey,
+            List<List<Long>> candidates,
             Instant expiresAt,
             Instant now
     ) {
-        try {
-            return holdIdempotencyRepository.save(
-                    HoldIdempotency.create(userId, idempotencyKey, eventId, seatIdsKey, expiresAt)
-            );
-        } catch (DataIntegrityViolationException e) {
-            if (!isConstraint(e, "uk_hold_idempotency_user_event_key")) {
-                throw e;
+        for (List<Long> seatIds : candidates) {
+            Optional<HoldReservation> reserved = seatInventory.tryHold(eventId, seatIds, expiresAt, now);
+            if (reserved.isPresent()) {
+                seatInventory.releaseOnRollback(reserved.get());
+                return reserved.get();
             }
+        }
+        throw new BusinessRuleViolationException(ErrorCode.SEAT_NOT_AVAILABLE);
+    }
 
-            HoldIdempotency existing = holdIdempotencyRepository
-                    .findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, idempotencyKey)
-                    .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT));
-
-            if (!existing.getSeatIdsKey().equals(seatIdsKey)) {
-                throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT);
-            }
+    private void persistHold(
+            long userId,
+            long eventId,
+            HoldIdempotency idem,
+            HoldReservation reservation,
+            Instant expiresAt,
+            Instant now
+    ) {
+        List<Long> seatIds = reservation.getSeatIds();
+        long holdGroupId = pooledIdAllocator.next(HoldGroup.class);
+        reservation.bind(holdGroupId);
+        createHoldSeats(eventId, seatIds, expiresAt, holdGroupId, now);
+        // 메모리 배치도 가격이 아니라 방금 기록한 행의 가격(confirm이 booking item에 쓰는 값)으로 합계를 낸다
+        long totalAmount = holdSeatStore.sumValidPrices(holdGroupId, eventId, now);
+        holdGroupWriter.insert(new HoldGroupRow(holdGroupId, userId, eventId, expiresAt, seatIds.size(), totalAmount, now));
+        holdExpiryTimer.scheduleOnCommit(reservation);
+        unconfirmedHoldCache.addOnCommit(holdGroupId, expiresAt);
+
+        idem.holdComplete(holdGroupId, seatIds);
+        holdIdempotencyRepository.save(idem);
+    }
 
-            if (existing.isCompleted()) {
-                return existing;
+    /**
+     * 멱등 행 + 슬롯 예약을 한 트랜잭션으로 커밋(카운터 행 락은 이 짧은 트랜잭션 동안만).
+     * limit 초과면 멱등 행도 함께 rollback 된다.
+     */
+    private HoldIdempotency reserveForGroupCommit(
+            long userId,
+            long eventId,
+            String idempotencyKey,
+            String requestKey,
+            int seatCount,
+            Instant now,
+            Instant expiresAt
+    ) {
+        return transactionTemplate.execute(status -> {
+            HoldIdempotency idem = resolveOrCreateIdempotency(userId, eventId, idempotencyKey, requestKey, now, expiresAt);
+            if (!idem.isCompleted()) {
+                holdSlotReserver.reserve(userId, eventId, now, seatCount);
             }
+            return idem;
+        });
+    }
 
-            if (existing.getExpiresAt().isAfter(now)) {
-                throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
-            }
+    /**
+     * 메모리에서 진 HOLD: 먼저 커밋한 슬롯을 돌려주고 진행 중 멱등 행을 지운다(같은 키 재시도가 새로 시도).
+     */
+    private void undoGroupCommitReservation(long userId, long eventId, HoldIdempotency idem, int seatCount, Instant now) {
+        transactionTemplate.executeWithoutResult(status -> {
+            holdCounterRepository.release(userId, eventId, seatCount, now);
+            holdIdempotencyRepository.deleteAllByIdInBatch(List.of(idem.getId()));
+        });
+    }
 
-            int deleted = holdIdempotencyRepository.deleteStaleInProgress(
-                    userId, eventId, idempotencyKey, now
+    /**
+     * 이긴 HOLD의 행(배치도 가격 기준)을 배치에 넘기고 공유 커밋을 기다린다.
+     * 메모리 훅은 배치 결과로 실행되므로 호출자가 commitTimeout으로 먼저 돌아가도 빠지지 않는다.
+     */
+    private void commitGrouped(
+            long userId,
+            long eventId,
+            HoldIdempotency idem,
+            HoldReservation reservation,
+            Instant expiresAt,
+            Instant now
+    ) {
+        CompletableFuture<Void> result;
+        try {
+            long holdGroupId = pooledIdAllocator.next(HoldGroup.class);
+            reservation.bind(holdGroupId);
+            List<HeldSeatPrice> seats = seatInventory.pricesOf(reservation);
+            long totalAmount = seats.stream().mapToLong(HeldSeatPrice::price).sum();
+            HoldWrite write = new HoldWrite(
+                    idem.getId(),
+                    new HoldGroupRow(holdGroupId, userId, eventId, expiresAt, seats.size(), totalAmount, now),
+                    new SeatHold(holdGroupId, eventId, expiresAt, seats)
             );
-            if (deleted == 1) {
-                try {
-                    return holdIdempotencyRepository.save(
-                            HoldIdempotency.create(userId, idempotencyKey, eventId, seatIdsKey, expiresAt)
-                    );
-                } catch (DataIntegrityViolationException e2) {
-                    if (!isConstraint(e2, "uk_hold_idempotency_user_event_key")) {
-                        throw e2;
-                    }
-
-                    HoldIdempotency reread = holdIdempotencyRepository
-                            .findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, idempotencyKey)
-                            .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT));
-
-                    if (!reread.getSeatIdsKey().equals(seatIdsKey)) {
-                        throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT);
-                    }
-                    if (reread.isCompleted()) {
-                        return reread;
-                    }
-                    throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+            result = holdGroupCommitter.submit(write).whenComplete((ignored, failure) -> {
+                if (failure == null) {
+                    holdExpiryTimer.scheduleOnCommit(reservation);
+                    unconfirmedHoldCache.addOnCommit(holdGroupId, expiresAt);
+                } else {
+                    seatInventory.release(reservation);
                 }
-            }
-            HoldIdempotency reread = holdIdempotencyRepository
-                    .findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, idempotencyKey)
-                    .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT));
-
-            if (!reread.getSeatIdsKey().equals(seatIdsKey)) {
-                throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT);
-            }
-            if (reread.isCompleted()) {
-                return reread;
-            }
-            throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+            });
+        } catch (RuntimeException e) {
+            seatInventory.release(reservation);
+            undoGroupCommitReservation(userId, eventId, idem, reservation.getSeatIds().size(), now);
+            throw e;
         }
+        holdGroupCommitter.await(result);
+        idem.holdComplete(reservation.getHoldGroupId(), reservation.getSeatIds());
     }
 
-
+    /**
+     * AVAILABLE이고 아직 HOLD가 없는 좌석만 문장 하나로 기록(HoldSeatStore: INSERT IGNORE ... SELECT 또는 조건부 UPDATE).
+     * 기록 건수가 요청 수와 다르면 All-or-Nothing 위반 → 예외로 rollback(부분 기록도 함께 취소).
+     * 경합에 진 경우도 예외 없이 건수로만 판정한다.
+     */
     @Transactional
-    public int createHoldSeats(long eventId, List<Long> seatIds, Instant expiresAt, HoldGroup holdGroup) {
-        try {
-            long seatsSize = seatRepository.countByEventIdAndIdInAndStatus(eventId, seatIds, SeatStatus.AVAILABLE);
-            if (seatsSize != seatIds.size()) {
-                throw new BusinessRuleViolationException(ErrorCode.SEAT_NOT_AVAILABLE);
-            }
-            List<HoldGroupSeat> savedHoldGroupSeats = holdGroupSeatRepository.saveAll(
-                    seatIds.stream()
-                            .map(seatId -> HoldGroupSeat.create(seatId, eventId, expiresAt, holdGroup.getId()))
-                            .toList());
-            return savedHoldGroupSeats.size();
-        } catch (DataIntegrityViolationException e) {
-            if (isConstraint(e, "uk_hold_group_seats_seat_id_event_id")) {
-                throw new BusinessRuleViolationException(ErrorCode.SEAT_NOT_AVAILABLE);
-            }
-            throw e;
+    public int createHoldSeats(long eventId, List<Long> seatIds, Instant expiresAt, long holdGroupId, Instant now) {
+        int inserted = holdSeatStore.hold(eventId, seatIds, holdGroupId, expiresAt, now);
+        if (inserted != seatIds.size()) {
+            throw new BusinessRuleViolationException(ErrorCode.SEAT_NOT_AVAILABLE);
         }
+        return inserted;
     }
 
+    /**
+     * 멱등 행을 먼저 INSERT IGNORE로 넣어 본다(조회 → 삽입 → 유니크 키 예외 → 재조회 대신).
+     * - 1건 삽입: 새 요청. 방금 넣은 행을 PK로 읽어 진행
+     * - 0건: 이미 있음. 같은 요청이면 완료 응답 재사용, 진행 중이면 IN_PROGRESS, 만료된 진행 중 행이면 지우고 한 번 더 삽입
+     * 이긴 쪽/진 쪽 모두 문장 2개로 끝나고 예외를 만들지 않는다.
+     */
     @Transactional
     protected HoldIdempotency resolveOrCreateIdempotency(
             long userId,
@@ -190,56 +335,63 @@ public class HoldService {
             Instant now,
             Instant expiresAt
     ) {
-        Optional<HoldIdempotency> found =
-                holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, idempotencyKey);
-
-        if (found.isPresent()) {
-            HoldIdempotency existing = found.get();
-
-            if (!existing.getSeatIdsKey().equals(seatIdsKey)) {
-                throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT);
-            }
-
-            if (existing.isCompleted()) {
-                return existing;
-            }
-
-            if (existing.getExpiresAt().isAfter(now)) {
-                throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
-            }
-
-            int deleted = holdIdempotencyRepository.deleteStaleInProgress(
-                    userId, eventId, idempotencyKey, now
-            );
+        Optional<HoldIdempotency> created = insertIdempotencyIfAbsent(userId, eventId, idempotencyKey, seatIdsKey, now, expiresAt);
+        if (created.isPresent()) {
+            return created.get();
+        }
 
-            if (deleted == 0) {
-                HoldIdempotency reread = holdIdempotencyRepository
-                        .findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, idempotencyKey)
-                        .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT));
+        HoldIdempotency existing = findExistingIdempotency(userId, eventId, idempotencyKey, seatIdsKey);
+        if (existing.isCompleted()) {
+            return existing;
+        }
+        if (existing.getExpiresAt().isAfter(now)) {
+            throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        }
 
-                if (!reread.getSeatIdsKey().equals(seatIdsKey)) {
-                    throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT);
-                }
-                if (reread.isCompleted()) {
-                    return reread;
-                }
-                throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        if (holdIdempotencyRepository.deleteStaleInProgress(userId, eventId, idempotencyKey, now) == 1) {
+            created = insertIdempotencyIfAbsent(userId, eventId, idempotencyKey, seatIdsKey, now, expiresAt);
+            if (created.isPresent()) {
+                return created.get();
             }
+        }
 
+        HoldIdempotency reread = findExistingIdempotency(userId, eventId, idempotencyKey, seatIdsKey);
+        if (reread.isCompleted()) {
+            return reread;
         }
+        throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+    }
 
-        return createHoldIdempotency(userId, eventId, idempotencyKey, seatIdsKey, expiresAt, now);
+    private Optional<HoldIdempotency> insertIdempotencyIfAbsent(
+            long userId,
+            long eventId,
+            String idempotencyKey,
+            String seatIdsKey,
+            Instant now,
+            Instant expiresAt
+    ) {
+        long id = pooledIdAllocator.next(HoldIdempotency.class);
+        int inserted = holdIdempotencyRepository.insertIfAbsent(
+                id, userId, eventId, idempotencyKey, seatIdsKey, expiresAt, now
+        );
+        if (inserted != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(holdIdempotencyRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("inserted hold idempotency not found: " + id)));
     }
 
-    private boolean isConstraint(Throwable e, String constraintName) {
-        Throwable cur = e;
-        while (cur != null) {
-            if (cur instanceof org.hibernate.exception.ConstraintViolationException cve) {
-                return constraintName.equalsIgnoreCase(cve.getConstraintName());
-            }
-            cur = cur.getCause();
+    /**
+     * 이미 있는 멱등 행. 그 사이 지워졌거나 다른 좌석 묶음이면 IDEMPOTENCY_CONFLICT.
+     */
+    private HoldIdempotency findExistingIdempotency(long userId, long eventId, String idempotencyKey, String seatIdsKey) {
+        HoldIdempotency existing = holdIdempotencyRepository
+                .findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, idempotencyKey)
+                .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT));
+        if (!existing.getSeatIdsKey().equals(seatIdsKey)) {
+            throw new BusinessRuleViolationException(ErrorCode.IDEMPOTENCY_CONFLICT);
         }
-        return false;
+        return existing;
     }
 
 
@@ -250,4 +402,19 @@ public class HoldService {
         }
         return normalized;
     }
+
+    /**
+     * 각 묶음 정규화 + 중복 묶음 제거. 카운터를 한 번만 예약하도록 모든 묶음의 좌석 수가 같아야 한다.
+     */
+    private List<List<Long>> getNormalizedCandidates(List<List<Long>> candidates) {
+        List<List<Long>> normalized = candidates.stream()
+                .map(this::getNormalizedSeatIds)
+                .distinct()
+                .toList();
+        int seatCount = normalized.get(0).size();
+        if (normalized.stream().anyMatch(seatIds -> seatIds.size() != seatCount)) {
+            throw new BusinessRuleViolationException(ErrorCode.INVALID_SEAT_SET);
+        }
+        return normalized;
+    }
 }
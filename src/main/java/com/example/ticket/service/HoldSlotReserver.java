@@ -0,0 +1,45 @@
+package com.example.ticket.service;
+
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.domain.hold.UserEventHoldCounter;
+import com.example.ticket.repository.UserEventHoldCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 유저 HOLD limit 검사 + 슬롯 예약. 트랜잭션을 스스로 열지 않고 호출자 트랜잭션(HOLD 또는 group commit 배치)에서 돈다.
+ * 트랜잭션 프록시가 없으므로 HOLD_LIMIT_EXCEEDED가 배치 트랜잭션을 rollback-only로 만들지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HoldSlotReserver {
+
+    private final UserEventHoldCounterRepository holdCounterRepository;
+    private final ExpireSweepService expireSweepService;
+
+    /**
+     * 조건부 UPDATE 한 번으로 예약(동시 HOLD 레이스 없음). 카운터 행이 아직 없을 때만 insert 후 한 번 더 시도한다.
+     * 그래도 넘으면 만료됐지만 아직 정리 안 된 본인 HOLD를 그 자리에서 정리(카운터 반환)하고 한 번 더 시도한다.
+     */
+    public void reserve(long userId, long eventId, Instant now, int requestSeatCount) {
+        int limit = UserEventHoldCounter.MAX_HELD_SEATS;
+        if (requestSeatCount > limit) {
+            throw new BusinessRuleViolationException(ErrorCode.HOLD_LIMIT_EXCEEDED);
+        }
+        if (holdCounterRepository.tryReserve(userId, eventId, requestSeatCount, limit, now) == 1) {
+            return;
+        }
+        holdCounterRepository.insertIfAbsent(userId, eventId, now);
+        if (holdCounterRepository.tryReserve(userId, eventId, requestSeatCount, limit, now) == 1) {
+            return;
+        }
+        if (expireSweepService.expireUserHoldGroups(userId, eventId, now) > 0
+                && holdCounterRepository.tryReserve(userId, eventId, requestSeatCount, limit, now) == 1) {
+            return;
+        }
+        throw new BusinessRuleViolationException(ErrorCode.HOLD_LIMIT_EXCEEDED);
+    }
+}
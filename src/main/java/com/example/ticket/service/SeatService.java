@@ -1,23 +1,96 @@
 package com.example.ticket.service;
 
+import com.example.ticket.api.ticket.dto.EncodedSeatMap;
+import com.example.ticket.api.ticket.dto.SeatQueryDto.SeatChangesResponse;
+import com.example.ticket.api.ticket.dto.SeatQueryDto.SeatLayoutResponse;
 import com.example.ticket.api.ticket.dto.SeatQueryDto.SeatListResponse;
-import com.example.ticket.domain.seat.Seat;
-import com.example.ticket.repository.SeatRepository;
+import com.example.ticket.inventory.SeatInventory;
+import com.example.ticket.inventory.SeatLayoutDocument;
+import com.example.ticket.inventory.SeatMapSnapshot;
+import com.example.ticket.inventory.SeatStatusBitmap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
 
-import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 좌석 배치도 조회. 메모리 인벤토리 스냅샷을 version 단위로 응답에 매핑해 두고 재사용한다.
+ * HELD는 만료 전 HOLD(기본 hold_group_seats, seat-claim 방식이면 seats의 held_by_group_id/held_until)에서 계산한 상태다.
+ * seats.status 컬럼에는 AVAILABLE/SOLD만 저장된다.
+ * GET /seats는 version마다 한 번 인코딩한 JSON 바이트(EncodedSeatMap)를 그대로 내려준다.
+ */
 @Service
 @RequiredArgsConstructor
 public class SeatService {
 
-    private final SeatRepository seatRepository;
+    private final EventService eventService;
+    private final SeatInventory seatInventory;
+    private final JsonMapper jsonMapper;
+
+    private final ConcurrentHashMap<Long, SeatListResponse> responses = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, EncodedSeatMap> encoded = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, SeatLayoutResponse> layouts = new ConcurrentHashMap<>();
 
-    @Transactional(readOnly = true)
     public SeatListResponse getSeats(long eventId) {
-        List<Seat> seats = seatRepository.findAllByEventIdOrderByZoneCodeAscSeatNoAsc(eventId);
-        return SeatListResponse.from(eventId, seats);
+        eventService.validateExists(eventId);
+        SeatMapSnapshot snapshot = seatInventory.snapshot(eventId);
+
+        SeatListResponse cached = responses.get(eventId);
+        if (cached != null && cached.version() >= snapshot.version()) {
+            return cached;
+        }
+        SeatListResponse response = SeatListResponse.from(snapshot);
+        responses.merge(eventId, response, (cur, next) -> cur.version() >= next.version() ? cur : next);
+        return response;
+    }
+
+    /**
+     * 새 version이면 한 번만 인코딩한다. compute 안에서 인코딩 → 같은 이벤트의 동시 요청은 그 결과를 기다려 재사용
+     */
+    public EncodedSeatMap getEncodedSeats(long eventId) {
+        SeatListResponse seats = getSeats(eventId);
+
+        EncodedSeatMap cached = encoded.get(eventId);
+        if (cached != null && cached.version() >= seats.version()) {
+            return cached;
+        }
+        return encoded.compute(eventId, (id, cur) -> cur != null && cur.version() >= seats.version()
+                ? cur
+                : EncodedSeatMap.encode(seats, jsonMapper.writeValueAsBytes(seats)));
+    }
+
+    /**
+     * 정적 배치도. layoutId가 바뀔 때(좌석 구성 변경 후 재적재)만 응답을 새로 만든다.
+     */
+    public SeatLayoutResponse getSeatLayout(long eventId) {
+        eventService.validateExists(eventId);
+        SeatLayoutDocument layout = seatInventory.layout(eventId);
+
+        SeatLayoutResponse cached = layouts.get(eventId);
+        if (cached != null && cached.layoutId().equals(layout.layoutId())) {
+            return cached;
+        }
+        SeatLayoutResponse response = SeatLayoutResponse.from(layout);
+        layouts.put(eventId, response);
+        return response;
+    }
+
+    /**
+     * 좌석당 2bit 상태(AVAILABLE/HELD/SOLD). 인벤토리가 version마다 한 번 만든 비트맵을 그대로 쓴다.
+     */
+    public SeatStatusBitmap getSeatBitmap(long eventId) {
+        eventService.validateExists(eventId);
+        return seatInventory.bitmap(eventId);
+    }
+
+    /**
+     * sinceVersion 이후 바뀐 좌석만. change ring으로 이어갈 수 없으면 전체 스냅샷으로 대체.
+     */
+    public SeatChangesResponse getSeatChanges(long eventId, long sinceVersion) {
+        eventService.validateExists(eventId);
+        return seatInventory.changesSince(eventId, sinceVersion)
+                .map(SeatChangesResponse::delta)
+                .orElseGet(() -> SeatChangesResponse.full(sinceVersion, getSeats(eventId)));
     }
 }
@@ -0,0 +1,235 @@
+package com.example.ticket.service;
+
+import com.example.ticket.api.ticket.dto.SeatQueryDto.SeatChangesResponse;
+import com.example.ticket.api.ticket.dto.SeatQueryDto.SeatStreamResetDto;
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.SeatStreamProperties;
+import com.example.ticket.inventory.SeatInventory;
+import com.example.ticket.inventory.SeatMapDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좌석 상태 변경 SSE(GET /api/events/{eventId}/seats/stream).
+ * - 이벤트별로 broadcast 주기마다 change ring에서 delta를 한 번 만들어 JSON으로 한 번만 직렬화, 모든 구독자에 공유
+ * - 구독자마다 bounded queue + 전송 스레드 풀에서 비움 → 느린 소켓이 broadcast를 막지 않음
+ * - queue가 넘치는 느린 구독자는 끊는다. 클라이언트는 Last-Event-ID(version)로 재접속해 delta/reset으로 따라잡음
+ * - 유휴 연결은 servlet async라 스레드를 점유하지 않는다(heartbeat 주석만 주기적으로 전송)
+ */
+@Slf4j
+@Service
+public class SeatStreamService implements DisposableBean {
+
+    private static final long BROADCAST_INTERVAL_MILLIS = 100;
+
+    private static final String CHANGES_EVENT = "changes";
+    private static final String RESET_EVENT = "reset";
+
+    private final SeatInventory seatInventory;
+    private final EventService eventService;
+    private final JsonMapper jsonMapper;
+    private final SeatStreamProperties properties;
+    private final ExecutorService senders;
+
+    private final ConcurrentHashMap<Long, EventChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("hb").build();
+
+    public SeatStreamService(
+            SeatInventory seatInventory,
+            EventService eventService,
+            JsonMapper jsonMapper,
+            SeatStreamProperties properties
+    ) {
+        this.seatInventory = seatInventory;
+        this.eventService = eventService;
+        this.jsonMapper = jsonMapper;
+        this.properties = properties;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(properties.senderThreads(), r -> {
+            Thread t = new Thread(r, "seat-stream-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * lastEventId(마지막으로 받은 version)가 있으면 그 이후 delta부터, 없거나 이어갈 수 없으면 reset을 먼저 보낸다.
+     */
+    public SseEmitter subscribe(long eventId, Long lastEventId) {
+        eventService.validateExists(eventId);
+        if (subscriberCount.incrementAndGet() > properties.maxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessRuleViolationException(ErrorCode.SEAT_STREAM_BUSY);
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.connectionTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(eventId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        channels.compute(eventId, (id, channel) -> {
+            EventChannel joined = channel != null ? channel : new EventChannel(seatInventory.snapshot(id).version());
+            joined.subscribers.add(subscriber);
+            return joined;
+        });
+
+        Optional<SeatMapDelta> catchUp = lastEventId == null
+                ? Optional.empty()
+                : seatInventory.changesSince(eventId, lastEventId);
+        subscriber.offer(catchUp.map(this::changesMessage).orElseGet(() -> resetMessage(eventId)));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Scheduled(fixedDelay = BROADCAST_INTERVAL_MILLIS)
+    public void broadcast() {
+        for (Long eventId : channels.keySet()) {
+            EventChannel channel = channels.computeIfPresent(eventId, (id, ch) -> ch.subscribers.isEmpty() ? null : ch);
+            if (channel == null) {
+                continue;
+            }
+            Optional<SeatMapDelta> delta = seatInventory.changesSince(eventId, channel.lastVersion);
+            if (delta.isPresent() && delta.get().changes().isEmpty()) {
+                continue;
+            }
+
+            Set<DataWithMediaType> message;
+            if (delta.isPresent()) {
+                message = changesMessage(delta.get());
+                channel.lastVersion = delta.get().version();
+            } else {
+                // ring을 넘겼거나 인벤토리가 재적재됨 → 클라이언트가 /seats를 다시 받도록
+                channel.lastVersion = seatInventory.snapshot(eventId).version();
+                message = resetMessage(eventId, channel.lastVersion);
+            }
+            channel.subscribers.forEach(s -> s.offer(message));
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${ticket.seat-stream.heartbeat-interval:20s}",
+            fixedDelayString = "${ticket.seat-stream.heartbeat-interval:20s}"
+    )
+    public void heartbeat() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.offer(heartbeat)));
+    }
+
+    @Override
+    public void destroy() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    private Set<DataWithMediaType> changesMessage(SeatMapDelta delta) {
+        return SseEmitter.event()
+                .id(String.valueOf(delta.version()))
+                .name(CHANGES_EVENT)
+                .data(jsonMapper.writeValueAsString(SeatChangesResponse.delta(delta)), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private Set<DataWithMediaType> resetMessage(long eventId) {
+        return resetMessage(eventId, seatInventory.snapshot(eventId).version());
+    }
+
+    private Set<DataWithMediaType> resetMessage(long eventId, long version) {
+        return SseEmitter.event()
+                .id(String.valueOf(version))
+                .name(RESET_EVENT)
+                .data(jsonMapper.writeValueAsString(new SeatStreamResetDto(eventId, version)), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private static final class EventChannel {
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private volatile long lastVersion;
+
+        private EventChannel(long lastVersion) {
+            this.lastVersion = lastVersion;
+        }
+    }
+
+    private final class Subscriber {
+        private final long eventId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(long eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        }
+
+        private void offer(Set<DataWithMediaType> message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                log.debug("slow seat stream subscriber dropped. eventId={}", eventId);
+                close();
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> message;
+                while (!closed.get() && (message = queue.poll()) != null) {
+                    emitter.send(message);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 끊긴 연결: emitter 정리는 컨테이너가 onError/onCompletion으로 처리
+                close();
+            } finally {
+                draining.set(false);
+                if (!closed.get() && !queue.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            queue.clear();
+            subscriberCount.decrementAndGet();
+            EventChannel channel = channels.get(eventId);
+            if (channel != null) {
+                channel.subscribers.remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.ticket.service;
+
+import com.example.ticket.common.AfterTransaction;
+import com.example.ticket.config.UnconfirmedHoldCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 아직 confirm 되지 않은 것이 확실한 hold group(negative cache). 있으면 confirm이 멱등 행 조회 없이 쓰기로 간다.
+ * - HOLD 커밋 후 넣고 confirm 커밋 후 뺀다. 항목은 hold 만료 시각까지만 유효
+ * - 노드 로컬이라 다른 노드의 confirm은 못 본다: 그때 hold group은 이미 지워져 있으므로 ConfirmService가 멱등 행을 다시 조회
+ * - 다른 hold의 결제/확정 키와 겹치면 INSERT IGNORE 판정에서 충돌 → confirm 전체 rollback
+ */
+@Component
+@RequiredArgsConstructor
+public class UnconfirmedHoldCache {
+
+    private final UnconfirmedHoldCacheProperties properties;
+
+    private final Map<Long, Instant> expiresAtByHoldGroup = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Instant> eldest) {
+            return size() > properties.maxEntries();
+        }
+    };
+
+    public boolean contains(long holdGroupId, Instant now) {
+        if (!properties.enabled()) {
+            return false;
+        }
+        synchronized (expiresAtByHoldGroup) {
+            Instant expiresAt = expiresAtByHoldGroup.get(holdGroupId);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (!expiresAt.isAfter(now)) {
+                expiresAtByHoldGroup.remove(holdGroupId);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    public void addOnCommit(long holdGroupId, Instant expiresAt) {
+        if (!properties.enabled()) {
+            return;
+        }
+        AfterTransaction.onCommit(() -> {
+            synchronized (expiresAtByHoldGroup) {
+                expiresAtByHoldGroup.put(holdGroupId, expiresAt);
+            }
+        });
+    }
+
+    public void invalidateOnCommit(long holdGroupId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        AfterTransaction.onCommit(() -> {
+            synchronized (expiresAtByHoldGroup) {
+                expiresAtByHoldGroup.remove(holdGroupId);
+            }
+        });
+    }
+
+    int size() {
+        synchronized (expiresAtByHoldGroup) {
+            return expiresAtByHoldGroup.size();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.ticket.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void tryAcquire_rejectsOverLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0, 0.5);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(2, limit.inFlight());
+    }
+
+    @Test
+    void release_fastUnderLoad_increasesLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0, 0.5);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        limit.release(0, 10 * MS, false);
+
+        assertEquals(3, limit.limit());
+    }
+
+    @Test
+    void release_slowerThanBaseline_decreasesLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 10, 2.0, 0.5);
+
+        assertTrue(limit.tryAcquire());
+        limit.release(0, 10 * MS, false);   // baseline 10ms, 한도 절반 미만 사용 → 그대로
+        assertEquals(8, limit.limit());
+
+        assertTrue(limit.tryAcquire());
+        limit.release(0, 50 * MS, false);
+
+        assertEquals(4, limit.limit());
+    }
+
+    @Test
+    void release_dropped_decreasesButNotBelowMin() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 2, 10, 2.0, 0.5);
+
+        assertTrue(limit.tryAcquire());
+        limit.release(0, MS, true);
+
+        assertEquals(2, limit.limit());
+        assertEquals(0, limit.inFlight());
+    }
+
+    @Test
+    void retryAfterSeconds_atLeastOne() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0, 0.5);
+
+        assertEquals(1, limit.retryAfterSeconds());
+    }
+}
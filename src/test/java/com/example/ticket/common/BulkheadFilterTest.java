@@ -0,0 +1,36 @@
+package com.example.ticket.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadFilterTest {
+
+    @Test
+    void laneOf_classifiesByPath() {
+        assertEquals(BulkheadFilter.CONFIRM, BulkheadFilter.laneOf("POST", "/api/events/1/confirms"));
+        assertEquals(BulkheadFilter.HOLD, BulkheadFilter.laneOf("POST", "/api/events/1/holds"));
+        assertEquals(BulkheadFilter.HOLD, BulkheadFilter.laneOf("POST", "/api/events/1/holds/best-available"));
+        assertEquals(BulkheadFilter.SEAT_READ, BulkheadFilter.laneOf("GET", "/api/events/1/seats/bitmap"));
+        assertEquals(BulkheadFilter.ADMIN, BulkheadFilter.laneOf("POST", "/admin/events/1/seats/bulk"));
+        assertNull(BulkheadFilter.laneOf("POST", "/api/events/1/queue"));
+        assertNull(BulkheadFilter.laneOf("GET", "/api/bookings"));
+    }
+
+    @Test
+    void bulkhead_full_rejectsAfterMaxWait() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Bulkhead bulkhead = new Bulkhead("hold", 1, Duration.ofMillis(1), registry);
+
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+        assertEquals(1, bulkhead.inUse());
+        assertEquals(1.0, registry.get("ticket.bulkhead.rejected").tag("lane", "hold").counter().count());
+
+        bulkhead.release();
+        assertTrue(bulkhead.tryAcquire());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.ticket.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void advance_expiresOnlyItemsWhoseDeadlinePassed() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        wheel.add("a", START + 250);
+        wheel.add("b", START + 700);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(START + 300, expired::add);
+        assertEquals(List.of("a"), expired);
+
+        wheel.advance(START + 800, expired::add);
+        assertEquals(List.of("a", "b"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_cascadesFromOverflowLevels_withinOneTick() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        // level 0: 800ms, level 1: 6.4s, level 2: 51.2s 범위를 넘는 deadline
+        long[] deadlines = {START + 90_000, START + 5_000, START + 60_001, START + 801};
+        for (long deadline : deadlines) {
+            wheel.add(deadline, deadline);
+        }
+
+        for (long now = START; now <= START + 100_000; now += 100) {
+            long at = now;
+            wheel.advance(now, deadline -> {
+                assertTrue(deadline < at, "fired before deadline");
+                assertTrue(at - deadline <= 100, "fired late: " + (at - deadline) + "ms");
+            });
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void add_whenDeadlineAlreadyPassed_expiresOnNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        wheel.advance(START + 1_000, item -> fail());
+
+        wheel.add("late", START + 10);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(START + 1_000, expired::add);
+        assertEquals(List.of("late"), expired);
+    }
+}
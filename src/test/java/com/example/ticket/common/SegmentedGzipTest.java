@@ -0,0 +1,54 @@
+package com.example.ticket.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedGzipTest {
+
+    @Test
+    void write_prefixAndSuffix_decodeAsSingleGzipMember() throws IOException {
+        StringBuilder sb = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < 20_000; i++) {
+            sb.append("{\"seatId\":").append(i).append(",\"status\":\"AVAILABLE\"},");
+        }
+        byte[] prefix = sb.append("{}],\"traceId\":").toString().getBytes(StandardCharsets.UTF_8);
+        SegmentedGzip.Prefix compressed = SegmentedGzip.compressPrefix(prefix);
+
+        for (String traceId : new String[]{"a1", "trace-2"}) {
+            byte[] suffix = ("\"" + traceId + "\"}").getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            SegmentedGzip.write(out, compressed, suffix);
+
+            byte[] decoded = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes();
+            assertEquals(new String(prefix, StandardCharsets.UTF_8) + "\"" + traceId + "\"}",
+                    new String(decoded, StandardCharsets.UTF_8));
+        }
+        assertTrue(compressed.deflated().length < prefix.length / 4);
+    }
+
+    @Test
+    void combine_matchesCrcOfConcatenation() {
+        byte[] a = "hello, ".getBytes(StandardCharsets.UTF_8);
+        byte[] b = "seat map".getBytes(StandardCharsets.UTF_8);
+
+        CRC32 whole = new CRC32();
+        whole.update(a);
+        whole.update(b);
+
+        assertEquals(whole.getValue(), SegmentedGzip.combine(crc(a), crc(b), b.length));
+    }
+
+    private static long crc(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.ticket.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceContextTest {
+
+    @Test
+    void callWith_bindsOnlyInsideScope() {
+        String inside = TraceContext.callWith("t-1", TraceContext::require);
+
+        assertEquals("t-1", inside);
+        assertNull(TraceContext.getOrNull());
+        assertThrows(IllegalStateException.class, TraceContext::require);
+    }
+
+    @Test
+    void wrap_carriesTraceIdToVirtualThread() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        Runnable task = TraceContext.callWith("t-2", () -> TraceContext.wrap(() -> seen.set(TraceContext.getOrNull())));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.runAsync(task, executor).get();
+        }
+
+        assertEquals("t-2", seen.get());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.domain.event.SeatStatus;
+import com.example.ticket.inventory.SeatMapDelta.SeatChange;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatChangeRingTest {
+
+    @Test
+    void since_returnsLatestStatusPerSeat_inChangeOrder() {
+        SeatChangeRing ring = new SeatChangeRing(8, 10);
+        ring.append(11, 1, SeatStatus.HELD);
+        ring.append(12, 2, SeatStatus.HELD);
+        ring.append(13, 1, SeatStatus.AVAILABLE);
+
+        assertEquals(
+                List.of(new SeatChange(2, SeatStatus.HELD), new SeatChange(1, SeatStatus.AVAILABLE)),
+                ring.since(10)
+        );
+        assertEquals(List.of(new SeatChange(1, SeatStatus.AVAILABLE)), ring.since(12));
+    }
+
+    @Test
+    void since_whenVersionOverwritten_returnsNull() {
+        SeatChangeRing ring = new SeatChangeRing(2, 10);
+        ring.append(11, 1, SeatStatus.HELD);
+        ring.append(12, 2, SeatStatus.HELD);
+        ring.append(13, 3, SeatStatus.HELD);
+
+        assertNull(ring.since(10));
+        assertEquals(List.of(new SeatChange(2, SeatStatus.HELD), new SeatChange(3, SeatStatus.HELD)), ring.since(11));
+    }
+}
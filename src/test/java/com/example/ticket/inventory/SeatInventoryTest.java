@@ -0,0 +1,247 @@
+package com.example.ticket.inventory;
+
+import com.example.ticket.domain.event.EventVersion;
+import com.example.ticket.domain.event.SeatStatus;
+import com.example.ticket.domain.hold.HoldGroupSeat;
+import com.example.ticket.domain.hold.HoldTimes;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.repository.EventRepository;
+import com.example.ticket.repository.GroupSeatHoldStore;
+import com.example.ticket.repository.HoldGroupWriter;
+import com.example.ticket.repository.HoldGroupSeatRepository;
+import com.example.ticket.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryTest {
+
+    private static final long EVENT_ID = 10L;
+
+    @Mock
+    SeatRepository seatRepository;
+    @Mock
+    HoldGroupSeatRepository holdGroupSeatRepository;
+    @Mock
+    EventRepository eventRepository;
+
+    private SeatInventory seatInventory;
+    private Clock clock;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        clock = Clock.fixed(Instant.parse("2026-01-25T00:00:00Z"), ZoneOffset.UTC);
+        now = HoldTimes.now(clock);
+        seatInventory = new SeatInventory(
+                seatRepository,
+                eventRepository,
+                new GroupSeatHoldStore(holdGroupSeatRepository, seatRepository, mock(HoldGroupWriter.class)),
+                clock
+        );
+    }
+
+    private Seat seat(long id, SeatStatus status) {
+        Seat seat = mock(Seat.class);
+        when(seat.getId()).thenReturn(id);
+        when(seat.getStatus()).thenReturn(status);
+        return seat;
+    }
+
+    private Seat seat(long id, String zoneCode, String seatNo) {
+        Seat seat = seat(id, SeatStatus.AVAILABLE);
+        when(seat.getZoneCode()).thenReturn(zoneCode);
+        when(seat.getSeatNo()).thenReturn(seatNo);
+        return seat;
+    }
+
+    private void stubSeats(Seat... seats) {
+        when(seatRepository.findAllByEventIdOrderByZoneCodeAscSeatNoAsc(EVENT_ID)).thenReturn(List.of(seats));
+    }
+
+    @Test
+    void tryHold_secondHoldOnSameSeat_losesInMemory() {
+        stubSeats(seat(1L, SeatStatus.AVAILABLE), seat(2L, SeatStatus.AVAILABLE));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of());
+
+        Optional<HoldReservation> first = seatInventory.tryHold(EVENT_ID, List.of(1L), HoldTimes.holdUntil(clock), now);
+        Optional<HoldReservation> second = seatInventory.tryHold(EVENT_ID, List.of(1L, 2L), HoldTimes.holdUntil(clock), now);
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isEmpty());
+        // All-or-Nothing: 실패한 요청이 잠깐 잡았던 2번 좌석은 되돌려져야 함
+        assertEquals(SeatStatus.AVAILABLE, seatInventory.stateOf(EVENT_ID, 2L).orElseThrow().status());
+        assertEquals(SeatStatus.HELD, seatInventory.stateOf(EVENT_ID, 1L).orElseThrow().status());
+    }
+
+    @Test
+    void tryHold_soldOrUnknownSeat_isRejected() {
+        stubSeats(seat(1L, SeatStatus.SOLD));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of());
+
+        assertTrue(seatInventory.tryHold(EVENT_ID, List.of(1L), HoldTimes.holdUntil(clock), now).isEmpty());
+        assertTrue(seatInventory.tryHold(EVENT_ID, List.of(99L), HoldTimes.holdUntil(clock), now).isEmpty());
+    }
+
+    @Test
+    void load_restoresActiveHolds_andExpiredHoldIsClaimable() {
+        stubSeats(seat(1L, SeatStatus.AVAILABLE), seat(2L, SeatStatus.AVAILABLE));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of(
+                HoldGroupSeat.create(1L, EVENT_ID, now.plusSeconds(30), 500L, 0L)
+        ));
+
+        assertTrue(seatInventory.tryHold(EVENT_ID, List.of(1L), HoldTimes.holdUntil(clock), now).isEmpty());
+
+        Instant later = now.plusSeconds(31);
+        assertTrue(seatInventory.tryHold(EVENT_ID, List.of(1L), HoldTimes.holdUntilFrom(later), later).isPresent());
+    }
+
+    @Test
+    void reconcile_appliesOtherNodesSoldAndHeldSeats_keepsOwnHold() {
+        stubSeats(seat(1L, SeatStatus.AVAILABLE), seat(2L, SeatStatus.AVAILABLE), seat(3L, SeatStatus.AVAILABLE));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of());
+        HoldReservation own = seatInventory.tryHold(EVENT_ID, List.of(3L), HoldTimes.holdUntil(clock), now).orElseThrow();
+        long before = seatInventory.snapshot(EVENT_ID).version();
+
+        // 다른 노드: 1번 confirm, 2번과 3번에 HOLD(3번은 이 노드 HOLD와 DB에서 경합 중)
+        when(seatRepository.findIdsByEventIdAndStatus(EVENT_ID, SeatStatus.SOLD)).thenReturn(List.of(1L));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of(
+                HoldGroupSeat.create(2L, EVENT_ID, now.plusSeconds(30), 700L, 0L),
+                HoldGroupSeat.create(3L, EVENT_ID, now.plusSeconds(30), 700L, 0L)
+        ));
+        seatInventory.reconcile();
+
+        assertEquals(SeatStatus.SOLD, seatInventory.stateOf(EVENT_ID, 1L).orElseThrow().status());
+        assertEquals(SeatStatus.HELD, seatInventory.stateOf(EVENT_ID, 2L).orElseThrow().status());
+        assertTrue(seatInventory.stateOf(EVENT_ID, 3L).orElseThrow().isHeldBy(own));
+        assertTrue(seatInventory.tryHold(EVENT_ID, List.of(2L), HoldTimes.holdUntil(clock), now).isEmpty());
+        assertEquals(2, seatInventory.changesSince(EVENT_ID, before).orElseThrow().changes().size());
+    }
+
+    @Test
+    void reconcile_eventVersionChanged_evictsAndReloadsNewLayout() {
+        when(eventRepository.findVersionsByIdIn(List.of(EVENT_ID))).thenReturn(
+                List.of(new EventVersion(EVENT_ID, 1L)),
+                List.of(new EventVersion(EVENT_ID, 2L)));
+        when(seatRepository.findAllByEventIdOrderByZoneCodeAscSeatNoAsc(EVENT_ID)).thenReturn(
+                List.of(seat(1L, SeatStatus.AVAILABLE)),
+                List.of(seat(5L, SeatStatus.AVAILABLE)));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of());
+        seatInventory.snapshot(EVENT_ID);
+
+        // 다른 노드가 좌석 구성을 바꿨다(bulkReplace → events.version 증가)
+        seatInventory.reconcile();
+
+        assertTrue(seatInventory.stateOf(EVENT_ID, 1L).isEmpty());
+        assertTrue(seatInventory.tryHold(EVENT_ID, List.of(5L), HoldTimes.holdUntil(clock), now).isPresent());
+        assertTrue(seatInventory.stateOf(EVENT_ID, 1L).isEmpty());
+        verify(seatRepository, never()).findIdsByEventIdAndStatus(EVENT_ID, SeatStatus.SOLD);
+    }
+
+    @Test
+    void release_onlyReleasesOwnReservation_andMarkSoldIsFinal() {
+        stubSeats(seat(1L, SeatStatus.AVAILABLE), seat(2L, SeatStatus.AVAILABLE));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of());
+
+        HoldReservation held = seatInventory.tryHold(EVENT_ID, List.of(1L), HoldTimes.holdUntil(clock), now).orElseThrow();
+        seatInventory.release(HoldReservation.pending(EVENT_ID, List.of(1L), HoldTimes.holdUntil(clock)));
+        assertTrue(seatInventory.stateOf(EVENT_ID, 1L).orElseThrow().isHeldBy(held));
+
+        seatInventory.markSoldOnCommit(EVENT_ID, List.of(1L));
+        seatInventory.release(held);
+        assertEquals(SeatStatus.SOLD, seatInventory.stateOf(EVENT_ID, 1L).orElseThrow().status());
+    }
+
+    @Test
+    void snapshot_reflectsHeldAndSold_andBumpsVersionOnlyOnChange() {
+        stubSeats(seat(1L, SeatStatus.AVAILABLE), seat(2L, SeatStatus.SOLD), seat(3L, SeatStatus.AVAILABLE));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of());
+
+        SeatMapSnapshot initial = seatInventory.snapshot(EVENT_ID);
+        assertSame(initial, seatInventory.snapshot(EVENT_ID));
+        assertEquals(
+                List.of(SeatStatus.AVAILABLE, SeatStatus.SOLD, SeatStatus.AVAILABLE),
+                initial.seats().stream().map(SeatMapSnapshot.SeatCell::status).toList()
+        );
+
+        seatInventory.tryHold(EVENT_ID, List.of(3L), HoldTimes.holdUntil(clock), now).orElseThrow();
+        SeatMapSnapshot afterHold = seatInventory.snapshot(EVENT_ID);
+
+        assertTrue(afterHold.version() > initial.version());
+        assertEquals(SeatStatus.HELD, afterHold.seats().get(2).status());
+        assertEquals(SeatStatus.AVAILABLE, initial.seats().get(2).status());
+    }
+
+    @Test
+    void changesSince_returnsOnlySeatsChangedAfterVersion_andRejectsUnknownVersion() {
+        stubSeats(seat(1L, SeatStatus.AVAILABLE), seat(2L, SeatStatus.AVAILABLE));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of());
+
+        long base = seatInventory.snapshot(EVENT_ID).version();
+        seatInventory.tryHold(EVENT_ID, List.of(2L), HoldTimes.holdUntil(clock), now).orElseThrow();
+
+        SeatMapDelta delta = seatInventory.changesSince(EVENT_ID, base).orElseThrow();
+        assertEquals(List.of(new SeatMapDelta.SeatChange(2L, SeatStatus.HELD)), delta.changes());
+        assertEquals(seatInventory.snapshot(EVENT_ID).version(), delta.version());
+
+        assertTrue(seatInventory.changesSince(EVENT_ID, delta.version()).orElseThrow().changes().isEmpty());
+        assertTrue(seatInventory.changesSince(EVENT_ID, base - 1).isEmpty());
+        assertTrue(seatInventory.changesSince(EVENT_ID, delta.version() + 1).isEmpty());
+    }
+
+    @Test
+    void bitmap_packsTwoBitsPerSeatInLayoutOrder_andLayoutIdIsStable() {
+        stubSeats(seat(1L, SeatStatus.AVAILABLE), seat(2L, SeatStatus.SOLD), seat(3L, SeatStatus.AVAILABLE),
+                seat(4L, SeatStatus.AVAILABLE), seat(5L, SeatStatus.SOLD));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of());
+
+        seatInventory.tryHold(EVENT_ID, List.of(3L), HoldTimes.holdUntil(clock), now).orElseThrow();
+        SeatStatusBitmap bitmap = seatInventory.bitmap(EVENT_ID);
+
+        assertEquals(5, bitmap.seatCount());
+        assertEquals(2, bitmap.bits().length);
+        // seat1=0, seat2=2(SOLD), seat3=1(HELD), seat4=0 | seat5=2
+        assertEquals((byte) 0b00_01_10_00, bitmap.bits()[0]);
+        assertEquals((byte) 0b10, bitmap.bits()[1]);
+        assertEquals(SeatStatus.HELD, bitmap.statusAt(2));
+        assertEquals(seatInventory.snapshot(EVENT_ID).version(), bitmap.version());
+        assertSame(bitmap, seatInventory.bitmap(EVENT_ID));
+
+        SeatLayoutDocument layout = seatInventory.layout(EVENT_ID);
+        assertEquals(bitmap.layoutId(), layout.layoutId());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), layout.seats().stream().map(SeatLayoutDocument.SeatLayoutCell::seatId).toList());
+    }
+
+    @Test
+    void tryHoldBestAvailable_picksAdjacentSeatsNearRowCenter_andSkipsTakenOnes() {
+        // A열 1~5, B열 1~2 (seatNo 문자열 정렬과 무관하게 번호로 인접 판단)
+        stubSeats(seat(1L, "Z", "A-1"), seat(2L, "Z", "A-10"), seat(3L, "Z", "A-2"), seat(4L, "Z", "A-3"),
+                seat(5L, "Z", "A-4"), seat(6L, "Z", "B-1"), seat(7L, "Z", "B-2"));
+        when(holdGroupSeatRepository.findAllByEventIdAndExpiresAtAfter(EVENT_ID, now)).thenReturn(List.of());
+
+        HoldReservation first = seatInventory
+                .tryHoldBestAvailable(EVENT_ID, "Z", 2, HoldTimes.holdUntil(clock), now).orElseThrow();
+        // A열 연속 구간 [1,2,3,4] 중 가운데 → A-2, A-3
+        assertEquals(List.of(3L, 4L), first.getSeatIds());
+
+        HoldReservation second = seatInventory
+                .tryHoldBestAvailable(EVENT_ID, "Z", 2, HoldTimes.holdUntil(clock), now).orElseThrow();
+        // A열에 남은 연속 2석이 없으므로(A-1 | A-4 | A-10) B열
+        assertEquals(List.of(6L, 7L), second.getSeatIds());
+
+        assertTrue(seatInventory.tryHoldBestAvailable(EVENT_ID, "Z", 2, HoldTimes.holdUntil(clock), now).isEmpty());
+        assertTrue(seatInventory.tryHoldBestAvailable(EVENT_ID, "NONE", 1, HoldTimes.holdUntil(clock), now).isEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.ticket.repository;
+
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.repository.HoldSeatStore.HeldSeat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatClaimHoldStoreTest {
+
+    private static final long EVENT_ID = 10L;
+    private static final long HOLD_GROUP_ID = 100L;
+
+    @Mock SeatRepository seatRepository;
+
+    private SeatClaimHoldStore store;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        store = new SeatClaimHoldStore(seatRepository);
+        now = Instant.parse("2026-01-01T00:00:00Z");
+    }
+
+    @Test
+    void hold_isSingleConditionalUpdate_returnsClaimedCount() {
+        Instant expiresAt = now.plusSeconds(300);
+        when(seatRepository.claimAvailableSeats(EVENT_ID, List.of(1L, 2L), HOLD_GROUP_ID, expiresAt, now)).thenReturn(1);
+
+        assertEquals(1, store.hold(EVENT_ID, List.of(1L, 2L), HOLD_GROUP_ID, expiresAt, now));
+        verifyNoMoreInteractions(seatRepository);
+    }
+
+    @Test
+    void markSold_usesClaimColumns_thenDeleteSoldTouchesNothing() {
+        when(seatRepository.changeClaimedSeatsSold(EVENT_ID, HOLD_GROUP_ID, now, List.of(1L, 2L))).thenReturn(2);
+
+        assertEquals(2, store.markSold(EVENT_ID, HOLD_GROUP_ID, 7L, now, List.of(1L, 2L)));
+        store.deleteSold(HOLD_GROUP_ID, EVENT_ID, 2);
+
+        verify(seatRepository, never()).changeSeatsSoldByHold(anyLong(), anyLong(), anyLong(), any(), anyList());
+        verifyNoMoreInteractions(seatRepository);
+    }
+
+    @Test
+    void releaseExpired_onlyCountsClaims_doesNotWriteSeats() {
+        when(seatRepository.countClaimedBy(List.of(HOLD_GROUP_ID))).thenReturn(3L);
+
+        assertEquals(3, store.releaseExpired(List.of(HOLD_GROUP_ID)));
+        verifyNoMoreInteractions(seatRepository);
+    }
+
+    @Test
+    void findActiveHolds_mapsClaimedSeats() {
+        Seat seat = mock(Seat.class);
+        when(seat.getId()).thenReturn(1L);
+        when(seat.getHeldByGroupId()).thenReturn(HOLD_GROUP_ID);
+        when(seat.getHeldUntil()).thenReturn(now.plusSeconds(30));
+        when(seatRepository.findAllByEventIdAndHeldUntilAfter(EVENT_ID, now)).thenReturn(List.of(seat));
+
+        assertEquals(List.of(new HeldSeat(1L, HOLD_GROUP_ID, now.plusSeconds(30))), store.findActiveHolds(EVENT_ID, now));
+    }
+}
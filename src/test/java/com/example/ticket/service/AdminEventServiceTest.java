@@ -24,6 +24,9 @@ class AdminEventServiceTest {
     @Mock
     EventRepository eventRepository;
 
+    @Mock
+    EventService eventService;
+
     @InjectMocks
     AdminEventService service;
 
@@ -92,6 +95,7 @@ class AdminEventServiceTest {
         // then
         verify(eventRepository).findById(eventId);
         verify(event).open();
+        verify(eventService).evictOnCommit(eventId);
         assertThat(res.eventId()).isEqualTo(eventId);
         assertThat(res.status()).isEqualTo(EventStatus.OPEN);
     }
@@ -116,6 +120,7 @@ class AdminEventServiceTest {
         // then
         verify(eventRepository).findById(eventId);
         verify(event).close();
+        verify(eventService).evictOnCommit(eventId);
         assertThat(res.eventId()).isEqualTo(eventId);
         assertThat(res.status()).isEqualTo(EventStatus.CLOSED);
     }
@@ -10,6 +10,7 @@ import com.example.ticket.domain.event.Event;
 import com.example.ticket.domain.event.EventStatus;
 import com.example.ticket.domain.event.SeatStatus;
 import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.inventory.SeatInventory;
 import com.example.ticket.repository.EventRepository;
 import com.example.ticket.repository.SeatRepository;
 import com.example.ticket.repository.dto.SeatStatusCount;
@@ -32,6 +33,9 @@ class AdminSeatServiceTest {
     @Mock
     SeatRepository seatRepository;
 
+    @Mock
+    SeatInventory seatInventory;
+
     @InjectMocks
     AdminSeatService adminSeatService;
 
@@ -41,7 +45,7 @@ class AdminSeatServiceTest {
         long eventId = 1L;
         Event event = mock(Event.class);
         when(event.getStatus()).thenReturn(EventStatus.DRAFT);
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(eventRepository.findByIdForVersionBump(eventId)).thenReturn(Optional.of(event));
 
         AdminSeatBulkUpsertRequest req = new AdminSeatBulkUpsertRequest(List.of(
                 new AdminSeatCreateDto("A", "1", 1000L),
@@ -66,15 +70,17 @@ class AdminSeatServiceTest {
 
         inOrder.verifyNoMoreInteractions();
 
-        verify(eventRepository).findById(eventId);
+        verify(eventRepository).findByIdForVersionBump(eventId);
         verifyNoMoreInteractions(eventRepository);
+
+        verify(seatInventory).evictOnCommit(eventId);
     }
 
     @Test
     void bulkReplace_throws_EVENT_NOT_FOUND_when_event_missing() {
         // given
         long eventId = 1L;
-        when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+        when(eventRepository.findByIdForVersionBump(eventId)).thenReturn(Optional.empty());
 
         AdminSeatBulkUpsertRequest req = new AdminSeatBulkUpsertRequest(List.of(
                 new AdminSeatCreateDto("A", "1", 1000L)
@@ -88,7 +94,7 @@ class AdminSeatServiceTest {
                     assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EVENT_NOT_FOUND);
                 });
 
-        verify(eventRepository).findById(eventId);
+        verify(eventRepository).findByIdForVersionBump(eventId);
         verifyNoInteractions(seatRepository);
     }
 
@@ -98,7 +104,7 @@ class AdminSeatServiceTest {
         long eventId = 1L;
         Event event = mock(Event.class);
         when(event.getStatus()).thenReturn(EventStatus.OPEN);
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(eventRepository.findByIdForVersionBump(eventId)).thenReturn(Optional.of(event));
 
         AdminSeatBulkUpsertRequest req = new AdminSeatBulkUpsertRequest(List.of(
                 new AdminSeatCreateDto("A", "1", 1000L)
@@ -112,7 +118,7 @@ class AdminSeatServiceTest {
                     assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EVENT_NOT_DRAFT);
                 });
 
-        verify(eventRepository).findById(eventId);
+        verify(eventRepository).findByIdForVersionBump(eventId);
         verifyNoInteractions(seatRepository);
     }
 
@@ -122,7 +128,7 @@ class AdminSeatServiceTest {
         long eventId = 1L;
         Event event = mock(Event.class);
         when(event.getStatus()).thenReturn(EventStatus.DRAFT);
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(eventRepository.findByIdForVersionBump(eventId)).thenReturn(Optional.of(event));
 
         AdminSeatBulkUpsertRequest req = new AdminSeatBulkUpsertRequest(List.of(
                 new AdminSeatCreateDto("A", "1", 1000L),
@@ -137,7 +143,7 @@ class AdminSeatServiceTest {
                     assertThat(e.getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_SEAT_IN_REQUEST);
                 });
 
-        verify(eventRepository).findById(eventId);
+        verify(eventRepository).findByIdForVersionBump(eventId);
         verifyNoInteractions(seatRepository);
     }
 
@@ -0,0 +1,169 @@
+package com.example.ticket.service;
+
+import com.example.ticket.admission.InMemoryAdmissionStore;
+import com.example.ticket.api.ticket.dto.AdmissionDto.QueueTicketResponse;
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.AdmissionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionServiceTest {
+
+    private static final long EVENT_ID = 10L;
+
+    @Mock
+    EventService eventService;
+
+    private MutableClock clock;
+    private AdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-25T00:00:00Z"));
+        admissionService = new AdmissionService(
+                new InMemoryAdmissionStore(),
+                eventService,
+                new AdmissionProperties(true, "test-secret", 100, Map.of(EVENT_ID, 2), Duration.ofMinutes(30)),
+                clock
+        );
+    }
+
+    @Test
+    void enter_issuesSequentialPositions_andSameUserKeepsPlace() {
+        QueueTicketResponse first = admissionService.enter(EVENT_ID, 1L);
+        QueueTicketResponse second = admissionService.enter(EVENT_ID, 2L);
+        QueueTicketResponse again = admissionService.enter(EVENT_ID, 1L);
+
+        assertEquals(1, first.position());
+        assertEquals(2, second.position());
+        assertEquals(1, again.position());
+        assertEquals(1, second.estimatedWaitSeconds());
+        assertFalse(second.admitted());
+    }
+
+    @Test
+    void admit_advancesAtEventRate_andHoldRequiresAdmittedToken() {
+        String t1 = admissionService.enter(EVENT_ID, 1L).queueToken();
+        String t2 = admissionService.enter(EVENT_ID, 2L).queueToken();
+        String t3 = admissionService.enter(EVENT_ID, 3L).queueToken();
+
+        BusinessRuleViolationException ex = assertThrows(BusinessRuleViolationException.class,
+                () -> admissionService.requireAdmitted(EVENT_ID, 1L, t1));
+        assertEquals(ErrorCode.QUEUE_NOT_ADMITTED, ex.getErrorCode());
+
+        // rate 2/s → 0.5s 마다 1명(소수점 이월)
+        clock.advance(Duration.ofMillis(300));
+        admissionService.admit();
+        clock.advance(Duration.ofMillis(300));
+        admissionService.admit();
+
+        admissionService.requireAdmitted(EVENT_ID, 1L, t1);
+        assertEquals(1, admissionService.status(EVENT_ID, 2L, t2).position());
+        assertThrows(BusinessRuleViolationException.class, () -> admissionService.requireAdmitted(EVENT_ID, 3L, t3));
+    }
+
+    @Test
+    void requireAdmitted_rejectsTamperedOrForeignToken() {
+        String token = admissionService.enter(EVENT_ID, 1L).queueToken();
+        clock.advance(Duration.ofSeconds(1));
+        admissionService.admit();
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        assertEquals(ErrorCode.QUEUE_TOKEN_INVALID, assertThrows(BusinessRuleViolationException.class,
+                () -> admissionService.requireAdmitted(EVENT_ID, 1L, tampered)).getErrorCode());
+        assertEquals(ErrorCode.QUEUE_TOKEN_INVALID, assertThrows(BusinessRuleViolationException.class,
+                () -> admissionService.requireAdmitted(EVENT_ID, 2L, token)).getErrorCode());
+        assertEquals(ErrorCode.QUEUE_TOKEN_INVALID, assertThrows(BusinessRuleViolationException.class,
+                () -> admissionService.requireAdmitted(EVENT_ID, 1L, null)).getErrorCode());
+
+        clock.advance(Duration.ofMinutes(31));
+        assertEquals(ErrorCode.QUEUE_TOKEN_INVALID, assertThrows(BusinessRuleViolationException.class,
+                () -> admissionService.requireAdmitted(EVENT_ID, 1L, token)).getErrorCode());
+    }
+
+    @Test
+    void requireAdmitted_rejectsTokenFromAnotherQueueEpoch() {
+        AdmissionService restarted = new AdmissionService(
+                new InMemoryAdmissionStore(),
+                eventService,
+                new AdmissionProperties(true, "test-secret", 100, Map.of(EVENT_ID, 2), Duration.ofMinutes(30)),
+                clock
+        );
+        String foreign = restarted.enter(EVENT_ID, 1L).queueToken();
+        admissionService.enter(EVENT_ID, 1L);
+        clock.advance(Duration.ofSeconds(1));
+        admissionService.admit();
+
+        // 같은 secret, 같은 순번이어도 다른 대기열 상태가 발급한 토큰은 통과하지 않는다
+        assertEquals(ErrorCode.QUEUE_TOKEN_INVALID, assertThrows(BusinessRuleViolationException.class,
+                () -> admissionService.requireAdmitted(EVENT_ID, 1L, foreign)).getErrorCode());
+    }
+
+    @Test
+    void expireEntries_forgetsAdmittedIdleUsers_keepsWaitingAndRecentOnes() {
+        admissionService.enter(EVENT_ID, 1L);
+        admissionService.enter(EVENT_ID, 2L);
+        admissionService.enter(EVENT_ID, 3L);
+        clock.advance(Duration.ofSeconds(1));
+        admissionService.admit();
+
+        clock.advance(Duration.ofMinutes(10));
+        admissionService.enter(EVENT_ID, 2L);
+        clock.advance(Duration.ofMinutes(25));
+        admissionService.expireEntries();
+
+        // 1: 입장 후 30분 넘게 안 들어옴 → 새 순번, 2: 최근에 들어옴 → 그대로, 3: 아직 대기 중 → 그대로
+        assertEquals(2, admissionService.enter(EVENT_ID, 1L).position());
+        assertEquals(0, admissionService.enter(EVENT_ID, 2L).position());
+        assertEquals(1, admissionService.enter(EVENT_ID, 3L).position());
+    }
+
+    @Test
+    void properties_enabledWithDefaultSecret_failsAtStartup() {
+        assertThrows(IllegalStateException.class, () -> new AdmissionProperties(
+                true, AdmissionProperties.DEFAULT_SECRET, 100, Map.of(), Duration.ofMinutes(30)));
+        assertDoesNotThrow(() -> new AdmissionProperties(
+                false, AdmissionProperties.DEFAULT_SECRET, 100, Map.of(), Duration.ofMinutes(30)));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.ticket.service;
+
+import com.example.ticket.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void meters_taggedByOperationOnly_summedAcrossEvents() {
+        ConcurrencyLimiter limiter = limiter(Duration.ofMinutes(10));
+
+        limiter.execute(ConcurrencyLimiter.HOLD, 1L, () -> "ok");
+        limiter.execute(ConcurrencyLimiter.HOLD, 2L, () -> "ok");
+
+        assertEquals(1, meterRegistry.find("ticket.concurrency.limit").gauges().size());
+        assertEquals(40.0, meterRegistry.get("ticket.concurrency.limit").tag("operation", "hold").gauge().value());
+        assertNull(meterRegistry.find("ticket.concurrency.limit").tagKeys("eventId").gauge());
+    }
+
+    @Test
+    void evictIdle_dropsUnusedEventLimits() {
+        ConcurrencyLimiter limiter = limiter(Duration.ZERO);
+
+        limiter.execute(ConcurrencyLimiter.HOLD, 1L, () -> "ok");
+        limiter.execute(ConcurrencyLimiter.CONFIRM, 1L, () -> "ok");
+        assertEquals(2, limiter.size());
+
+        limiter.evictIdle();
+
+        assertEquals(0, limiter.size());
+        assertEquals(0.0, meterRegistry.get("ticket.concurrency.limit").tag("operation", "hold").gauge().value());
+    }
+
+    @Test
+    void evictIdle_keepsEventWithRequestInFlight() {
+        ConcurrencyLimiter limiter = limiter(Duration.ZERO);
+
+        limiter.execute(ConcurrencyLimiter.HOLD, 1L, () -> {
+            limiter.evictIdle();
+            return "ok";
+        });
+
+        assertEquals(1, limiter.size());
+    }
+
+    private ConcurrencyLimiter limiter(Duration idleTimeout) {
+        return new ConcurrencyLimiter(
+                new ConcurrencyLimitProperties(true, 20, 4, 200, 2.0, 0.9, idleTimeout),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.ticket.service;
+
+import com.example.ticket.api.ticket.dto.ConfirmDto.BookingItemDto;
+import com.example.ticket.api.ticket.dto.ConfirmDto.ConfirmRequest;
+import com.example.ticket.api.ticket.dto.ConfirmDto.ConfirmResponse;
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.ConfirmReplayCacheProperties;
+import com.example.ticket.domain.idempotency.ConfirmIdempotency;
+import com.example.ticket.domain.payment.PaymentStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfirmReplayCacheTest {
+
+    private static final long USER_ID = 1L;
+    private static final long EVENT_ID = 10L;
+
+    private final ConfirmIdempotency idem = ConfirmIdempotency.create(
+            "p1", USER_ID, "ck1", EVENT_ID, 55L, 999L, PaymentStatus.APPROVED, 1000L, "1:500,2:500");
+
+    @Test
+    void find_sameDecision_returnsStoredResponse_untilTtl() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-25T00:00:00Z"));
+        ConfirmReplayCache cache = cache(clock, 10);
+        ConfirmResponse response = ConfirmResponse.replay(idem);
+        cache.put(idem, response);
+
+        assertSame(response, cache.find(USER_ID, EVENT_ID, ConfirmRequest.create(55L, "p1", "ck1", 1000L)).orElseThrow());
+
+        clock.advance(Duration.ofMinutes(11));
+        assertTrue(cache.find(USER_ID, EVENT_ID, ConfirmRequest.create(55L, "p1", "ck1", 1000L)).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void find_differentDecision_conflict() {
+        ConfirmReplayCache cache = cache(Clock.systemUTC(), 10);
+        cache.put(idem, ConfirmResponse.replay(idem));
+
+        BusinessRuleViolationException ex = assertThrows(BusinessRuleViolationException.class,
+                () -> cache.find(USER_ID, EVENT_ID, ConfirmRequest.create(56L, "p1", "ck1", 1000L)));
+
+        assertEquals(ErrorCode.CONFIRM_IDEMPOTENCY_CONFLICT, ex.getErrorCode());
+    }
+
+    @Test
+    void put_overMaxEntries_evictsEldest() {
+        ConfirmReplayCache cache = cache(Clock.systemUTC(), 1);
+        ConfirmIdempotency other = ConfirmIdempotency.create(
+                "p2", USER_ID, "ck2", EVENT_ID, 56L, 1000L, PaymentStatus.APPROVED, 500L, "3:500");
+
+        cache.put(idem, ConfirmResponse.replay(idem));
+        cache.put(other, ConfirmResponse.replay(other));
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.find(USER_ID, EVENT_ID, ConfirmRequest.create(55L, "p1", "ck1", 1000L)).isEmpty());
+    }
+
+    @Test
+    void bookingItems_encodeDecode_roundTrip() {
+        List<BookingItemDto> items = List.of(new BookingItemDto(1L, 500L), new BookingItemDto(22L, 70000L));
+
+        assertEquals("1:500,22:70000", BookingItemDto.encodeAll(items));
+        assertEquals(items, BookingItemDto.decodeAll(BookingItemDto.encodeAll(items)));
+        assertEquals(List.of(), BookingItemDto.decodeAll(""));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static ConfirmReplayCache cache(Clock clock, int maxEntries) {
+        return new ConfirmReplayCache(new ConfirmReplayCacheProperties(true, maxEntries, Duration.ofMinutes(10)), clock);
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.ticket.service;
 
+import com.example.ticket.api.ticket.dto.ConfirmDto.BookingItemDto;
 import com.example.ticket.api.ticket.dto.ConfirmDto.ConfirmRequest;
 import com.example.ticket.api.ticket.dto.ConfirmDto.ConfirmResponse;
 import com.example.ticket.common.ErrorCode;
 import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.ConfirmReplayCacheProperties;
+import com.example.ticket.config.UnconfirmedHoldCacheProperties;
 import com.example.ticket.domain.booking.Booking;
 import com.example.ticket.domain.booking.BookingItem;
 import com.example.ticket.domain.event.Event;
@@ -13,19 +16,20 @@ import com.example.ticket.domain.hold.HoldTimes;
 import com.example.ticket.domain.idempotency.ConfirmIdempotency;
 import com.example.ticket.domain.payment.PaymentStatus;
 import com.example.ticket.domain.payment.PaymentTx;
-import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.inventory.SeatInventory;
 import com.example.ticket.repository.*;
+import com.example.ticket.repository.dto.HeldSeatPrice;
 import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 
 import java.sql.SQLException;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
@@ -37,9 +41,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ConfirmServiceTest {
 
-    private static final String UK_CONFIRM_PAYMENT_TX = "uk_confirm_idempotencies_payment_tx";
-    private static final String UK_CONFIRM_USER_KEY   = "uk_confirm_idempotencies_user_key";
-    private static final String UK_BOOKINGS_PAYMENT_TX = "uk_bookings_payment_tx";
     private static final String UK_BOOKING_ITEMS_SEAT  = "uk_booking_items_seat";
 
     @Mock ConfirmIdempotencyRepository confirmIdempotencyRepository;
@@ -50,9 +51,14 @@ class ConfirmServiceTest {
     @Mock HoldGroupSeatRepository holdGroupSeatRepository;
     @Mock SeatRepository seatRepository;
     @Mock EventRepository eventRepository;
+    @Mock SeatInventory seatInventory;
+    @Mock UserEventHoldCounterRepository holdCounterRepository;
+    @Mock PooledIdAllocator pooledIdAllocator;
 
     private ConfirmService confirmService;
     private Clock clock;
+    private final UnconfirmedHoldCache unconfirmedHoldCache =
+            new UnconfirmedHoldCache(new UnconfirmedHoldCacheProperties(true, 100));
 
     @BeforeEach
     void setUp() {
@@ -63,10 +69,14 @@ class ConfirmServiceTest {
                 bookingItemRepository,
                 bookingRepository,
                 holdGroupRepository,
-                holdGroupSeatRepository,
-                seatRepository,
+                new GroupSeatHoldStore(holdGroupSeatRepository, seatRepository, mock(HoldGroupWriter.class)),
                 clock,
-                eventRepository
+                new EventService(eventRepository),
+                seatInventory,
+                holdCounterRepository,
+                pooledIdAllocator,
+                new ConfirmReplayCache(new ConfirmReplayCacheProperties(true, 100, Duration.ofMinutes(10)), clock),
+                unconfirmedHoldCache
         );
     }
 
@@ -111,17 +121,12 @@ class ConfirmServiceTest {
         ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, amount);
 
         ConfirmIdempotency idem = ConfirmIdempotency.create(
-                paymentTxId, userId, confirmKey, eventId, holdGroupId, 999L
+                paymentTxId, userId, confirmKey, eventId, holdGroupId, 999L,
+                PaymentStatus.APPROVED, amount, "1:500,2:500"
         );
 
-        when(confirmIdempotencyRepository.findByPaymentTxId(paymentTxId))
-                .thenReturn(Optional.of(idem));
-
-        stubPayment(paymentTxId, amount, PaymentStatus.APPROVED);
-
-        BookingItem bi1 = BookingItem.create(999L, 1L, 500L);
-        BookingItem bi2 = BookingItem.create(999L, 2L, 500L);
-        when(bookingItemRepository.findAllByBookingId(999L)).thenReturn(List.of(bi1, bi2));
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey))
+                .thenReturn(List.of(idem));
 
         ConfirmResponse res = confirmService.confirm(userId, eventId, req);
 
@@ -131,12 +136,18 @@ class ConfirmServiceTest {
         assertEquals(amount, res.totalAmount());
         assertEquals(2, res.items().size());
 
-        verify(bookingRepository, never()).save(any());
-        verify(bookingItemRepository, never()).saveAll(any());
+        // 두 번째 재시도는 near-cache에서 끝난다
+        assertEquals(res, confirmService.confirm(userId, eventId, req));
+        verify(confirmIdempotencyRepository, times(1)).findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey);
+
+        verify(paymentRepository, never()).getPaymentTxById(anyString());
+        verify(bookingItemRepository, never()).findAllByBookingId(anyLong());
+        verify(bookingRepository, never()).insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any());
+        verify(bookingItemRepository, never()).saveAllAndFlush(any());
         verify(seatRepository, never()).changeSeatsSoldByHold(anyLong(), anyLong(), anyLong(), any(), anyList());
         verify(holdGroupSeatRepository, never()).deleteHoldGroupSeats(anyLong(), anyLong());
         verify(holdGroupRepository, never()).delete(any());
-        verify(confirmIdempotencyRepository, never()).save(any());
+        verify(confirmIdempotencyRepository, never()).insertIfAbsent(anyLong(), anyString(), anyLong(), anyString(), anyLong(), anyLong(), anyLong(), anyString(), anyLong(), anyString(), any());
     }
 
     @Test
@@ -155,11 +166,12 @@ class ConfirmServiceTest {
         ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, amount);
 
         ConfirmIdempotency existing = ConfirmIdempotency.create(
-                paymentTxId, userId, confirmKey, eventId, 999L, 999L
+                paymentTxId, userId, confirmKey, eventId, 999L, 999L,
+                PaymentStatus.APPROVED, amount, "1:500,2:500"
         );
 
-        when(confirmIdempotencyRepository.findByPaymentTxId(paymentTxId))
-                .thenReturn(Optional.of(existing));
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey))
+                .thenReturn(List.of(existing));
 
         BusinessRuleViolationException ex = assertThrows(
                 BusinessRuleViolationException.class,
@@ -168,7 +180,7 @@ class ConfirmServiceTest {
         assertEquals(ErrorCode.CONFIRM_IDEMPOTENCY_CONFLICT, ex.getErrorCode());
 
         verify(paymentRepository, never()).getPaymentTxById(anyString());
-        verify(confirmIdempotencyRepository, never()).save(any());
+        verify(confirmIdempotencyRepository, never()).insertIfAbsent(anyLong(), anyString(), anyLong(), anyString(), anyLong(), anyLong(), anyLong(), anyString(), anyLong(), anyString(), any());
     }
 
     @Test
@@ -186,8 +198,7 @@ class ConfirmServiceTest {
 
         ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, amount);
 
-        when(confirmIdempotencyRepository.findByPaymentTxId(paymentTxId)).thenReturn(Optional.empty());
-        when(confirmIdempotencyRepository.findByUserIdAndConfirmKey(userId, confirmKey)).thenReturn(Optional.empty());
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey)).thenReturn(List.of());
 
         stubPaymentDeclined(paymentTxId);
 
@@ -215,8 +226,7 @@ class ConfirmServiceTest {
 
         ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, 999L);
 
-        when(confirmIdempotencyRepository.findByPaymentTxId(paymentTxId)).thenReturn(Optional.empty());
-        when(confirmIdempotencyRepository.findByUserIdAndConfirmKey(userId, confirmKey)).thenReturn(Optional.empty());
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey)).thenReturn(List.of());
 
         stubPayment(paymentTxId, 1000L, PaymentStatus.APPROVED);
 
@@ -242,8 +252,7 @@ class ConfirmServiceTest {
 
         ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, amount);
 
-        when(confirmIdempotencyRepository.findByPaymentTxId(paymentTxId)).thenReturn(Optional.empty());
-        when(confirmIdempotencyRepository.findByUserIdAndConfirmKey(userId, confirmKey)).thenReturn(Optional.empty());
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey)).thenReturn(List.of());
 
         stubPayment(paymentTxId, amount, PaymentStatus.APPROVED);
 
@@ -255,7 +264,7 @@ class ConfirmServiceTest {
         );
         assertEquals(ErrorCode.HOLD_TOKEN_NOT_FOUND, ex.getErrorCode());
 
-        verify(holdGroupSeatRepository, never()).findValidSeatIds(anyLong(), anyLong(), any());
+        verify(holdGroupSeatRepository, never()).findValidSeatPrices(anyLong(), anyLong(), any());
         verify(seatRepository, never()).changeSeatsSoldByHold(anyLong(), anyLong(), anyLong(), any(), anyList());
     }
 
@@ -274,16 +283,17 @@ class ConfirmServiceTest {
 
         ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, amount);
 
-        when(confirmIdempotencyRepository.findByPaymentTxId(paymentTxId)).thenReturn(Optional.empty());
-        when(confirmIdempotencyRepository.findByUserIdAndConfirmKey(userId, confirmKey)).thenReturn(Optional.empty());
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey)).thenReturn(List.of());
 
         PaymentTx payment = paymentWith(amount, PaymentStatus.APPROVED);
         stubPaymentRepoReturns(paymentTxId, payment);
 
+        HoldGroup hg = mock(HoldGroup.class);
+        when(hg.getTotalAmount()).thenReturn(amount);
         when(holdGroupRepository.findValidHoldGroup(holdGroupId, userId, eventId, now))
-                .thenReturn(Optional.of(mock(HoldGroup.class)));
+                .thenReturn(Optional.of(hg));
 
-        when(holdGroupSeatRepository.findValidSeatIds(holdGroupId, eventId, now)).thenReturn(List.of());
+        when(holdGroupSeatRepository.findValidSeatPrices(holdGroupId, eventId, now)).thenReturn(List.of());
 
         BusinessRuleViolationException ex = assertThrows(
                 BusinessRuleViolationException.class,
@@ -294,6 +304,39 @@ class ConfirmServiceTest {
         verify(seatRepository, never()).changeSeatsSoldByHold(anyLong(), anyLong(), anyLong(), any(), anyList());
     }
 
+    @Test
+    void confirm_whenAmountDiffersFromHoldTotal_throwsAmountMismatch() {
+        long userId = 1L;
+        long eventId = 10L;
+
+        Instant now = HoldTimes.now(clock);
+        stubEventOnSale(eventId, now);
+
+        long holdGroupId = 55L;
+        String paymentTxId = "p1";
+        String confirmKey = "ck1";
+        long amount = 1000L;
+
+        ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, amount);
+
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey)).thenReturn(List.of());
+
+        stubPayment(paymentTxId, amount, PaymentStatus.APPROVED);
+
+        HoldGroup hg = mock(HoldGroup.class);
+        when(hg.getTotalAmount()).thenReturn(1500L);
+        when(holdGroupRepository.findValidHoldGroup(holdGroupId, userId, eventId, now)).thenReturn(Optional.of(hg));
+
+        BusinessRuleViolationException ex = assertThrows(
+                BusinessRuleViolationException.class,
+                () -> confirmService.confirm(userId, eventId, req)
+        );
+        assertEquals(ErrorCode.AMOUNT_MISMATCH, ex.getErrorCode());
+
+        verify(holdGroupSeatRepository, never()).findValidSeatPrices(anyLong(), anyLong(), any());
+        verify(seatRepository, never()).changeSeatsSoldByHold(anyLong(), anyLong(), anyLong(), any(), anyList());
+    }
+
     @Test
     void confirm_whenHoldExpired_byUpdateCountMismatch_throwsHoldExpired() {
         long userId = 1L;
@@ -309,17 +352,18 @@ class ConfirmServiceTest {
 
         ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, amount);
 
-        when(confirmIdempotencyRepository.findByPaymentTxId(paymentTxId)).thenReturn(Optional.empty());
-        when(confirmIdempotencyRepository.findByUserIdAndConfirmKey(userId, confirmKey)).thenReturn(Optional.empty());
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey)).thenReturn(List.of());
 
         stubPayment(paymentTxId, amount, PaymentStatus.APPROVED);
 
         HoldGroup hg = mock(HoldGroup.class);
         when(hg.getId()).thenReturn(holdGroupId);
+        when(hg.getTotalAmount()).thenReturn(amount);
         when(holdGroupRepository.findValidHoldGroup(holdGroupId, userId, eventId, now)).thenReturn(Optional.of(hg));
 
         List<Long> seatIds = List.of(1L, 2L);
-        when(holdGroupSeatRepository.findValidSeatIds(holdGroupId, eventId, now)).thenReturn(seatIds);
+        when(holdGroupSeatRepository.findValidSeatPrices(holdGroupId, eventId, now))
+                .thenReturn(List.of(new HeldSeatPrice(1L, 500L), new HeldSeatPrice(2L, 500L)));
 
         when(seatRepository.changeSeatsSoldByHold(eq(eventId), eq(holdGroupId), eq(userId), eq(now), eq(seatIds)))
                 .thenReturn(1);
@@ -331,8 +375,9 @@ class ConfirmServiceTest {
         assertEquals(ErrorCode.HOLD_EXPIRED, ex.getErrorCode());
 
         verify(seatRepository, never()).findAllById(anyList());
-        verify(bookingRepository, never()).save(any());
-        verify(confirmIdempotencyRepository, never()).save(any());
+        verify(seatInventory, never()).markSoldOnCommit(anyLong(), anyList());
+        verify(bookingRepository, never()).insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any());
+        verify(confirmIdempotencyRepository, never()).insertIfAbsent(anyLong(), anyString(), anyLong(), anyString(), anyLong(), anyLong(), anyLong(), anyString(), anyLong(), anyString(), any());
     }
 
     @Test
@@ -350,45 +395,35 @@ class ConfirmServiceTest {
 
         ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, amount);
 
-        when(confirmIdempotencyRepository.findByPaymentTxId(paymentTxId)).thenReturn(Optional.empty());
-        when(confirmIdempotencyRepository.findByUserIdAndConfirmKey(userId, confirmKey)).thenReturn(Optional.empty());
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey)).thenReturn(List.of());
 
         stubPayment(paymentTxId, amount, PaymentStatus.APPROVED);
 
         HoldGroup hg = mock(HoldGroup.class);
         when(hg.getId()).thenReturn(holdGroupId);
+        when(hg.getTotalAmount()).thenReturn(amount);
         when(holdGroupRepository.findValidHoldGroup(holdGroupId, userId, eventId, now)).thenReturn(Optional.of(hg));
 
         List<Long> seatIds = List.of(1L, 2L);
-        when(holdGroupSeatRepository.findValidSeatIds(holdGroupId, eventId, now)).thenReturn(seatIds);
+        when(holdGroupSeatRepository.findValidSeatPrices(holdGroupId, eventId, now))
+                .thenReturn(List.of(new HeldSeatPrice(1L, 500L), new HeldSeatPrice(2L, 500L)));
 
         when(seatRepository.changeSeatsSoldByHold(eq(eventId), eq(holdGroupId), eq(userId), eq(now), eq(seatIds)))
                 .thenReturn(seatIds.size());
 
-        Seat s1 = mock(Seat.class);
-        when(s1.getId()).thenReturn(1L);
-        when(s1.getPrice()).thenReturn(500L);
-
-        Seat s2 = mock(Seat.class);
-        when(s2.getId()).thenReturn(2L);
-        when(s2.getPrice()).thenReturn(500L);
-
-        when(seatRepository.findAllById(seatIds)).thenReturn(List.of(s1, s2));
-
         Booking booking = mock(Booking.class);
         when(booking.getId()).thenReturn(777L);
-        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(pooledIdAllocator.next(Booking.class)).thenReturn(777L);
+        when(bookingRepository.insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any())).thenReturn(1);
+        when(bookingRepository.getReferenceById(777L)).thenReturn(booking);
 
         BookingItem bi1 = BookingItem.create(777L, 1L, 500L);
         BookingItem bi2 = BookingItem.create(777L, 2L, 500L);
-        when(bookingItemRepository.saveAll(anyList())).thenReturn(List.of(bi1, bi2));
+        when(bookingItemRepository.saveAllAndFlush(anyList())).thenReturn(List.of(bi1, bi2));
 
         when(holdGroupSeatRepository.deleteHoldGroupSeats(holdGroupId, eventId)).thenReturn(seatIds.size());
 
-        ConfirmIdempotency idemSaved = ConfirmIdempotency.create(
-                paymentTxId, userId, confirmKey, eventId, holdGroupId, 777L
-        );
-        when(confirmIdempotencyRepository.save(any(ConfirmIdempotency.class))).thenReturn(idemSaved);
+        when(confirmIdempotencyRepository.insertIfAbsent(anyLong(), anyString(), anyLong(), anyString(), anyLong(), anyLong(), anyLong(), anyString(), anyLong(), anyString(), any())).thenReturn(1);
 
         ConfirmResponse res = confirmService.confirm(userId, eventId, req);
 
@@ -398,16 +433,100 @@ class ConfirmServiceTest {
         assertEquals(amount, res.totalAmount());
         assertEquals(2, res.items().size());
 
-        ArgumentCaptor<ConfirmIdempotency> idemCaptor = ArgumentCaptor.forClass(ConfirmIdempotency.class);
-        verify(confirmIdempotencyRepository).save(idemCaptor.capture());
-        assertEquals(777L, idemCaptor.getValue().getBookingId());
+        assertEquals(777L, res.bookingId());
+        verify(confirmIdempotencyRepository).insertIfAbsent(
+                anyLong(), eq(paymentTxId), eq(userId), eq(confirmKey), eq(eventId), eq(holdGroupId), eq(777L),
+                eq("APPROVED"), eq(amount), eq("1:500,2:500"), any());
 
         verify(holdGroupRepository).delete(hg);
+        verify(seatInventory).markSoldOnCommit(eventId, seatIds);
+        verify(seatRepository, never()).findAllById(anyList());
+        verify(holdCounterRepository).release(userId, eventId, seatIds.size(), now);
     }
 
+    @Test
+    void confirm_whenHoldKnownUnconfirmed_skipsIdempotencyLookup_andInvalidatesOnSuccess() {
+        long userId = 1L;
+        long eventId = 10L;
+
+        Instant now = HoldTimes.now(clock);
+        stubEventOnSale(eventId, now);
+
+        String paymentTxId = "p1";
+        long amount = 1000L;
+        long holdGroupId = 55L;
+        String confirmKey = "ck1";
+
+        ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, amount);
+        unconfirmedHoldCache.addOnCommit(holdGroupId, now.plusSeconds(60));
+
+        stubPayment(paymentTxId, amount, PaymentStatus.APPROVED);
+
+        HoldGroup hg = mock(HoldGroup.class);
+        when(hg.getId()).thenReturn(holdGroupId);
+        when(hg.getTotalAmount()).thenReturn(amount);
+        when(holdGroupRepository.findValidHoldGroup(holdGroupId, userId, eventId, now)).thenReturn(Optional.of(hg));
+
+        List<Long> seatIds = List.of(1L, 2L);
+        when(holdGroupSeatRepository.findValidSeatPrices(holdGroupId, eventId, now))
+                .thenReturn(List.of(new HeldSeatPrice(1L, 500L), new HeldSeatPrice(2L, 500L)));
+        when(seatRepository.changeSeatsSoldByHold(eq(eventId), eq(holdGroupId), eq(userId), eq(now), eq(seatIds)))
+                .thenReturn(seatIds.size());
+
+        Booking booking = mock(Booking.class);
+        when(booking.getId()).thenReturn(777L);
+        when(pooledIdAllocator.next(Booking.class)).thenReturn(777L);
+        when(bookingRepository.insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any())).thenReturn(1);
+        when(bookingRepository.getReferenceById(777L)).thenReturn(booking);
+        when(bookingItemRepository.saveAllAndFlush(anyList()))
+                .thenReturn(List.of(BookingItem.create(777L, 1L, 500L), BookingItem.create(777L, 2L, 500L)));
+        when(holdGroupSeatRepository.deleteHoldGroupSeats(holdGroupId, eventId)).thenReturn(seatIds.size());
+        when(confirmIdempotencyRepository.insertIfAbsent(anyLong(), anyString(), anyLong(), anyString(), anyLong(), anyLong(), anyLong(), anyString(), anyLong(), anyString(), any())).thenReturn(1);
+
+        ConfirmResponse res = confirmService.confirm(userId, eventId, req);
+
+        assertEquals(777L, res.bookingId());
+        verify(confirmIdempotencyRepository, never()).findByPaymentTxIdOrUserKey(anyString(), anyLong(), anyString());
+        assertFalse(unconfirmedHoldCache.contains(holdGroupId, now));
+    }
 
     @Test
-    void saveConfirmIdempotency_whenDuplicateKey_returnsExisting_ifSameDecision() {
+    void confirm_whenHoldKnownUnconfirmed_butAlreadyConfirmedElsewhere_replaysStoredResponse() {
+        long userId = 1L;
+        long eventId = 10L;
+
+        Instant now = HoldTimes.now(clock);
+        stubEventOnSale(eventId, now);
+
+        String paymentTxId = "p1";
+        long amount = 1000L;
+        long holdGroupId = 55L;
+        String confirmKey = "ck1";
+
+        ConfirmRequest req = ConfirmRequest.create(holdGroupId, paymentTxId, confirmKey, amount);
+        unconfirmedHoldCache.addOnCommit(holdGroupId, now.plusSeconds(60));
+
+        stubPayment(paymentTxId, amount, PaymentStatus.APPROVED);
+        when(holdGroupRepository.findValidHoldGroup(holdGroupId, userId, eventId, now)).thenReturn(Optional.empty());
+
+        ConfirmIdempotency idem = ConfirmIdempotency.create(
+                paymentTxId, userId, confirmKey, eventId, holdGroupId, 999L,
+                PaymentStatus.APPROVED, amount, "1:500,2:500"
+        );
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey))
+                .thenReturn(List.of(idem));
+
+        ConfirmResponse res = confirmService.confirm(userId, eventId, req);
+
+        assertEquals(999L, res.bookingId());
+        assertEquals(2, res.items().size());
+        verify(bookingRepository, never()).insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any());
+        verify(seatRepository, never()).changeSeatsSoldByHold(anyLong(), anyLong(), anyLong(), any(), anyList());
+    }
+
+
+    @Test
+    void saveConfirmIdempotency_whenInsertIgnored_returnsExisting_ifSameDecision() {
         long userId = 1L;
         long eventId = 10L;
 
@@ -420,16 +539,18 @@ class ConfirmServiceTest {
         Booking booking = mock(Booking.class);
         when(booking.getId()).thenReturn(777L);
 
-        when(confirmIdempotencyRepository.save(any(ConfirmIdempotency.class)))
-                .thenThrow(dataIntegrity(UK_CONFIRM_PAYMENT_TX));
+        when(confirmIdempotencyRepository.insertIfAbsent(anyLong(), anyString(), anyLong(), anyString(), anyLong(), anyLong(), anyLong(), anyString(), anyLong(), anyString(), any())).thenReturn(0);
 
         ConfirmIdempotency existing = ConfirmIdempotency.create(
-                paymentTxId, userId, confirmKey, eventId, holdGroupId, 777L
+                paymentTxId, userId, confirmKey, eventId, holdGroupId, 777L,
+                PaymentStatus.APPROVED, 4L, "1:4"
         );
-        when(confirmIdempotencyRepository.findByPaymentTxId(paymentTxId))
-                .thenReturn(Optional.of(existing));
+        when(confirmIdempotencyRepository.findByPaymentTxIdOrUserKey(paymentTxId, userId, confirmKey))
+                .thenReturn(List.of(existing));
 
-        ConfirmIdempotency result = confirmService.saveConfirmIdempotency(userId, eventId, req, booking);
+        PaymentTx payment = paymentWith(4L, PaymentStatus.APPROVED);
+        ConfirmIdempotency result = confirmService.saveConfirmIdempotency(
+                userId, eventId, req, booking, payment, List.of(new BookingItemDto(1L, 4L)));
         assertSame(existing, result);
     }
 
@@ -440,8 +561,7 @@ class ConfirmServiceTest {
 
         ConfirmRequest req = ConfirmRequest.create(55L, "p1", "ck1", 4L);
 
-        when(bookingRepository.save(any(Booking.class)))
-                .thenThrow(dataIntegrity(UK_BOOKINGS_PAYMENT_TX));
+        when(bookingRepository.insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any())).thenReturn(0);
 
         BusinessRuleViolationException ex = assertThrows(
                 BusinessRuleViolationException.class,
@@ -452,16 +572,12 @@ class ConfirmServiceTest {
 
     @Test
     void confirmBookingItems_whenDuplicateSeat_throwsBookingItemAlreadySaved() {
-        Seat s1 = mock(Seat.class);
-        when(s1.getId()).thenReturn(1L);
-        when(s1.getPrice()).thenReturn(500L);
-
-        when(bookingItemRepository.saveAll(anyList()))
+        when(bookingItemRepository.saveAllAndFlush(anyList()))
                 .thenThrow(dataIntegrity(UK_BOOKING_ITEMS_SEAT));
 
         BusinessRuleViolationException ex = assertThrows(
                 BusinessRuleViolationException.class,
-                () -> confirmService.confirmBookingItems(List.of(s1), 777L)
+                () -> confirmService.confirmBookingItems(List.of(new HeldSeatPrice(1L, 500L)), 777L)
         );
         assertEquals(ErrorCode.BOOKING_ITEM_ALREADY_SAVED, ex.getErrorCode());
     }
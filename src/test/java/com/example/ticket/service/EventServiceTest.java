@@ -0,0 +1,107 @@
+package com.example.ticket.service;
+
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.domain.event.Event;
+import com.example.ticket.domain.event.EventStatus;
+import com.example.ticket.domain.event.EventVersion;
+import com.example.ticket.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventServiceTest {
+
+    private static final long EVENT_ID = 10L;
+    private static final Instant OPEN_AT = Instant.parse("2026-01-25T00:00:00Z");
+    private static final Instant CLOSE_AT = Instant.parse("2026-01-25T01:00:00Z");
+
+    @Mock
+    EventRepository eventRepository;
+
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventService = new EventService(eventRepository);
+    }
+
+    private void stubEvent(EventStatus status, long version) {
+        Event event = mock(Event.class);
+        when(event.getStatus()).thenReturn(status);
+        when(event.getSalesOpenAt()).thenReturn(OPEN_AT);
+        when(event.getSalesCloseAt()).thenReturn(CLOSE_AT);
+        when(event.getVersion()).thenReturn(version);
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+    }
+
+    @Test
+    void validateOnSale_loadsOnce_andFollowsSalesWindowWithoutQuery() {
+        stubEvent(EventStatus.OPEN, 1L);
+
+        eventService.validateOnSale(EVENT_ID, OPEN_AT);
+        eventService.validateOnSale(EVENT_ID, CLOSE_AT.minusSeconds(1));
+
+        BusinessRuleViolationException ex = assertThrows(
+                BusinessRuleViolationException.class,
+                () -> eventService.validateOnSale(EVENT_ID, CLOSE_AT)
+        );
+        assertEquals(ErrorCode.EVENT_NOT_ON_SALE, ex.getErrorCode());
+        verify(eventRepository, times(1)).findById(EVENT_ID);
+    }
+
+    @Test
+    void validateOnSale_whenEventMissing_throwsNotFound_andDoesNotCache() {
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 2; i++) {
+            BusinessRuleViolationException ex = assertThrows(
+                    BusinessRuleViolationException.class,
+                    () -> eventService.validateOnSale(EVENT_ID, OPEN_AT)
+            );
+            assertEquals(ErrorCode.EVENT_NOT_FOUND, ex.getErrorCode());
+        }
+        verify(eventRepository, times(2)).findById(EVENT_ID);
+    }
+
+    @Test
+    void pollVersions_whenVersionChanged_reloadsOnNextCall() {
+        stubEvent(EventStatus.OPEN, 1L);
+        eventService.validateOnSale(EVENT_ID, OPEN_AT);
+
+        when(eventRepository.findVersionsByIdIn(List.of(EVENT_ID)))
+                .thenReturn(List.of(new EventVersion(EVENT_ID, 2L)));
+        eventService.pollVersions();
+
+        stubEvent(EventStatus.CLOSED, 2L);
+        BusinessRuleViolationException ex = assertThrows(
+                BusinessRuleViolationException.class,
+                () -> eventService.validateOnSale(EVENT_ID, OPEN_AT)
+        );
+        assertEquals(ErrorCode.EVENT_NOT_ON_SALE, ex.getErrorCode());
+        verify(eventRepository, times(2)).findById(EVENT_ID);
+    }
+
+    @Test
+    void pollVersions_whenVersionSame_keepsCache() {
+        stubEvent(EventStatus.OPEN, 1L);
+        eventService.validateOnSale(EVENT_ID, OPEN_AT);
+
+        when(eventRepository.findVersionsByIdIn(List.of(EVENT_ID)))
+                .thenReturn(List.of(new EventVersion(EVENT_ID, 1L)));
+        eventService.pollVersions();
+        eventService.validateOnSale(EVENT_ID, OPEN_AT);
+
+        verify(eventRepository, times(1)).findById(EVENT_ID);
+    }
+}
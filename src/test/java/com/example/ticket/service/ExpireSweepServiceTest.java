@@ -1,66 +1,127 @@
 package com.example.ticket.service;
 
 import com.example.ticket.api.ticket.dto.AdminExpireSweepDto.AdminExpireSweepResponse;
+import com.example.ticket.config.HoldSweepProperties;
 import com.example.ticket.domain.hold.HoldTimes;
+import com.example.ticket.inventory.SeatInventory;
 import com.example.ticket.repository.HoldGroupRepository;
+import com.example.ticket.repository.GroupSeatHoldStore;
+import com.example.ticket.repository.HoldGroupWriter;
 import com.example.ticket.repository.HoldGroupSeatRepository;
+import com.example.ticket.repository.SeatRepository;
+import com.example.ticket.repository.UserEventHoldCounterRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ExpireSweepServiceTest {
 
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_CHUNKS = 3;
+
     @Mock HoldGroupSeatRepository holdGroupSeatRepository;
+    @Mock SeatRepository seatRepository;
     @Mock HoldGroupRepository holdGroupRepository;
+    @Mock SeatInventory seatInventory;
+    @Mock UserEventHoldCounterRepository holdCounterRepository;
+    @Mock PlatformTransactionManager transactionManager;
 
     private ExpireSweepService expireSweepService;
+    private Instant now;
 
     @BeforeEach
     void setUp() {
         Clock fixed = Clock.fixed(Instant.parse("2026-01-25T00:00:00Z"), ZoneOffset.UTC);
-        expireSweepService = new ExpireSweepService(fixed, holdGroupSeatRepository, holdGroupRepository);
+        now = HoldTimes.now(fixed);
+        expireSweepService = new ExpireSweepService(
+                fixed,
+                new GroupSeatHoldStore(holdGroupSeatRepository, seatRepository, mock(HoldGroupWriter.class)),
+                holdGroupRepository,
+                seatInventory,
+                holdCounterRepository,
+                new TransactionTemplate(transactionManager),
+                new HoldSweepProperties(true, Duration.ofSeconds(5), CHUNK_SIZE, MAX_CHUNKS)
+        );
     }
 
     @Test
-    void sweepExpired_deletesExpiredSeatsAndGroups_andReturnsCountAndNow() {
+    void sweepExpired_deletesInChunks_untilPartialChunk_andCommitsEachChunk() {
         // given
-        Instant now = HoldTimes.now(Clock.fixed(Instant.parse("2026-01-25T00:00:00Z"), ZoneOffset.UTC));
-        when(holdGroupSeatRepository.deleteAllByExpiresAtLessThanEqual(now)).thenReturn(7);
+        when(holdGroupRepository.lockExpiredIds(now, CHUNK_SIZE))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(holdGroupSeatRepository.deleteAllByHoldGroupIds(List.of(1L, 2L))).thenReturn(5);
+        when(holdGroupSeatRepository.deleteAllByHoldGroupIds(List.of(3L))).thenReturn(2);
 
         // when
         AdminExpireSweepResponse res = expireSweepService.sweepExpired();
 
-        // then: repo calls
-        verify(holdGroupSeatRepository, times(1)).deleteAllByExpiresAtLessThanEqual(now);
-        verify(holdGroupRepository, times(1)).deleteAllByExpiresAtLessThanEqual(now);
-        verifyNoMoreInteractions(holdGroupSeatRepository, holdGroupRepository);
+        // then: 카운터 반환 → 좌석 → group 순
+        InOrder inOrder = inOrder(holdCounterRepository, holdGroupSeatRepository, holdGroupRepository);
+        inOrder.verify(holdCounterRepository).releaseHoldGroups(List.of(1L, 2L), now);
+        inOrder.verify(holdGroupSeatRepository).deleteAllByHoldGroupIds(List.of(1L, 2L));
+        inOrder.verify(holdGroupRepository).deleteAllByIds(List.of(1L, 2L));
+        inOrder.verify(holdCounterRepository).releaseHoldGroups(List.of(3L), now);
+        inOrder.verify(holdGroupSeatRepository).deleteAllByHoldGroupIds(List.of(3L));
+        inOrder.verify(holdGroupRepository).deleteAllByIds(List.of(3L));
+
+        verify(holdGroupRepository, times(2)).lockExpiredIds(now, CHUNK_SIZE);
+        verify(transactionManager, times(2)).commit(any());
+        verify(seatInventory).releaseExpiredOnCommit(now);
 
-        // then: response mapping
-        AdminExpireSweepResponse expected = AdminExpireSweepResponse.from(7, now);
-        assertEquals(expected, res);
+        assertEquals(AdminExpireSweepResponse.from(7, now), res);
     }
 
     @Test
-    void sweepExpired_whenNothingExpired_returnsZero() {
-        Instant now = HoldTimes.now(Clock.fixed(Instant.parse("2026-01-25T00:00:00Z"), ZoneOffset.UTC));
-        when(holdGroupSeatRepository.deleteAllByExpiresAtLessThanEqual(now)).thenReturn(0);
+    void sweepExpired_whenNothingExpired_returnsZero_andDeletesNothing() {
+        when(holdGroupRepository.lockExpiredIds(now, CHUNK_SIZE)).thenReturn(List.of());
 
         AdminExpireSweepResponse res = expireSweepService.sweepExpired();
 
-        verify(holdGroupSeatRepository).deleteAllByExpiresAtLessThanEqual(now);
-        verify(holdGroupRepository).deleteAllByExpiresAtLessThanEqual(now);
+        verify(holdCounterRepository, never()).releaseHoldGroups(anyList(), any());
+        verify(holdGroupSeatRepository, never()).deleteAllByHoldGroupIds(anyList());
+        verify(holdGroupRepository, never()).deleteAllByIds(anyList());
+
+        assertEquals(AdminExpireSweepResponse.from(0, now), res);
+    }
+
+    @Test
+    void sweepExpired_stopsAtMaxChunks_andLeavesRestForNextRun() {
+        when(holdGroupRepository.lockExpiredIds(now, CHUNK_SIZE)).thenReturn(List.of(1L, 2L));
+        when(holdGroupSeatRepository.deleteAllByHoldGroupIds(List.of(1L, 2L))).thenReturn(2);
+
+        AdminExpireSweepResponse res = expireSweepService.sweepExpired();
+
+        verify(holdGroupRepository, times(MAX_CHUNKS)).lockExpiredIds(now, CHUNK_SIZE);
+        assertEquals(AdminExpireSweepResponse.from(2 * MAX_CHUNKS, now), res);
+    }
+
+    @Test
+    void expireHoldGroups_releasesOnlyGroupsStillExpired() {
+        when(holdGroupRepository.lockExpiredIdsIn(List.of(1L, 2L), now)).thenReturn(List.of(2L));
+        when(holdGroupSeatRepository.deleteAllByHoldGroupIds(List.of(2L))).thenReturn(3);
+
+        int released = expireSweepService.expireHoldGroups(List.of(1L, 2L));
 
-        AdminExpireSweepResponse expected = AdminExpireSweepResponse.from(0, now);
-        assertEquals(expected, res);
+        verify(holdCounterRepository).releaseHoldGroups(List.of(2L), now);
+        verify(holdGroupRepository).deleteAllByIds(List.of(2L));
+        verify(transactionManager).commit(any());
+        assertEquals(3, released);
     }
-}
\ No newline at end of file
+}
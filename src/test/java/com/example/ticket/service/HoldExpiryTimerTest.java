@@ -0,0 +1,129 @@
+package com.example.ticket.service;
+
+import com.example.ticket.config.HoldSweepProperties;
+import com.example.ticket.inventory.HoldReservation;
+import com.example.ticket.inventory.SeatInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HoldExpiryTimerTest {
+
+    private static final long EVENT_ID = 10L;
+
+    @Mock
+    ExpireSweepService expireSweepService;
+
+    @Mock
+    SeatInventory seatInventory;
+
+    private MutableClock clock;
+    private HoldExpiryTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-25T00:00:00Z"));
+        // chunkSize=2
+        timer = new HoldExpiryTimer(clock, expireSweepService,
+                new HoldSweepProperties(true, Duration.ofSeconds(60), 2, 20), seatInventory);
+    }
+
+    @Test
+    void tick_drainsRegistrations_expiresDueGroupsInChunks_thenReleasesInventory() {
+        List<HoldReservation> due = List.of(held(1L, 1), held(2L, 1), held(3L, 1), held(4L, 1), held(5L, 1));
+        HoldReservation later = held(6L, 10);
+        due.forEach(timer::scheduleOnCommit);
+        timer.scheduleOnCommit(later);
+
+        timer.tick();
+        verifyNoInteractions(expireSweepService, seatInventory);
+
+        when(expireSweepService.expireHoldGroups(anyList())).thenReturn(2, 2, 1);
+        clock.advance(Duration.ofMillis(1_200));
+        timer.tick();
+
+        // chunk마다 DB 정리가 끝난 뒤에만 메모리 해제
+        InOrder inOrder = inOrder(expireSweepService, seatInventory);
+        inOrder.verify(expireSweepService).expireHoldGroups(List.of(1L, 2L));
+        inOrder.verify(seatInventory).release(due.get(0));
+        inOrder.verify(seatInventory).release(due.get(1));
+        inOrder.verify(expireSweepService).expireHoldGroups(List.of(3L, 4L));
+        inOrder.verify(seatInventory).release(due.get(2));
+        inOrder.verify(seatInventory).release(due.get(3));
+        inOrder.verify(expireSweepService).expireHoldGroups(List.of(5L));
+        inOrder.verify(seatInventory).release(due.get(4));
+        verify(seatInventory, never()).release(later);
+    }
+
+    @Test
+    void tick_failedChunk_keepsInventoryHeld_andIsLeftForSweep() {
+        List<HoldReservation> due = List.of(held(1L, 1), held(2L, 1), held(3L, 1), held(4L, 1));
+        due.forEach(timer::scheduleOnCommit);
+        when(expireSweepService.expireHoldGroups(anyList()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(2);
+
+        clock.advance(Duration.ofMillis(1_200));
+        timer.tick();
+
+        verify(expireSweepService).expireHoldGroups(List.of(1L, 2L));
+        verify(expireSweepService).expireHoldGroups(List.of(3L, 4L));
+        verify(seatInventory, never()).release(due.get(0));
+        verify(seatInventory, never()).release(due.get(1));
+        verify(seatInventory).release(due.get(2));
+        verify(seatInventory).release(due.get(3));
+
+        // 실패한 chunk는 휠에 다시 넣지 않는다 → 주기 스윕이 회수
+        clock.advance(Duration.ofSeconds(10));
+        timer.tick();
+        verify(expireSweepService, times(2)).expireHoldGroups(anyList());
+        verify(seatInventory, times(2)).release(any());
+    }
+
+    private HoldReservation held(long holdGroupId, long expiresInSeconds) {
+        return HoldReservation.persisted(
+                EVENT_ID, List.of(holdGroupId), clock.instant().plusSeconds(expiresInSeconds), holdGroupId);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.ticket.service;
+
+import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateRequest;
+import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateResponse;
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.domain.event.Event;
+import com.example.ticket.domain.event.SeatStatus;
+import com.example.ticket.domain.hold.HoldGroup;
+import com.example.ticket.domain.hold.HoldGroupSeat;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.inventory.SeatInventory;
+import com.example.ticket.repository.EventRepository;
+import com.example.ticket.repository.HoldGroupRepository;
+import com.example.ticket.repository.HoldGroupSeatRepository;
+import com.example.ticket.repository.HoldIdempotencyRepository;
+import com.example.ticket.repository.SeatRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * max-batch-size=2 → 동시에 보낸 두 HOLD가 한 배치(한 트랜잭션)로 묶인다.
+ * reconcile은 꺼 둬서(1h) 다른 노드 HOLD가 메모리에 반영되기 전 DB 판정을 볼 수 있다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:group-commit;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "ticket.hold.group-commit.enabled=true",
+        "ticket.hold.group-commit.max-batch-size=2",
+        "ticket.hold.group-commit.max-wait=500ms",
+        "ticket.hold.group-commit.commit-timeout=10s",
+        "ticket.inventory.reconcile-interval=1h"
+})
+class HoldGroupCommitterTest {
+
+    @Autowired HoldService holdService;
+    @Autowired SeatInventory seatInventory;
+    @Autowired EventRepository eventRepository;
+    @Autowired SeatRepository seatRepository;
+    @Autowired HoldGroupRepository holdGroupRepository;
+    @Autowired HoldGroupSeatRepository holdGroupSeatRepository;
+    @Autowired HoldIdempotencyRepository holdIdempotencyRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sameSeat_decidedInMemory_loserNeverReachesBatch() throws Exception {
+        long eventId = openEvent();
+        long seatId = seatRepository.save(Seat.create(eventId, "A", "A-1", 500L)).getId();
+
+        Map<Long, Object> results = holdConcurrently(eventId, Map.of(1L, seatId, 2L, seatId));
+
+        List<HoldCreateResponse> succeeded = succeeded(results);
+        assertEquals(1, succeeded.size());
+        assertEquals(1, results.values().stream().filter(ErrorCode.SEAT_NOT_AVAILABLE::equals).count());
+        long loser = results.get(1L) instanceof ErrorCode ? 1L : 2L;
+        assertTrue(holdGroupRepository.findById(succeeded.get(0).holdToken()).isPresent());
+        assertTrue(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(loser, eventId, "k" + loser).isEmpty());
+        assertEquals(0, heldCount(loser, eventId));
+        assertEquals(1, heldCount(3 - loser, eventId));
+    }
+
+    @Test
+    void seatHeldByOtherNode_onlyThatHoldLoses_restOfBatchCommits() throws Exception {
+        long eventId = openEvent();
+        long seatA = seatRepository.save(Seat.create(eventId, "A", "A-1", 500L)).getId();
+        long seatB = seatRepository.save(Seat.create(eventId, "A", "A-2", 700L)).getId();
+        seatInventory.snapshot(eventId);
+        // 메모리 적재 이후 다른 노드가 B를 잡았다
+        holdGroupSeatRepository.save(
+                HoldGroupSeat.create(seatB, eventId, Instant.now().plus(Duration.ofMinutes(5)), 999L, 700L));
+
+        Map<Long, Object> results = holdConcurrently(eventId, Map.of(1L, seatA, 2L, seatB));
+
+        HoldCreateResponse won = assertInstanceOf(HoldCreateResponse.class, results.get(1L));
+        assertEquals(ErrorCode.SEAT_NOT_AVAILABLE, results.get(2L));
+
+        HoldGroup group = holdGroupRepository.findById(won.holdToken()).orElseThrow();
+        assertEquals(500L, group.getTotalAmount());
+        assertTrue(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(1L, eventId, "k1")
+                .orElseThrow().isCompleted());
+
+        // 진 HOLD: 좌석 행/슬롯/멱등 행 모두 되돌려지고 다른 노드의 행은 그대로
+        assertTrue(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(2L, eventId, "k2").isEmpty());
+        assertEquals(0, heldCount(2L, eventId));
+        assertEquals(List.of(999L), jdbcTemplate.queryForList(
+                "select hold_group_id from hold_group_seats where event_id = ? and seat_id = ?", Long.class, eventId, seatB));
+        assertEquals(SeatStatus.AVAILABLE, seatInventory.stateOf(eventId, seatB).orElseThrow().status());
+    }
+
+    private long openEvent() {
+        Instant now = Instant.now();
+        Event event = Event.draft("group commit", now.minus(Duration.ofHours(1)), now.plus(Duration.ofHours(1)));
+        event.open();
+        return eventRepository.save(event).getId();
+    }
+
+    /**
+     * userId → seatId를 동시에 HOLD. 결과는 userId → 응답 또는 ErrorCode
+     */
+    private Map<Long, Object> holdConcurrently(long eventId, Map<Long, Long> seatByUser) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(seatByUser.size());
+        Map<Long, Object> results = new ConcurrentHashMap<>();
+        try {
+            Map<Long, Future<HoldCreateResponse>> futures = new ConcurrentHashMap<>();
+            seatByUser.forEach((userId, seatId) -> futures.put(userId, callers.submit(() -> holdService.holdGrouped(
+                    userId, eventId, new HoldCreateRequest(List.of(seatId)), "k" + userId))));
+            for (Map.Entry<Long, Future<HoldCreateResponse>> entry : futures.entrySet()) {
+                try {
+                    results.put(entry.getKey(), entry.getValue().get(15, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    BusinessRuleViolationException cause =
+                            assertInstanceOf(BusinessRuleViolationException.class, e.getCause());
+                    results.put(entry.getKey(), cause.getErrorCode());
+                }
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        return results;
+    }
+
+    private List<HoldCreateResponse> succeeded(Map<Long, Object> results) {
+        return results.values().stream()
+                .filter(HoldCreateResponse.class::isInstance)
+                .map(HoldCreateResponse.class::cast)
+                .toList();
+    }
+
+    private int heldCount(long userId, long eventId) {
+        return jdbcTemplate.queryForObject(
+                "select coalesce(sum(held_count), 0) from user_event_hold_counter where user_id = ? and event_id = ?",
+                Integer.class, userId, eventId);
+    }
+}
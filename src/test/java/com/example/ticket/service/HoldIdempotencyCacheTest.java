@@ -0,0 +1,162 @@
+package com.example.ticket.service;
+
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.HoldIdempotencyCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HoldIdempotencyCacheTest {
+
+    private static final long USER_ID = 1L;
+    private static final long EVENT_ID = 10L;
+
+    private MutableClock clock;
+    private EventService eventService;
+    private HoldIdempotencyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-25T00:00:00Z"));
+        eventService = mock(EventService.class);
+        cache = new HoldIdempotencyCache(
+                new HoldIdempotencyCacheProperties(true, 2, Duration.ofMinutes(5), Duration.ofSeconds(5)),
+                eventService,
+                clock
+        );
+    }
+
+    @Test
+    void execute_completed_servedWithoutCall_untilTtl() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("r1", cache.execute(USER_ID, EVENT_ID, "k1", "1,2", String.class, () -> "r" + calls.incrementAndGet()));
+        assertEquals("r1", cache.execute(USER_ID, EVENT_ID, "k1", "1,2", String.class, () -> "r" + calls.incrementAndGet()));
+        assertEquals(1, calls.get());
+
+        clock.advance(Duration.ofMinutes(6));
+        assertEquals("r2", cache.execute(USER_ID, EVENT_ID, "k1", "1,2", String.class, () -> "r" + calls.incrementAndGet()));
+    }
+
+    @Test
+    void execute_differentRequestKey_conflict() {
+        cache.execute(USER_ID, EVENT_ID, "k1", "1,2", String.class, () -> "r");
+
+        BusinessRuleViolationException ex = assertThrows(BusinessRuleViolationException.class,
+                () -> cache.execute(USER_ID, EVENT_ID, "k1", "3,4", String.class, () -> "x"));
+
+        assertEquals(ErrorCode.IDEMPOTENCY_CONFLICT, ex.getErrorCode());
+    }
+
+    @Test
+    void execute_completed_afterEventClosed_notReplayed() {
+        cache.execute(USER_ID, EVENT_ID, "k1", "1,2", String.class, () -> "r1");
+        doThrow(new BusinessRuleViolationException(ErrorCode.EVENT_NOT_ON_SALE))
+                .when(eventService).validateOnSale(EVENT_ID, clock.instant());
+
+        BusinessRuleViolationException ex = assertThrows(BusinessRuleViolationException.class,
+                () -> cache.execute(USER_ID, EVENT_ID, "k1", "1,2", String.class, () -> "r2"));
+
+        assertEquals(ErrorCode.EVENT_NOT_ON_SALE, ex.getErrorCode());
+    }
+
+    @Test
+    void execute_failure_notCached() {
+        assertThrows(BusinessRuleViolationException.class, () -> cache.execute(USER_ID, EVENT_ID, "k1", "1,2", String.class,
+                () -> {
+                    throw new BusinessRuleViolationException(ErrorCode.SEAT_NOT_AVAILABLE);
+                }));
+
+        assertEquals("ok", cache.execute(USER_ID, EVENT_ID, "k1", "1,2", String.class, () -> "ok"));
+    }
+
+    @Test
+    void execute_overMaxEntries_evictsLeastRecentlyUsed() {
+        cache.execute(USER_ID, EVENT_ID, "k1", "1", String.class, () -> "r1");
+        cache.execute(USER_ID, EVENT_ID, "k2", "2", String.class, () -> "r2");
+        cache.execute(USER_ID, EVENT_ID, "k3", "3", String.class, () -> "r3");
+
+        assertEquals(2, cache.size());
+        assertEquals("again", cache.execute(USER_ID, EVENT_ID, "k1", "1", String.class, () -> "again"));
+    }
+
+    @Test
+    void execute_concurrentDuplicates_coalesceOntoOneCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> cache.execute(USER_ID, EVENT_ID, "k1", "1,2", String.class, () -> {
+                calls.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "held";
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> cache.execute(USER_ID, EVENT_ID, "k1", "1,2", String.class, () -> {
+                calls.incrementAndGet();
+                return "duplicate";
+            }));
+
+            release.countDown();
+
+            assertEquals("held", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("held", follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
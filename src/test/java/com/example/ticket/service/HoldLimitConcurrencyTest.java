@@ -0,0 +1,178 @@
+package com.example.ticket.service;
+
+import com.example.ticket.api.ticket.dto.ConfirmDto.ConfirmRequest;
+import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateRequest;
+import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateResponse;
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.domain.event.Event;
+import com.example.ticket.domain.hold.HoldGroupSeat;
+import com.example.ticket.domain.payment.PaymentStatus;
+import com.example.ticket.domain.payment.PaymentTx;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.repository.EventRepository;
+import com.example.ticket.repository.HoldGroupRepository;
+import com.example.ticket.repository.HoldGroupSeatRepository;
+import com.example.ticket.repository.PaymentRepository;
+import com.example.ticket.repository.SeatRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HOLD 슬롯 카운터(user_event_hold_counter)를 실제 SQL로 확인한다(H2 MODE=MySQL).
+ * tryReserve 조건부 UPDATE, insertIfAbsent, releaseHoldGroups를 모두 탄다.
+ * 좌석 행 선점(insertAvailableSeats의 insert ignore … select)도 같은 DB에서 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hold-limit;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+class HoldLimitConcurrencyTest {
+
+    @Autowired HoldService holdService;
+    @Autowired ConfirmService confirmService;
+    @Autowired ExpireSweepService expireSweepService;
+    @Autowired EventRepository eventRepository;
+    @Autowired SeatRepository seatRepository;
+    @Autowired HoldGroupRepository holdGroupRepository;
+    @Autowired HoldGroupSeatRepository holdGroupSeatRepository;
+    @Autowired PaymentRepository paymentRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private int seatNo;
+
+    @Test
+    void sameUser_concurrentHoldsOverLimit_exactlyOneSucceeds() throws Exception {
+        long userId = 1L;
+        long eventId = openEvent();
+        List<Long> seatIds = seats(eventId, 6);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<HoldCreateResponse> succeeded = new ArrayList<>();
+        List<ErrorCode> failed = new ArrayList<>();
+        try {
+            List<Future<HoldCreateResponse>> results = List.of(
+                    callers.submit(() -> {
+                        start.await();
+                        return holdService.hold(userId, eventId, new HoldCreateRequest(seatIds.subList(0, 3)), "k1");
+                    }),
+                    callers.submit(() -> {
+                        start.await();
+                        return holdService.hold(userId, eventId, new HoldCreateRequest(seatIds.subList(3, 6)), "k2");
+                    })
+            );
+            start.countDown();
+            for (Future<HoldCreateResponse> result : results) {
+                try {
+                    succeeded.add(result.get(15, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    BusinessRuleViolationException cause =
+                            assertInstanceOf(BusinessRuleViolationException.class, e.getCause());
+                    failed.add(cause.getErrorCode());
+                }
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(1, succeeded.size());
+        assertEquals(List.of(ErrorCode.HOLD_LIMIT_EXCEEDED), failed);
+        assertEquals(3, heldCount(userId, eventId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from hold_groups where user_id = ? and event_id = ?", Integer.class, userId, eventId));
+    }
+
+    @Test
+    void confirm_givesSlotsBack() {
+        long userId = 2L;
+        long eventId = openEvent();
+        List<Long> seatIds = seats(eventId, 3);
+        HoldCreateResponse held = holdService.hold(userId, eventId, new HoldCreateRequest(seatIds), "k1");
+        assertEquals(3, heldCount(userId, eventId));
+
+        paymentRepository.save(PaymentTx.create("tx-confirm", userId, 300L, PaymentStatus.APPROVED, Instant.now()));
+        confirmService.confirm(userId, eventId, ConfirmRequest.create(held.holdToken(), "tx-confirm", "c1", 300L));
+
+        assertEquals(0, heldCount(userId, eventId));
+        // 반환된 슬롯으로 다시 limit까지 잡을 수 있다
+        holdService.hold(userId, eventId, new HoldCreateRequest(seats(eventId, 4)), "k2");
+        assertEquals(4, heldCount(userId, eventId));
+    }
+
+    @Test
+    void sweep_givesSlotsBackForExpiredHolds() {
+        long userId = 3L;
+        long eventId = openEvent();
+        HoldCreateResponse held = holdService.hold(userId, eventId, new HoldCreateRequest(seats(eventId, 2)), "k1");
+        assertEquals(2, heldCount(userId, eventId));
+
+        Timestamp past = Timestamp.from(Instant.now().minus(Duration.ofMinutes(1)));
+        jdbcTemplate.update("update hold_groups set expires_at = ? where hold_group_id = ?", past, held.holdToken());
+        jdbcTemplate.update("update hold_group_seats set expires_at = ? where hold_group_id = ?", past, held.holdToken());
+        expireSweepService.sweepExpired();
+
+        assertEquals(0, heldCount(userId, eventId));
+        assertTrue(holdGroupRepository.findById(held.holdToken()).isEmpty());
+    }
+
+    @Test
+    void insertAvailableSeats_skipsSoldAndAlreadyHeldSeats_returnsInsertedRowCount() {
+        long eventId = openEvent();
+        List<Long> seatIds = seats(eventId, 4);
+        long sold = seatIds.get(0);
+        long heldElsewhere = seatIds.get(1);
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+        jdbcTemplate.update("update seats set status = 'SOLD' where seat_id = ?", sold);
+        holdGroupSeatRepository.save(HoldGroupSeat.create(heldElsewhere, eventId, expiresAt, 999L, 100L));
+
+        int inserted = transactionTemplate.execute(status ->
+                holdGroupSeatRepository.insertAvailableSeats(eventId, seatIds, expiresAt, 1000L));
+
+        // SOLD는 select에서, 이미 잡힌 좌석은 insert ignore에서 빠진다 → 호출자는 inserted != seatIds.size()로 실패 판정
+        assertEquals(2, inserted);
+        assertEquals(seatIds.subList(2, 4), jdbcTemplate.queryForList(
+                "select seat_id from hold_group_seats where hold_group_id = ? order by seat_id", Long.class, 1000L));
+        assertEquals(List.of(999L), jdbcTemplate.queryForList(
+                "select hold_group_id from hold_group_seats where event_id = ? and seat_id = ?",
+                Long.class, eventId, heldElsewhere));
+    }
+
+    private long openEvent() {
+        Instant now = Instant.now();
+        Event event = Event.draft("hold limit", now.minus(Duration.ofHours(1)), now.plus(Duration.ofHours(1)));
+        event.open();
+        return eventRepository.save(event).getId();
+    }
+
+    private List<Long> seats(long eventId, int count) {
+        List<Long> seatIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            seatIds.add(seatRepository.save(Seat.create(eventId, "A", "A-" + (++seatNo), 100L)).getId());
+        }
+        return seatIds;
+    }
+
+    private int heldCount(long userId, long eventId) {
+        return jdbcTemplate.queryForObject(
+                "select coalesce(sum(held_count), 0) from user_event_hold_counter where user_id = ? and event_id = ?",
+                Integer.class, userId, eventId);
+    }
+}
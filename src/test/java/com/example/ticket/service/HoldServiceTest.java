@@ -1,9 +1,12 @@
 package com.example.ticket.service;
 
+import com.example.ticket.api.ticket.dto.HoldDto.BestAvailableHoldRequest;
+import com.example.ticket.api.ticket.dto.HoldDto.BestAvailableHoldResponse;
 import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateRequest;
 import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateResponse;
 import com.example.ticket.common.ErrorCode;
 import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.UnconfirmedHoldCacheProperties;
 import com.example.ticket.domain.event.Event;
 import com.example.ticket.domain.event.EventStatus;
 import com.example.ticket.domain.event.SeatStatus;
@@ -11,17 +14,19 @@ import com.example.ticket.domain.hold.HoldGroup;
 import com.example.ticket.domain.hold.HoldGroupSeat;
 import com.example.ticket.domain.hold.HoldTimes;
 import com.example.ticket.domain.idempotency.HoldIdempotency;
+import com.example.ticket.domain.idempotency.SeatIdsCodec;
+import com.example.ticket.inventory.HoldReservation;
+import com.example.ticket.inventory.SeatInventory;
 import com.example.ticket.repository.*;
-import org.hibernate.exception.ConstraintViolationException;
+import com.example.ticket.repository.dto.HoldGroupRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -36,22 +41,35 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class HoldServiceTest {
 
-    private static final String UK_HOLD_GROUP_SEATS = "uk_hold_group_seats_seat_id_event_id";
-    private static final String UK_HOLD_IDEMPOTENCY = "uk_hold_idempotency_user_event_key";
-
     @Mock
     HoldIdempotencyRepository holdIdempotencyRepository;
     @Mock
-    HoldGroupRepository holdGroupRepository;
+    HoldGroupWriter holdGroupWriter;
     @Mock
     HoldGroupSeatRepository holdGroupSeatRepository;
     @Mock
     SeatRepository seatRepository;
     @Mock
     EventRepository eventRepository;
+    @Mock
+    SeatInventory seatInventory;
+    @Mock
+    UserEventHoldCounterRepository holdCounterRepository;
+    @Mock
+    HoldExpiryTimer holdExpiryTimer;
+    @Mock
+    PooledIdAllocator pooledIdAllocator;
+    @Mock
+    ExpireSweepService expireSweepService;
+    @Mock
+    HoldGroupCommitter holdGroupCommitter;
+    @Mock
+    TransactionTemplate transactionTemplate;
 
     private HoldService holdService;
     private Clock clock;
+    private final UnconfirmedHoldCache unconfirmedHoldCache =
+            new UnconfirmedHoldCache(new UnconfirmedHoldCacheProperties(true, 100));
 
     @BeforeEach
     void setUp() {
@@ -59,10 +77,17 @@ class HoldServiceTest {
         holdService = new HoldService(
                 clock,
                 holdIdempotencyRepository,
-                holdGroupRepository,
-                holdGroupSeatRepository,
-                seatRepository,
-                eventRepository
+                holdGroupWriter,
+                new GroupSeatHoldStore(holdGroupSeatRepository, seatRepository, holdGroupWriter),
+                new EventService(eventRepository),
+                seatInventory,
+                holdCounterRepository,
+                holdExpiryTimer,
+                pooledIdAllocator,
+                unconfirmedHoldCache,
+                new HoldSlotReserver(holdCounterRepository, expireSweepService),
+                holdGroupCommitter,
+                transactionTemplate
         );
     }
 
@@ -74,6 +99,25 @@ class HoldServiceTest {
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
     }
 
+    private void stubSlotsReserved(long userId, long eventId, int seatCount) {
+        when(holdCounterRepository.tryReserve(eq(userId), eq(eventId), eq(seatCount), eq(4), any()))
+                .thenReturn(1);
+    }
+
+    private void stubReserved(long eventId, List<Long> seatIds) {
+        when(seatInventory.tryHold(eq(eventId), eq(seatIds), any(), any()))
+                .thenReturn(Optional.of(HoldReservation.pending(eventId, seatIds, HoldTimes.holdUntil(clock))));
+    }
+
+    private void stubHoldGroupId(long holdGroupId) {
+        when(pooledIdAllocator.next(any())).thenAnswer(inv -> inv.getArgument(0) == HoldGroup.class ? holdGroupId : 1L);
+    }
+
+    private void stubIdempotencyInserted(HoldIdempotency inserted) {
+        when(holdIdempotencyRepository.insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any(), any())).thenReturn(1);
+        when(holdIdempotencyRepository.findById(anyLong())).thenReturn(Optional.of(inserted));
+    }
+
     private void stubEventNotOnSale(long eventId, Instant now) {
         Event event = mock(Event.class);
         when(event.getStatus()).thenReturn(EventStatus.CLOSED);
@@ -94,7 +138,7 @@ class HoldServiceTest {
 
         HoldIdempotency existing = HoldIdempotency.create(
                 userId, key, eventId, seatIdsKey,
-                999L, HoldTimes.holdUntil(clock), 2
+                999L, HoldTimes.holdUntil(clock), List.of(1L, 3L)
         );
 
         when(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, key))
@@ -105,10 +149,10 @@ class HoldServiceTest {
         assertEquals(eventId, res.eventId());
         assertEquals(2, res.seatCount());
 
-        verify(holdGroupRepository, never()).save(any());
+        verify(holdGroupWriter, never()).insert(any());
         verify(holdGroupSeatRepository, never()).saveAll(any());
-        verify(seatRepository, never()).countByEventIdAndIdInAndStatus(anyLong(), anyList(), any());
-        verify(holdIdempotencyRepository, never()).save(any());
+        verify(holdGroupSeatRepository, never()).insertAvailableSeats(anyLong(), anyList(), any(), anyLong());
+        verify(holdIdempotencyRepository, never()).findById(anyLong());
         verify(holdIdempotencyRepository, never()).deleteStaleInProgress(anyLong(), anyLong(), anyString(), any());
     }
 
@@ -124,7 +168,7 @@ class HoldServiceTest {
         HoldCreateRequest req = new HoldCreateRequest(List.of(2L));
         HoldIdempotency existing = HoldIdempotency.create(
                 userId, key, eventId, "1,3",
-                999L, HoldTimes.holdUntil(clock), 2
+                999L, HoldTimes.holdUntil(clock), List.of(1L, 3L)
         );
 
         when(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, key))
@@ -136,10 +180,10 @@ class HoldServiceTest {
         );
         assertEquals(ErrorCode.IDEMPOTENCY_CONFLICT, ex.getErrorCode());
 
-        verify(holdGroupRepository, never()).save(any());
+        verify(holdGroupWriter, never()).insert(any());
         verify(holdGroupSeatRepository, never()).saveAll(any());
-        verify(seatRepository, never()).countByEventIdAndIdInAndStatus(anyLong(), anyList(), any());
-        verify(holdIdempotencyRepository, never()).save(any());
+        verify(holdGroupSeatRepository, never()).insertAvailableSeats(anyLong(), anyList(), any(), anyLong());
+        verify(holdIdempotencyRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -159,14 +203,14 @@ class HoldServiceTest {
         assertEquals(ErrorCode.INVALID_SEAT_SET, ex.getErrorCode());
 
         verify(holdIdempotencyRepository, never()).findByUserIdAndEventIdAndIdempotencyKey(anyLong(), anyLong(), anyString());
-        verify(holdIdempotencyRepository, never()).save(any());
-        verify(holdGroupRepository, never()).save(any());
+        verify(holdIdempotencyRepository, never()).insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any(), any());
+        verify(holdGroupWriter, never()).insert(any());
         verify(holdGroupSeatRepository, never()).saveAll(any());
-        verify(seatRepository, never()).countByEventIdAndIdInAndStatus(anyLong(), anyList(), any());
+        verify(holdGroupSeatRepository, never()).insertAvailableSeats(anyLong(), anyList(), any(), anyLong());
     }
 
     @Test
-    void hold_whenSeatNotAvailable_byCountCheck_throwsSeatNotAvailable_andDoesNotCompleteIdempotency() {
+    void hold_whenSeatNotAvailable_byInsertCount_throwsSeatNotAvailable_andDoesNotCompleteIdempotency() {
         long userId = 1L;
         long eventId = 10L;
         String key = "k1";
@@ -175,21 +219,18 @@ class HoldServiceTest {
         stubEventOnSale(eventId, now);
 
         HoldCreateRequest req = new HoldCreateRequest(List.of(1L, 2L));
-        when(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, key))
-                .thenReturn(Optional.empty());
-
-        when(holdGroupRepository.findActiveIds(eq(userId), eq(eventId), any()))
-                .thenReturn(List.of());
 
         HoldIdempotency savedIdem =
                 HoldIdempotency.create(userId, key, eventId, "1,2", HoldTimes.holdUntil(clock));
-        when(holdIdempotencyRepository.save(any(HoldIdempotency.class))).thenReturn(savedIdem);
+        stubIdempotencyInserted(savedIdem);
 
-        HoldGroup hg = mock(HoldGroup.class);
-        when(holdGroupRepository.save(any(HoldGroup.class))).thenReturn(hg);
+        stubSlotsReserved(userId, eventId, 2);
+        stubReserved(eventId, List.of(1L, 2L));
 
-        when(seatRepository.countByEventIdAndIdInAndStatus(eq(eventId), anyList(), eq(SeatStatus.AVAILABLE)))
-                .thenReturn(1L);
+        stubHoldGroupId(100L);
+
+        when(holdGroupSeatRepository.insertAvailableSeats(eq(eventId), anyList(), any(), eq(100L)))
+                .thenReturn(1);
 
         BusinessRuleViolationException ex = assertThrows(
                 BusinessRuleViolationException.class,
@@ -197,18 +238,16 @@ class HoldServiceTest {
         );
         assertEquals(ErrorCode.SEAT_NOT_AVAILABLE, ex.getErrorCode());
 
-        verify(holdIdempotencyRepository, times(1)).save(any(HoldIdempotency.class));
-
-        verify(holdGroupSeatRepository, never()).saveAll(any());
+        verify(holdIdempotencyRepository, times(1)).insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any(), any());
 
-        verify(holdGroupRepository, times(1)).save(any(HoldGroup.class));
-        verify(seatRepository, times(1))
-                .countByEventIdAndIdInAndStatus(eq(eventId), anyList(), eq(SeatStatus.AVAILABLE));
+        verify(holdGroupWriter, never()).insert(any());
+        verify(holdGroupSeatRepository, times(1))
+                .insertAvailableSeats(eq(eventId), anyList(), any(), eq(100L));
     }
 
 
     @Test
-    void hold_whenSeatAlreadyHeld_byUniqueConstraint_throwsSeatNotAvailable_andDoesNotCompleteIdempotency() {
+    void hold_whenSeatAlreadyHeld_insertIgnored_throwsSeatNotAvailable_andDoesNotCompleteIdempotency() {
         long userId = 1L;
         long eventId = 10L;
         String key = "k1";
@@ -217,21 +256,17 @@ class HoldServiceTest {
         stubEventOnSale(eventId, now);
 
         HoldCreateRequest req = new HoldCreateRequest(List.of(1L, 2L));
-        when(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, key))
-                .thenReturn(Optional.empty());
 
         HoldIdempotency savedIdem = HoldIdempotency.create(userId, key, eventId, "1,2", HoldTimes.holdUntil(clock));
-        when(holdIdempotencyRepository.save(any(HoldIdempotency.class))).thenReturn(savedIdem);
+        stubIdempotencyInserted(savedIdem);
 
-        HoldGroup hg = mock(HoldGroup.class);
-        when(hg.getId()).thenReturn(100L);
-        when(holdGroupRepository.save(any(HoldGroup.class))).thenReturn(hg);
+        stubSlotsReserved(userId, eventId, 2);
+        stubReserved(eventId, List.of(1L, 2L));
 
-        when(seatRepository.countByEventIdAndIdInAndStatus(eq(eventId), anyList(), eq(SeatStatus.AVAILABLE)))
-                .thenReturn(2L);
+        stubHoldGroupId(100L);
 
-        when(holdGroupSeatRepository.saveAll(anyList()))
-                .thenThrow(dataIntegrity(UK_HOLD_GROUP_SEATS));
+        when(holdGroupSeatRepository.insertAvailableSeats(eq(eventId), anyList(), any(), eq(100L)))
+                .thenReturn(0);
 
         BusinessRuleViolationException ex = assertThrows(
                 BusinessRuleViolationException.class,
@@ -239,8 +274,57 @@ class HoldServiceTest {
         );
         assertEquals(ErrorCode.SEAT_NOT_AVAILABLE, ex.getErrorCode());
 
-        verify(holdIdempotencyRepository, times(1)).save(any(HoldIdempotency.class));
-        verify(holdIdempotencyRepository, times(1)).save(any(HoldIdempotency.class));
+        verify(holdIdempotencyRepository, times(1)).insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any(), any());
+        verify(holdIdempotencyRepository, never()).save(any(HoldIdempotency.class));
+    }
+
+    @Test
+    void holdBestAvailable_success_holdsSeatsChosenInMemory() {
+        long userId = 1L;
+        long eventId = 10L;
+        String key = "k1";
+
+        Instant now = HoldTimes.now(clock);
+        Instant expectedExpiresAt = HoldTimes.holdUntil(clock);
+        stubEventOnSale(eventId, now);
+
+        HoldIdempotency firstSaved = HoldIdempotency.create(userId, key, eventId, "best:A:2", expectedExpiresAt);
+        stubIdempotencyInserted(firstSaved);
+
+        stubSlotsReserved(userId, eventId, 2);
+        when(seatInventory.tryHoldBestAvailable(eventId, "A", 2, expectedExpiresAt, now))
+                .thenReturn(Optional.of(HoldReservation.pending(eventId, List.of(7L, 8L), expectedExpiresAt)));
+
+        stubHoldGroupId(100L);
+        when(holdGroupSeatRepository.insertAvailableSeats(eventId, List.of(7L, 8L), expectedExpiresAt, 100L))
+                .thenReturn(2);
+
+        BestAvailableHoldResponse res = holdService.holdBestAvailable(userId, eventId, new BestAvailableHoldRequest("A", 2), key);
+
+        assertEquals(List.of(7L, 8L), res.seatIds());
+        assertEquals(100L, res.holdToken());
+        assertEquals(2, firstSaved.getSeatCount());
+        verify(seatInventory, never()).tryHold(anyLong(), anyList(), any(), any());
+        verify(holdExpiryTimer).scheduleOnCommit(any(HoldReservation.class));
+    }
+
+    @Test
+    void holdBestAvailable_whenNoAdjacentSeats_throwsSeatNotAvailable_withoutDbWrite() {
+        long userId = 1L;
+        long eventId = 10L;
+        String key = "k1";
+
+        Instant now = HoldTimes.now(clock);
+        stubEventOnSale(eventId, now);
+        stubIdempotencyInserted(HoldIdempotency.create(userId, key, eventId, "best:A:4", HoldTimes.holdUntil(clock)));
+        stubSlotsReserved(userId, eventId, 4);
+        when(seatInventory.tryHoldBestAvailable(eq(eventId), eq("A"), eq(4), any(), any())).thenReturn(Optional.empty());
+
+        BusinessRuleViolationException ex = assertThrows(BusinessRuleViolationException.class,
+                () -> holdService.holdBestAvailable(userId, eventId, new BestAvailableHoldRequest("A", 4), key));
+
+        assertEquals(ErrorCode.SEAT_NOT_AVAILABLE, ex.getErrorCode());
+        verify(holdGroupWriter, never()).insert(any());
     }
 
     @Test
@@ -253,23 +337,21 @@ class HoldServiceTest {
         stubEventOnSale(eventId, now);
 
         HoldCreateRequest req = new HoldCreateRequest(List.of(3L, 1L, 3L));
-        when(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, key))
-                .thenReturn(Optional.empty());
 
         HoldIdempotency firstSaved = HoldIdempotency.create(userId, key, eventId, "1,3", HoldTimes.holdUntil(clock));
-        when(holdIdempotencyRepository.save(any(HoldIdempotency.class))).thenReturn(firstSaved);
+        stubIdempotencyInserted(firstSaved);
 
-        HoldGroup hg = mock(HoldGroup.class);
-        when(hg.getId()).thenReturn(100L);
-        when(holdGroupRepository.save(any(HoldGroup.class))).thenReturn(hg);
+        stubSlotsReserved(userId, eventId, 2);
+        stubReserved(eventId, List.of(1L, 3L));
 
-        Instant expectedExpiresAt = HoldTimes.holdUntil(clock);
+        stubHoldGroupId(100L);
 
-        when(seatRepository.countByEventIdAndIdInAndStatus(eq(eventId), anyList(), eq(SeatStatus.AVAILABLE)))
-                .thenReturn(2L);
+        Instant expectedExpiresAt = HoldTimes.holdUntil(clock);
 
-        when(holdGroupSeatRepository.saveAll(anyList()))
-                .thenAnswer(inv -> inv.getArgument(0));
+        when(holdGroupSeatRepository.insertAvailableSeats(eventId, List.of(1L, 3L), expectedExpiresAt, 100L))
+                .thenReturn(2);
+        // 합계는 방금 기록한 행의 가격으로 낸다
+        when(holdGroupSeatRepository.sumValidPrices(100L, eventId, now)).thenReturn(1200L);
 
         when(holdIdempotencyRepository.save(firstSaved)).thenReturn(firstSaved);
 
@@ -278,31 +360,151 @@ class HoldServiceTest {
         assertEquals(eventId, res.eventId());
         assertEquals(2, res.seatCount());
 
-        verify(holdGroupSeatRepository, times(1)).saveAll(argThat(iterable -> {
-            List<HoldGroupSeat> list = StreamSupport.stream(iterable.spliterator(), false).toList();
-
-            assertEquals(2, list.size());
-            assertEquals(1L, list.get(0).getSeatId());
-            assertEquals(3L, list.get(1).getSeatId());
-
-            assertEquals(eventId, list.get(0).getEventId());
-            assertEquals(100L, list.get(0).getHoldGroupId());
-            assertEquals(expectedExpiresAt, list.get(0).getExpiresAt());
-
-            return true;
-        }));
+        verify(holdGroupSeatRepository, times(1))
+                .insertAvailableSeats(eventId, List.of(1L, 3L), expectedExpiresAt, 100L);
+        verify(holdGroupSeatRepository, never()).saveAll(any());
 
-        verify(holdIdempotencyRepository, times(2)).save(any(HoldIdempotency.class));
+        verify(holdIdempotencyRepository, times(1)).insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any(), any());
+        verify(holdIdempotencyRepository, times(1)).save(firstSaved);
+        verify(holdGroupWriter).insert(new HoldGroupRow(100L, userId, eventId, expectedExpiresAt, 2, 1200L, now));
+        verify(holdExpiryTimer).scheduleOnCommit(any(HoldReservation.class));
+        assertTrue(unconfirmedHoldCache.contains(100L, now));
 
         assertNotNull(firstSaved.getHoldGroupId());
         assertNotNull(firstSaved.getSeatCount());
+        assertEquals(List.of(1L, 3L), firstSaved.decodeHeldSeatIds());
         assertEquals(100L, firstSaved.getHoldGroupId());
         assertEquals(2, firstSaved.getSeatCount());
         assertEquals(expectedExpiresAt, firstSaved.getExpiresAt());
     }
 
     @Test
-    void createHoldIdempotency_whenDuplicateKey_returnsExisting_ifCompleted_andSameSeatIdsKey() {
+    void hold_whenFirstSetLostInMemory_holdsFirstAvailableAlternative() {
+        long userId = 1L;
+        long eventId = 10L;
+        String key = "k1";
+
+        Instant now = HoldTimes.now(clock);
+        Instant expectedExpiresAt = HoldTimes.holdUntil(clock);
+        stubEventOnSale(eventId, now);
+
+        HoldCreateRequest req = new HoldCreateRequest(List.of(2L, 1L), List.of(List.of(5L, 6L), List.of(8L, 9L)));
+        String candidatesKey = SeatIdsCodec.toCandidatesKey(List.of(List.of(1L, 2L), List.of(5L, 6L), List.of(8L, 9L)));
+        HoldIdempotency savedIdem = HoldIdempotency.create(userId, key, eventId, candidatesKey, expectedExpiresAt);
+        stubIdempotencyInserted(savedIdem);
+
+        stubSlotsReserved(userId, eventId, 2);
+        when(seatInventory.tryHold(eq(eventId), eq(List.of(1L, 2L)), any(), eq(now))).thenReturn(Optional.empty());
+        stubReserved(eventId, List.of(5L, 6L));
+
+        stubHoldGroupId(100L);
+        when(holdGroupSeatRepository.insertAvailableSeats(eventId, List.of(5L, 6L), expectedExpiresAt, 100L))
+                .thenReturn(2);
+
+        HoldCreateResponse res = holdService.hold(userId, eventId, req, key);
+
+        assertEquals(List.of(5L, 6L), res.seatIds());
+        assertEquals(2, res.seatCount());
+        assertTrue(candidatesKey.startsWith("alt:"));
+        verify(seatInventory, never()).tryHold(eq(eventId), eq(List.of(8L, 9L)), any(), any());
+    }
+
+    @Test
+    void hold_replayWithAlternatives_afterHoldExpired_returnsStoredSeatSet() {
+        long userId = 1L;
+        long eventId = 10L;
+        String key = "k1";
+
+        Instant now = HoldTimes.now(clock);
+        stubEventOnSale(eventId, now);
+
+        HoldCreateRequest req = new HoldCreateRequest(List.of(1L, 2L), List.of(List.of(5L, 6L)));
+        String candidatesKey = SeatIdsCodec.toCandidatesKey(List.of(List.of(1L, 2L), List.of(5L, 6L)));
+        // 두 번째 묶음으로 잡혔고, HOLD 행은 이미 만료/confirm으로 사라진 상태
+        HoldIdempotency completed = HoldIdempotency.create(
+                userId, key, eventId, candidatesKey, 100L, HoldTimes.holdUntil(clock), List.of(5L, 6L));
+        when(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, key))
+                .thenReturn(Optional.of(completed));
+
+        HoldCreateResponse res = holdService.hold(userId, eventId, req, key);
+
+        assertEquals(List.of(5L, 6L), res.seatIds());
+        assertEquals(2, res.seatCount());
+        verify(holdGroupSeatRepository, never()).findValidSeatIds(anyLong(), anyLong(), any());
+        verify(seatInventory, never()).tryHold(anyLong(), anyList(), any(), any());
+    }
+
+    @Test
+    void holdBestAvailable_replay_afterHoldExpired_returnsStoredSeatSet() {
+        long userId = 1L;
+        long eventId = 10L;
+        String key = "k1";
+
+        Instant now = HoldTimes.now(clock);
+        stubEventOnSale(eventId, now);
+
+        HoldIdempotency completed = HoldIdempotency.create(
+                userId, key, eventId, "best:A:2", 100L, HoldTimes.holdUntil(clock), List.of(7L, 8L));
+        when(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, key))
+                .thenReturn(Optional.of(completed));
+
+        BestAvailableHoldResponse res = holdService.holdBestAvailable(userId, eventId, new BestAvailableHoldRequest("A", 2), key);
+
+        assertEquals(List.of(7L, 8L), res.seatIds());
+        assertEquals(100L, res.holdToken());
+        verify(holdGroupSeatRepository, never()).findValidSeatIds(anyLong(), anyLong(), any());
+        verify(seatInventory, never()).tryHoldBestAvailable(anyLong(), anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void hold_whenAlternativeSeatCountDiffers_throwsInvalidSeatSet() {
+        long userId = 1L;
+        long eventId = 10L;
+
+        Instant now = HoldTimes.now(clock);
+        stubEventOnSale(eventId, now);
+
+        HoldCreateRequest req = new HoldCreateRequest(List.of(1L, 2L), List.of(List.of(5L)));
+
+        BusinessRuleViolationException ex = assertThrows(
+                BusinessRuleViolationException.class,
+                () -> holdService.hold(userId, eventId, req, "k1")
+        );
+        assertEquals(ErrorCode.INVALID_SEAT_SET, ex.getErrorCode());
+        verify(holdIdempotencyRepository, never()).insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void hold_whenSeatLostInMemory_throwsSeatNotAvailable_withoutSeatWrites() {
+        long userId = 1L;
+        long eventId = 10L;
+        String key = "k1";
+
+        Instant now = HoldTimes.now(clock);
+        stubEventOnSale(eventId, now);
+
+        HoldCreateRequest req = new HoldCreateRequest(List.of(1L, 2L));
+
+        HoldIdempotency savedIdem = HoldIdempotency.create(userId, key, eventId, "1,2", HoldTimes.holdUntil(clock));
+        stubIdempotencyInserted(savedIdem);
+
+        stubSlotsReserved(userId, eventId, 2);
+        when(seatInventory.tryHold(eq(eventId), eq(List.of(1L, 2L)), any(), eq(now)))
+                .thenReturn(Optional.empty());
+
+        BusinessRuleViolationException ex = assertThrows(
+                BusinessRuleViolationException.class,
+                () -> holdService.hold(userId, eventId, req, key)
+        );
+        assertEquals(ErrorCode.SEAT_NOT_AVAILABLE, ex.getErrorCode());
+
+        verify(holdGroupWriter, never()).insert(any());
+        verify(holdGroupSeatRepository, never()).insertAvailableSeats(anyLong(), anyList(), any(), anyLong());
+        verify(holdGroupSeatRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void resolveOrCreateIdempotency_whenInsertIgnored_returnsExisting_ifCompleted_andSameSeatIdsKey() {
         long userId = 1L;
         long eventId = 10L;
         String key = "k1";
@@ -313,24 +515,24 @@ class HoldServiceTest {
 
         HoldIdempotency existing = HoldIdempotency.create(
                 userId, key, eventId, seatIdsKey,
-                100L, expiresAt, 2
+                100L, expiresAt, List.of(1L, 3L)
         );
 
-        when(holdIdempotencyRepository.save(any(HoldIdempotency.class)))
-                .thenThrow(dataIntegrity(UK_HOLD_IDEMPOTENCY));
+        when(holdIdempotencyRepository.insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any(), any())).thenReturn(0);
 
         when(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, key))
                 .thenReturn(Optional.of(existing));
 
-        HoldIdempotency result = holdService.createHoldIdempotency(
-                userId, eventId, key, seatIdsKey, expiresAt, now
+        HoldIdempotency result = holdService.resolveOrCreateIdempotency(
+                userId, eventId, key, seatIdsKey, now, expiresAt
         );
 
         assertSame(existing, result);
+        verify(holdIdempotencyRepository, never()).findById(anyLong());
     }
 
     @Test
-    void createHoldIdempotency_whenDuplicateKey_butSeatIdsKeyDifferent_throwsIdempotencyConflict() {
+    void resolveOrCreateIdempotency_whenInsertIgnored_butSeatIdsKeyDifferent_throwsIdempotencyConflict() {
         long userId = 1L;
         long eventId = 10L;
         String key = "k1";
@@ -340,19 +542,18 @@ class HoldServiceTest {
 
         HoldIdempotency existing = HoldIdempotency.create(
                 userId, key, eventId, "1,3",
-                100L, expiresAt, 2
+                100L, expiresAt, List.of(1L, 3L)
         );
 
-        when(holdIdempotencyRepository.save(any(HoldIdempotency.class)))
-                .thenThrow(dataIntegrity(UK_HOLD_IDEMPOTENCY));
+        when(holdIdempotencyRepository.insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any(), any())).thenReturn(0);
 
         when(holdIdempotencyRepository.findByUserIdAndEventIdAndIdempotencyKey(userId, eventId, key))
                 .thenReturn(Optional.of(existing));
 
         BusinessRuleViolationException ex = assertThrows(
                 BusinessRuleViolationException.class,
-                () -> holdService.createHoldIdempotency(
-                        userId, eventId, key, "2", expiresAt, now
+                () -> holdService.resolveOrCreateIdempotency(
+                        userId, eventId, key, "2", now, expiresAt
                 )
         );
         assertEquals(ErrorCode.IDEMPOTENCY_CONFLICT, ex.getErrorCode());
@@ -400,7 +601,8 @@ class HoldServiceTest {
                 .thenReturn(1);
 
         HoldIdempotency newlySaved = HoldIdempotency.create(userId, key, eventId, seatIdsKey, newExpiresAt);
-        when(holdIdempotencyRepository.save(any(HoldIdempotency.class))).thenReturn(newlySaved);
+        when(holdIdempotencyRepository.insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), anyString(), any(), any())).thenReturn(0, 1);
+        when(holdIdempotencyRepository.findById(anyLong())).thenReturn(Optional.of(newlySaved));
 
         HoldIdempotency result = holdService.resolveOrCreateIdempotency(userId, eventId, key, seatIdsKey, now, newExpiresAt);
         assertSame(newlySaved, result);
@@ -420,43 +622,64 @@ class HoldServiceTest {
     }
 
     @Test
-    void checkHoldSeatsCount_whenHoldSeatsCountPlusRequestSeatIdsCountOverFour() {
-        List<Long> holdGroupIds = new ArrayList<>();
-        holdGroupIds.add(1L);
-        holdGroupIds.add(2L);
-        holdGroupIds.add(3L);
+    void reserveHoldSlots_whenCounterRejects_afterRowEnsured_throwsHoldLimitExceeded() {
         long userId = 1L;
         long eventId = 1L;
         Instant now = HoldTimes.now(clock);
 
-        when(holdGroupRepository.findActiveIds(userId, eventId, now)).thenReturn(holdGroupIds);
-        when(holdGroupSeatRepository.countByEventIdAndHoldGroupIdInAndExpiresAtAfter(userId, holdGroupIds, now)).thenReturn(3L);
+        when(holdCounterRepository.tryReserve(userId, eventId, 2, 4, now)).thenReturn(0);
+        when(holdCounterRepository.insertIfAbsent(userId, eventId, now)).thenReturn(0);
+        when(expireSweepService.expireUserHoldGroups(userId, eventId, now)).thenReturn(0);
 
         BusinessRuleViolationException ex = assertThrows(
                 BusinessRuleViolationException.class,
-                () -> holdService.checkHoldSeatsCount(userId, eventId, now,2L)
+                () -> holdService.reserveHoldSlots(userId, eventId, now, 2)
         );
         assertEquals(ErrorCode.HOLD_LIMIT_EXCEEDED, ex.getErrorCode());
+        verify(holdCounterRepository, times(2)).tryReserve(userId, eventId, 2, 4, now);
+    }
+
+    @Test
+    void reserveHoldSlots_whenExpiredHoldNotSweptYet_releasesItInline_andReserves() {
+        long userId = 1L;
+        long eventId = 1L;
+        Instant now = HoldTimes.now(clock);
+
+        // 만료된 HOLD가 아직 카운터를 잡고 있음 → 그 자리에서 정리(카운터 반환) 후 재시도
+        when(holdCounterRepository.tryReserve(userId, eventId, 2, 4, now)).thenReturn(0, 0, 1);
+        when(holdCounterRepository.insertIfAbsent(userId, eventId, now)).thenReturn(0);
+        when(expireSweepService.expireUserHoldGroups(userId, eventId, now)).thenReturn(1);
+
+        assertDoesNotThrow(() -> holdService.reserveHoldSlots(userId, eventId, now, 2));
+        verify(holdCounterRepository, times(3)).tryReserve(userId, eventId, 2, 4, now);
     }
+
     @Test
-    void checkHoldSeatsCount_whenRequestSeatIdsCountOverFour() {
+    void reserveHoldSlots_whenFirstHoldOfUser_createsCounterRow_andReserves() {
         long userId = 1L;
         long eventId = 1L;
         Instant now = HoldTimes.now(clock);
 
-        when(holdGroupRepository.findActiveIds(userId, eventId, now)).thenReturn(new ArrayList<>());
+        when(holdCounterRepository.tryReserve(userId, eventId, 3, 4, now)).thenReturn(0, 1);
+        when(holdCounterRepository.insertIfAbsent(userId, eventId, now)).thenReturn(1);
+
+        assertDoesNotThrow(() -> holdService.reserveHoldSlots(userId, eventId, now, 3));
+        verify(holdCounterRepository, times(2)).tryReserve(userId, eventId, 3, 4, now);
+    }
+
+    @Test
+    void reserveHoldSlots_whenRequestSeatIdsCountOverFour() {
+        long userId = 1L;
+        long eventId = 1L;
+        Instant now = HoldTimes.now(clock);
 
         BusinessRuleViolationException ex = assertThrows(
                 BusinessRuleViolationException.class,
-                () -> holdService.checkHoldSeatsCount(userId, eventId, now,5L)
+                () -> holdService.reserveHoldSlots(userId, eventId, now, 5)
         );
         assertEquals(ErrorCode.HOLD_LIMIT_EXCEEDED, ex.getErrorCode());
+        verifyNoInteractions(holdCounterRepository);
     }
 
 
-    private static DataIntegrityViolationException dataIntegrity(String constraintName) {
-        ConstraintViolationException cve =
-                new ConstraintViolationException("constraint violated", new SQLException("dup"), constraintName);
-        return new DataIntegrityViolationException("DIE", cve);
-    }
 }
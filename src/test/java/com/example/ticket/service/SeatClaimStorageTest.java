@@ -0,0 +1,118 @@
+package com.example.ticket.service;
+
+import com.example.ticket.api.ticket.dto.ConfirmDto.ConfirmRequest;
+import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateRequest;
+import com.example.ticket.api.ticket.dto.HoldDto.HoldCreateResponse;
+import com.example.ticket.domain.event.Event;
+import com.example.ticket.domain.payment.PaymentStatus;
+import com.example.ticket.domain.payment.PaymentTx;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.repository.EventRepository;
+import com.example.ticket.repository.HoldSeatStore;
+import com.example.ticket.repository.PaymentRepository;
+import com.example.ticket.repository.SeatClaimHoldStore;
+import com.example.ticket.repository.SeatRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ticket.hold.storage=seat-claim: HOLD가 seats 행의 claim(held_by_group_id, held_until)으로 기록되는지 실제 SQL로 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seat-claim;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "ticket.hold.storage=seat-claim"
+})
+class SeatClaimStorageTest {
+
+    @Autowired HoldService holdService;
+    @Autowired ConfirmService confirmService;
+    @Autowired HoldSeatStore holdSeatStore;
+    @Autowired EventRepository eventRepository;
+    @Autowired SeatRepository seatRepository;
+    @Autowired PaymentRepository paymentRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void hold_claimsSeatRows() {
+        long eventId = openEvent();
+        long seatId = seat(eventId, "A-1");
+
+        HoldCreateResponse held = holdService.hold(1L, eventId, new HoldCreateRequest(List.of(seatId)), "k1");
+
+        assertInstanceOf(SeatClaimHoldStore.class, holdSeatStore);
+        Map<String, Object> row = seatRow(seatId);
+        assertEquals("AVAILABLE", row.get("status"));
+        assertEquals(held.holdToken(), ((Number) row.get("held_by_group_id")).longValue());
+        assertNotNull(row.get("held_until"));
+    }
+
+    @Test
+    void secondClaim_losesOnLiveClaim_winsOnExpiredClaim() {
+        long eventId = openEvent();
+        long seatId = seat(eventId, "A-1");
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(Duration.ofMinutes(5));
+
+        assertEquals(1, claim(eventId, seatId, 100L, expiresAt, now));
+        // 메모리 인벤토리를 거치지 않는 다른 노드의 HOLD: 살아 있는 claim에는 진다
+        assertEquals(0, claim(eventId, seatId, 200L, expiresAt, now));
+        assertEquals(100L, ((Number) seatRow(seatId).get("held_by_group_id")).longValue());
+
+        jdbcTemplate.update("update seats set held_until = ? where seat_id = ?",
+                Timestamp.from(now.minus(Duration.ofMinutes(1))), seatId);
+
+        assertEquals(1, claim(eventId, seatId, 200L, expiresAt, now));
+        assertEquals(200L, ((Number) seatRow(seatId).get("held_by_group_id")).longValue());
+    }
+
+    @Test
+    void confirm_flipsClaimedSeatsSold_andClearsClaim() {
+        long eventId = openEvent();
+        long seatA = seat(eventId, "A-1");
+        long seatB = seat(eventId, "A-2");
+        HoldCreateResponse held = holdService.hold(2L, eventId, new HoldCreateRequest(List.of(seatA, seatB)), "k1");
+
+        paymentRepository.save(PaymentTx.create("tx-seat-claim", 2L, 200L, PaymentStatus.APPROVED, Instant.now()));
+        confirmService.confirm(2L, eventId, ConfirmRequest.create(held.holdToken(), "tx-seat-claim", "c1", 200L));
+
+        for (long seatId : List.of(seatA, seatB)) {
+            Map<String, Object> row = seatRow(seatId);
+            assertEquals("SOLD", row.get("status"));
+            assertNull(row.get("held_by_group_id"));
+            assertNull(row.get("held_until"));
+        }
+    }
+
+    private int claim(long eventId, long seatId, long holdGroupId, Instant expiresAt, Instant now) {
+        return transactionTemplate.execute(status ->
+                holdSeatStore.hold(eventId, List.of(seatId), holdGroupId, expiresAt, now));
+    }
+
+    private long openEvent() {
+        Instant now = Instant.now();
+        Event event = Event.draft("seat claim", now.minus(Duration.ofHours(1)), now.plus(Duration.ofHours(1)));
+        event.open();
+        return eventRepository.save(event).getId();
+    }
+
+    private long seat(long eventId, String seatNo) {
+        return seatRepository.save(Seat.create(eventId, "A", seatNo, 100L)).getId();
+    }
+
+    private Map<String, Object> seatRow(long seatId) {
+        return jdbcTemplate.queryForMap(
+                "select status, held_by_group_id, held_until from seats where seat_id = ?", seatId);
+    }
+}
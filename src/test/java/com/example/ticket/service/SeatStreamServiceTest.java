@@ -0,0 +1,90 @@
+package com.example.ticket.service;
+
+import com.example.ticket.common.ErrorCode;
+import com.example.ticket.common.exception.BusinessRuleViolationException;
+import com.example.ticket.config.SeatStreamProperties;
+import com.example.ticket.domain.event.SeatStatus;
+import com.example.ticket.inventory.SeatInventory;
+import com.example.ticket.inventory.SeatMapDelta;
+import com.example.ticket.inventory.SeatMapDelta.SeatChange;
+import com.example.ticket.inventory.SeatMapSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatStreamServiceTest {
+
+    private static final long EVENT_ID = 10L;
+
+    @Mock SeatInventory seatInventory;
+    @Mock EventService eventService;
+
+    private SeatStreamService seatStreamService;
+
+    @BeforeEach
+    void setUp() {
+        seatStreamService = new SeatStreamService(
+                seatInventory,
+                eventService,
+                JsonMapper.builder().build(),
+                new SeatStreamProperties(1, 4, 1, Duration.ofMinutes(1), Duration.ofSeconds(20))
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatStreamService.destroy();
+    }
+
+    @Test
+    void subscribe_overMaxSubscribers_throwsBusy() {
+        when(seatInventory.snapshot(EVENT_ID)).thenReturn(new SeatMapSnapshot(EVENT_ID, 100L, List.of()));
+        seatStreamService.subscribe(EVENT_ID, null);
+
+        BusinessRuleViolationException ex = assertThrows(BusinessRuleViolationException.class,
+                () -> seatStreamService.subscribe(EVENT_ID, null));
+
+        assertEquals(ErrorCode.SEAT_STREAM_BUSY, ex.getErrorCode());
+        assertEquals(1, seatStreamService.subscriberCount());
+    }
+
+    @Test
+    void broadcast_readsDeltaOncePerEvent_fromLastBroadcastVersion() {
+        when(seatInventory.snapshot(EVENT_ID)).thenReturn(new SeatMapSnapshot(EVENT_ID, 100L, List.of()));
+        when(seatInventory.changesSince(EVENT_ID, 100L)).thenReturn(Optional.of(
+                new SeatMapDelta(EVENT_ID, 100L, 102L, List.of(new SeatChange(1L, SeatStatus.HELD)))));
+        when(seatInventory.changesSince(EVENT_ID, 102L)).thenReturn(Optional.of(
+                new SeatMapDelta(EVENT_ID, 102L, 102L, List.of())));
+        seatStreamService.subscribe(EVENT_ID, null);
+
+        seatStreamService.broadcast();
+        seatStreamService.broadcast();
+
+        verify(seatInventory).changesSince(EVENT_ID, 100L);
+        verify(seatInventory).changesSince(EVENT_ID, 102L);
+    }
+
+    @Test
+    void subscribe_withLastEventId_catchesUpFromThatVersion() {
+        when(seatInventory.snapshot(EVENT_ID)).thenReturn(new SeatMapSnapshot(EVENT_ID, 100L, List.of()));
+        when(seatInventory.changesSince(EVENT_ID, 90L)).thenReturn(Optional.of(
+                new SeatMapDelta(EVENT_ID, 90L, 100L, List.of(new SeatChange(1L, SeatStatus.SOLD)))));
+
+        seatStreamService.subscribe(EVENT_ID, 90L);
+
+        verify(eventService).validateExists(EVENT_ID);
+        verify(seatInventory).changesSince(EVENT_ID, 90L);
+    }
+}